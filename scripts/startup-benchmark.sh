@@ -0,0 +1,95 @@
+#!/usr/bin/env bash
+#
+# Compares the startup time and first-request latency of the termometer build variants.
+#
+#   jvm     the executable jar                           ./mvnw package
+#   cds     the extracted jar with an AppCDS archive     ./mvnw -Pcds package
+#           and the AOT-processed context
+#   native  the GraalVM native executable                ./mvnw -Pnative native:compile
+#
+# Every variant found under target/ is started RUNS times. For each run the script reports
+# the time from launch until the first successful response, then the latency of the first
+# request to each of the three controllers, checking the converted values.
+#
+# Usage: scripts/startup-benchmark.sh [variant...]     (default: every variant available)
+# Environment: RUNS (default 5), PORT (default 18080), JAVA (default $JAVA_HOME/bin/java)
+#
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+RUNS=${RUNS:-5}
+PORT=${PORT:-18080}
+JAVA=${JAVA:-${JAVA_HOME:+$JAVA_HOME/bin/}java}
+JAR=$(ls target/termometer-*.jar 2>/dev/null | grep -v original | head -n 1 || true)
+CDS_JAR=$(ls target/cds/termometer-*.jar 2>/dev/null | head -n 1 || true)
+BASE_URL="http://localhost:$PORT"
+
+# path|expected body: the first request of each run goes to the Celsius controller
+CHECKS=(
+  "/celsius-to/fahrenheit?degrees=100|212"
+  "/fahrenheit-to/celsius?degrees=212|100"
+  "/kelvin-to/celsius?degrees=0|-273.15"
+)
+
+command_for() {
+  case "$1" in
+    jvm)    [[ -n "$JAR" ]] && echo "$JAVA --add-modules jdk.incubator.vector -jar $JAR" ;;
+    cds)    [[ -n "$CDS_JAR" && -f target/cds/application.jsa ]] &&
+              echo "$JAVA --add-modules jdk.incubator.vector -XX:SharedArchiveFile=target/cds/application.jsa -Dspring.aot.enabled=true -jar $CDS_JAR" ;;
+    native) [[ -x target/termometer ]] && echo "target/termometer" ;;
+  esac
+}
+
+now_ms() {
+  echo $(( $(date +%s%N) / 1000000 ))
+}
+
+run_once() {
+  local variant=$1 command=$2 log pid start ready body latencies=()
+  log=$(mktemp)
+  start=$(now_ms)
+  $command --server.port="$PORT" >"$log" 2>&1 &
+  pid=$!
+
+  local first=${CHECKS[0]}
+  until body=$(curl -sf "$BASE_URL${first%%|*}" 2>/dev/null); do
+    if ! kill -0 "$pid" 2>/dev/null; then
+      echo "$variant: the application exited, see $log" >&2
+      return 1
+    fi
+    sleep 0.01
+  done
+  ready=$(( $(now_ms) - start ))
+  [[ "$body" == "${first##*|}" ]] || { echo "$variant: ${first%%|*} returned $body" >&2; kill "$pid"; return 1; }
+
+  for check in "${CHECKS[@]:1}"; do
+    local path=${check%%|*} expected=${check##*|} output
+    output=$(curl -sf -w '\n%{time_total}' "$BASE_URL$path")
+    body=${output%$'\n'*}
+    [[ "$body" == "$expected" ]] || { echo "$variant: $path returned $body" >&2; kill "$pid"; return 1; }
+    latencies+=("$(awk -v s="${output##*$'\n'}" 'BEGIN { printf "%.1f", s * 1000 }')")
+  done
+
+  local started
+  started=$(grep -o 'Started TermometerApplication in [0-9.]* seconds' "$log" | grep -o '[0-9.]*' || echo "?")
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+  rm -f "$log"
+  printf '%-8s %6d ms %10s s %10s ms %10s ms\n' "$variant" "$ready" "$started" "${latencies[0]}" "${latencies[1]}"
+}
+
+variants=("$@")
+[[ ${#variants[@]} -gt 0 ]] || variants=(jvm cds native)
+
+printf '%-8s %9s %12s %13s %13s\n' variant ready started fahrenheit-to kelvin-to
+for variant in "${variants[@]}"; do
+  command=$(command_for "$variant" || true)
+  if [[ -z "$command" ]]; then
+    echo "$variant: not built, skipping" >&2
+    continue
+  fi
+  for ((run = 1; run <= RUNS; run++)); do
+    run_once "$variant" "$command"
+  done
+done
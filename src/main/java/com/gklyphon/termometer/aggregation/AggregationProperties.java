@@ -0,0 +1,45 @@
+package com.gklyphon.termometer.aggregation;
+
+import com.gklyphon.termometer.model.TemperatureScale;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the per-sensor windowed statistics, bound from the
+ * {@code termometer.aggregation} properties.
+ *
+ * <p>Each sensor keeps {@code buckets} time buckets of {@code bucket} length, so the
+ * longest window that can be queried is {@code buckets * bucket}. Every bucket holds
+ * a histogram of {@code histogramBins} equal bins between {@code histogramMin} and
+ * {@code histogramMax}, which bounds the precision of percentiles to one bin width.
+ *
+ * @param scale         the scale readings are normalized to (default Celsius)
+ * @param bucket        the time covered by one bucket (default 10 seconds)
+ * @param buckets       the number of buckets kept per sensor (default 60)
+ * @param histogramMin  the lower bound of the histogram, in the normalized scale (default -50)
+ * @param histogramMax  the upper bound of the histogram, in the normalized scale (default 150)
+ * @param histogramBins the number of histogram bins (default 100)
+ * @param stripes       the number of locks guarding the sensors (default 64)
+ * @param maxSensors    the number of sensors tracked at most (default 10000)
+ * @param maxClockSkew  how far ahead of the server clock a reading may be timestamped
+ *                      (default 10 seconds)
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+@ConfigurationProperties(prefix = "termometer.aggregation")
+public record AggregationProperties(
+        @DefaultValue("CELSIUS") TemperatureScale scale,
+        @DefaultValue("10s") Duration bucket,
+        @DefaultValue("60") int buckets,
+        @DefaultValue("-50") double histogramMin,
+        @DefaultValue("150") double histogramMax,
+        @DefaultValue("100") int histogramBins,
+        @DefaultValue("64") int stripes,
+        @DefaultValue("10000") int maxSensors,
+        @DefaultValue("10s") Duration maxClockSkew) {
+}
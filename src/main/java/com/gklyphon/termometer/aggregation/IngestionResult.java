@@ -0,0 +1,15 @@
+package com.gklyphon.termometer.aggregation;
+
+/**
+ * Outcome of an ingestion request.
+ *
+ * @param accepted the readings added to the statistics
+ * @param late     the readings dropped because their bucket had already been reused
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+public record IngestionResult(long accepted, long late) {
+}
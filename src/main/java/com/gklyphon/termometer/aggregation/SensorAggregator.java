@@ -0,0 +1,301 @@
+package com.gklyphon.termometer.aggregation;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gklyphon.termometer.model.TemperatureScale;
+import com.gklyphon.termometer.service.ScaleConversion;
+import com.gklyphon.termometer.service.TemperatureConversionEngine;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Service that keeps rolling statistics of the readings of each sensor.
+ *
+ * <p>Readings are normalized to the configured scale with the primitive form of the
+ * conversion engine and added to the current bucket of their sensor in a
+ * {@link SensorWindow}, which updates the count, sum, minimum, maximum and histogram of
+ * the bucket in place. Sensors are spread over a fixed number of lock stripes, so
+ * readings of different sensors are mostly recorded in parallel while the few words of
+ * one bucket are updated under a lock. A window query merges the buckets it covers
+ * instead of rescanning readings, so its cost depends on the number of buckets and
+ * histogram bins only.
+ *
+ * <p>Readings timestamped more than {@code termometer.aggregation.max-clock-skew} ahead of
+ * the server clock are rejected: their bucket would take over a slot of the ring and make
+ * every later reading mapped to that slot look late.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+@Service
+public class SensorAggregator {
+
+    private final JsonFactory jsonFactory;
+    private final TemperatureConversionEngine engine;
+    private final TemperatureScale scale;
+    private final long bucketMillis;
+    private final int slots;
+    private final double histogramMin;
+    private final double binWidth;
+    private final int bins;
+    private final int maxSensors;
+    private final long maxClockSkewMillis;
+    private final ReentrantLock[] stripes;
+    private final Map<String, SensorWindow> windows = new ConcurrentHashMap<>();
+    private final AtomicInteger sensors = new AtomicInteger();
+
+    public SensorAggregator(AggregationProperties properties, TemperatureConversionEngine engine,
+                            ObjectMapper objectMapper) {
+        if (properties.bucket().toMillis() <= 0 || properties.buckets() <= 0) {
+            throw new IllegalArgumentException("termometer.aggregation.bucket and buckets must be positive");
+        }
+        if (properties.histogramBins() <= 0 || properties.histogramMax() <= properties.histogramMin()) {
+            throw new IllegalArgumentException(
+                    "termometer.aggregation.histogram-max must exceed histogram-min with at least one bin");
+        }
+        this.jsonFactory = objectMapper.getFactory();
+        this.engine = engine;
+        this.scale = properties.scale();
+        this.bucketMillis = properties.bucket().toMillis();
+        this.slots = properties.buckets();
+        this.histogramMin = properties.histogramMin();
+        this.bins = properties.histogramBins();
+        this.binWidth = (properties.histogramMax() - properties.histogramMin()) / bins;
+        this.maxSensors = properties.maxSensors();
+        this.maxClockSkewMillis = properties.maxClockSkew().toMillis();
+        this.stripes = new ReentrantLock[Integer.highestOneBit(Math.max(1, properties.stripes() - 1)) << 1];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Records a reading.
+     *
+     * @param sensor    the sensor that took the reading
+     * @param source    the scale of the reading
+     * @param degrees   the reading
+     * @param timestamp when the reading was taken
+     * @return false if the reading is older than the buckets kept for the sensor and was dropped
+     * @throws ResponseStatusException with status 400 if the reading is not finite or is
+     *                                 timestamped too far in the future, or 503 if the sensor is new and the sensor limit is reached
+     */
+    public boolean record(String sensor, TemperatureScale source, double degrees, Instant timestamp) {
+        return record(sensor, engine.conversion(source, scale), degrees, timestamp.toEpochMilli());
+    }
+
+    /**
+     * Records readings sent as newline-delimited JSON objects such as
+     * {@code {"sensor":"boiler-1","scale":"FAHRENHEIT","degrees":180.5,"timestamp":1760700000000}}.
+     * The timestamp, in epoch milliseconds, is optional and defaults to the time of arrival.
+     * Readings are recorded as they are parsed, so the ones before a malformed line are kept.
+     *
+     * @param input the request body
+     * @return the number of readings accepted and dropped as late
+     * @throws IOException if the body cannot be read
+     */
+    public IngestionResult ingest(InputStream input) throws IOException {
+        long accepted = 0;
+        long late = 0;
+        try (JsonParser parser = jsonFactory.createParser(input)) {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                if (token != JsonToken.START_OBJECT) {
+                    throw badRequest("Expected a reading object but found " + token);
+                }
+                String sensor = null;
+                TemperatureScale source = null;
+                double degrees = Double.NaN;
+                long timestamp = System.currentTimeMillis();
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.currentName();
+                    JsonToken value = parser.nextToken();
+                    switch (field) {
+                        case "sensor" -> sensor = text(parser, value, field);
+                        case "scale" -> source = parseScale(text(parser, value, field));
+                        case "degrees" -> degrees = numeric(parser, value, field).getDoubleValue();
+                        case "timestamp" -> timestamp = numeric(parser, value, field).getLongValue();
+                        default -> parser.skipChildren();
+                    }
+                }
+                if (sensor == null || source == null || !Double.isFinite(degrees)) {
+                    throw badRequest("Every reading needs a sensor, a scale and finite degrees");
+                }
+                if (record(sensor, engine.conversion(source, scale), degrees, timestamp)) {
+                    accepted++;
+                } else {
+                    late++;
+                }
+            }
+        }
+        return new IngestionResult(accepted, late);
+    }
+
+    /**
+     * Computes the statistics of the window of the given length ending at {@code now}.
+     * The window covers whole buckets, the last one being the bucket of {@code now}.
+     *
+     * @param sensor the sensor
+     * @param length the length of the window, a multiple of the bucket length
+     * @param now    the current time
+     * @return the statistics of the window
+     * @throws ResponseStatusException with status 400 if the length is not supported, or
+     *                                 404 if the sensor has no readings
+     */
+    public WindowStatistics sliding(String sensor, Duration length, Instant now) {
+        int span = bucketsIn(length, 1);
+        long last = Math.floorDiv(now.toEpochMilli(), bucketMillis);
+        return statistics(sensor, window(sensor), last - span + 1, last);
+    }
+
+    /**
+     * Computes the statistics of the last completed tumbling windows, which are aligned to
+     * multiples of their length since the epoch.
+     *
+     * @param sensor the sensor
+     * @param length the length of each window, a multiple of the bucket length
+     * @param count  the number of windows, the most recent last
+     * @param now    the current time
+     * @return the statistics of each window
+     * @throws ResponseStatusException with status 400 if the windows are not supported, or
+     *                                 404 if the sensor has no readings
+     */
+    public List<WindowStatistics> tumbling(String sensor, Duration length, int count, Instant now) {
+        if (count <= 0) {
+            throw badRequest("The number of windows must be positive");
+        }
+        int span = bucketsIn(length, count);
+        SensorWindow window = window(sensor);
+        long end = Math.floorDiv(Math.floorDiv(now.toEpochMilli(), bucketMillis), span) * span;
+        List<WindowStatistics> statistics = new ArrayList<>(count);
+        for (long first = end - (long) count * span; first < end; first += span) {
+            statistics.add(statistics(sensor, window, first, first + span - 1));
+        }
+        return statistics;
+    }
+
+    /**
+     * @return the number of sensors with statistics
+     */
+    public int getSensorCount() {
+        return sensors.get();
+    }
+
+    private boolean record(String sensor, ScaleConversion conversion, double degrees, long timestamp) {
+        double value = conversion.apply(degrees);
+        if (!Double.isFinite(value)) {
+            throw badRequest("Reading of " + sensor + " is not a finite temperature in " + scale);
+        }
+        int bin = (int) Math.clamp(Math.floor((value - histogramMin) / binWidth), 0, bins - 1);
+        if (timestamp - System.currentTimeMillis() > maxClockSkewMillis) {
+            throw badRequest("Reading of " + sensor + " is timestamped " + Instant.ofEpochMilli(timestamp)
+                    + ", more than " + Duration.ofMillis(maxClockSkewMillis) + " ahead of the server clock");
+        }
+        long bucket = Math.floorDiv(timestamp, bucketMillis);
+        ReentrantLock lock = stripe(sensor);
+        lock.lock();
+        try {
+            SensorWindow window = windows.get(sensor);
+            if (window == null) {
+                if (sensors.incrementAndGet() > maxSensors) {
+                    sensors.decrementAndGet();
+                    throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                            "Limit of " + maxSensors + " sensors reached");
+                }
+                window = new SensorWindow(slots, bins);
+                windows.put(sensor, window);
+            }
+            return window.add(bucket, value, bin);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private WindowStatistics statistics(String sensor, SensorWindow window, long first, long last) {
+        SensorWindow.Accumulator accumulator = new SensorWindow.Accumulator(histogramMin, binWidth, bins);
+        ReentrantLock lock = stripe(sensor);
+        lock.lock();
+        try {
+            window.accumulate(first, last, accumulator);
+        } finally {
+            lock.unlock();
+        }
+        Instant start = Instant.ofEpochMilli(first * bucketMillis);
+        Instant end = Instant.ofEpochMilli((last + 1) * bucketMillis);
+        if (accumulator.count() == 0) {
+            return new WindowStatistics(sensor, scale, start, end, 0, null, null, null, null, null, null);
+        }
+        return new WindowStatistics(sensor, scale, start, end, accumulator.count(),
+                accumulator.min(), accumulator.max(), accumulator.mean(),
+                accumulator.percentile(0.5), accumulator.percentile(0.9), accumulator.percentile(0.99));
+    }
+
+    private SensorWindow window(String sensor) {
+        SensorWindow window = windows.get(sensor);
+        if (window == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "No readings for sensor " + sensor);
+        }
+        return window;
+    }
+
+    /* Number of buckets in a window, checking that count windows fit in the kept buckets */
+    private int bucketsIn(Duration length, int count) {
+        long millis = length.toMillis();
+        if (millis <= 0 || millis % bucketMillis != 0) {
+            throw badRequest("The window must be a positive multiple of " + Duration.ofMillis(bucketMillis));
+        }
+        long span = millis / bucketMillis;
+        if (span * count > slots) {
+            throw badRequest("Only the last " + Duration.ofMillis(bucketMillis * slots) + " are kept");
+        }
+        return (int) span;
+    }
+
+    private ReentrantLock stripe(String sensor) {
+        int hash = sensor.hashCode();
+        return stripes[(hash ^ hash >>> 16) & (stripes.length - 1)];
+    }
+
+    private static TemperatureScale parseScale(String name) {
+        try {
+            return TemperatureScale.of(name);
+        } catch (IllegalArgumentException e) {
+            throw badRequest("Unknown temperature scale " + name);
+        }
+    }
+
+    private static String text(JsonParser parser, JsonToken token, String field) throws IOException {
+        if (token != JsonToken.VALUE_STRING) {
+            throw badRequest("Expected a string for " + field + " but found " + token);
+        }
+        return parser.getText();
+    }
+
+    private static JsonParser numeric(JsonParser parser, JsonToken token, String field) {
+        if (token == null || !token.isNumeric()) {
+            throw badRequest("Expected a number for " + field + " but found " + token);
+        }
+        return parser;
+    }
+
+    private static ResponseStatusException badRequest(String reason) {
+        return new ResponseStatusException(HttpStatus.BAD_REQUEST, reason);
+    }
+
+}
@@ -0,0 +1,153 @@
+package com.gklyphon.termometer.aggregation;
+
+import java.util.Arrays;
+
+/**
+ * Ring of time buckets holding the running aggregates of one sensor in primitive arrays.
+ *
+ * <p>A bucket is identified by its index since the epoch ({@code millis / bucketMillis})
+ * and stored in slot {@code index % slots}. Adding a reading to a slot that holds an
+ * older bucket resets it, so the memory of a sensor is fixed and old buckets expire
+ * without a sweep. Readings for a bucket older than the one in their slot are late and
+ * dropped.
+ *
+ * <p>Instances are not thread safe; {@link SensorAggregator} guards each one with the
+ * lock of its stripe.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+final class SensorWindow {
+
+    private final int slots;
+    private final int bins;
+    private final long[] buckets;
+    private final long[] counts;
+    private final double[] sums;
+    private final double[] mins;
+    private final double[] maxs;
+    /* slots * bins counters, the histogram of slot s starting at s * bins */
+    private final int[] histograms;
+
+    SensorWindow(int slots, int bins) {
+        this.slots = slots;
+        this.bins = bins;
+        this.buckets = new long[slots];
+        this.counts = new long[slots];
+        this.sums = new double[slots];
+        this.mins = new double[slots];
+        this.maxs = new double[slots];
+        this.histograms = new int[slots * bins];
+        Arrays.fill(buckets, Long.MIN_VALUE);
+    }
+
+    /**
+     * Adds a reading to a bucket.
+     *
+     * @param bucket the index of the bucket the reading belongs to
+     * @param value  the normalized reading
+     * @param bin    the histogram bin of the reading
+     * @return false if the reading is late and was dropped
+     */
+    boolean add(long bucket, double value, int bin) {
+        int slot = (int) Math.floorMod(bucket, (long) slots);
+        if (buckets[slot] != bucket) {
+            if (buckets[slot] > bucket) {
+                return false;
+            }
+            buckets[slot] = bucket;
+            counts[slot] = 0;
+            sums[slot] = 0;
+            mins[slot] = Double.POSITIVE_INFINITY;
+            maxs[slot] = Double.NEGATIVE_INFINITY;
+            Arrays.fill(histograms, slot * bins, (slot + 1) * bins, 0);
+        }
+        counts[slot]++;
+        sums[slot] += value;
+        mins[slot] = Math.min(mins[slot], value);
+        maxs[slot] = Math.max(maxs[slot], value);
+        histograms[slot * bins + bin]++;
+        return true;
+    }
+
+    /**
+     * Merges the buckets of a range into an accumulator.
+     *
+     * @param first       the index of the first bucket, inclusive
+     * @param last        the index of the last bucket, inclusive, less than {@code slots}
+     *                    buckets after the first
+     * @param accumulator the accumulator to merge into
+     */
+    void accumulate(long first, long last, Accumulator accumulator) {
+        for (long bucket = first; bucket <= last; bucket++) {
+            int slot = (int) Math.floorMod(bucket, (long) slots);
+            if (buckets[slot] == bucket) {
+                accumulator.count += counts[slot];
+                accumulator.sum += sums[slot];
+                accumulator.min = Math.min(accumulator.min, mins[slot]);
+                accumulator.max = Math.max(accumulator.max, maxs[slot]);
+                for (int i = 0, offset = slot * bins; i < bins; i++) {
+                    accumulator.histogram[i] += histograms[offset + i];
+                }
+            }
+        }
+    }
+
+    /**
+     * Aggregates of a window, merged from its buckets.
+     */
+    static final class Accumulator {
+
+        private final double low;
+        private final double binWidth;
+        private final long[] histogram;
+        private long count;
+        private double sum;
+        private double min = Double.POSITIVE_INFINITY;
+        private double max = Double.NEGATIVE_INFINITY;
+
+        Accumulator(double low, double binWidth, int bins) {
+            this.low = low;
+            this.binWidth = binWidth;
+            this.histogram = new long[bins];
+        }
+
+        long count() {
+            return count;
+        }
+
+        double min() {
+            return min;
+        }
+
+        double max() {
+            return max;
+        }
+
+        double mean() {
+            return sum / count;
+        }
+
+        /*
+         * Interpolates linearly inside the bin holding the requested rank. Readings outside
+         * the histogram are counted in its first and last bins, so the estimate is clamped to
+         * the exact minimum and maximum.
+         */
+        double percentile(double quantile) {
+            double rank = quantile * count;
+            long seen = 0;
+            for (int i = 0; i < histogram.length; i++) {
+                long inBin = histogram[i];
+                if (inBin > 0 && seen + inBin >= rank) {
+                    double estimate = low + (i + (rank - seen) / inBin) * binWidth;
+                    return Math.clamp(estimate, min, max);
+                }
+                seen += inBin;
+            }
+            return max;
+        }
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.gklyphon.termometer.aggregation;
+
+import com.gklyphon.termometer.model.TemperatureScale;
+
+import java.time.Instant;
+
+/**
+ * Statistics of the readings of one sensor over a time window, in the normalized scale.
+ *
+ * <p>Percentiles are interpolated from the bucket histograms and are accurate to one
+ * histogram bin; the other values are exact. All values except {@code count} are
+ * {@code null} when the window holds no readings.
+ *
+ * @param sensor the sensor the readings belong to
+ * @param scale  the scale of the values
+ * @param start  the start of the window, inclusive
+ * @param end    the end of the window, exclusive
+ * @param count  the number of readings
+ * @param min    the lowest reading
+ * @param max    the highest reading
+ * @param mean   the mean of the readings
+ * @param p50    the median
+ * @param p90    the 90th percentile
+ * @param p99    the 99th percentile
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+public record WindowStatistics(
+        String sensor,
+        TemperatureScale scale,
+        Instant start,
+        Instant end,
+        long count,
+        Double min,
+        Double max,
+        Double mean,
+        Double p50,
+        Double p90,
+        Double p99) {
+}
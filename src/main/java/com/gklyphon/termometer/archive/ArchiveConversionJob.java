@@ -0,0 +1,279 @@
+package com.gklyphon.termometer.archive;
+
+import com.gklyphon.termometer.codec.ColumnarFormat;
+import com.gklyphon.termometer.model.TemperatureScale;
+import com.gklyphon.termometer.service.ArrayConversionKernel;
+import com.gklyphon.termometer.service.LookupTableConverter;
+import com.gklyphon.termometer.service.ScaleConversion;
+import com.gklyphon.termometer.service.TemperatureConversionEngine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.BitSet;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Offline job that converts an archive of readings stored in the {@link ColumnarFormat}.
+ *
+ * <p>The input is split into chunks of {@code termometer.archive.chunk-size} readings.
+ * Each chunk is memory-mapped from the input, converted on one of the worker threads and
+ * written to the matching region of the output, which is also memory-mapped and forced
+ * to disk before the chunk counts as done. Float64 readings go through the
+ * {@link ArrayConversionKernel} and int32 readings through the lookup tables, exactly as
+ * in the batch endpoints.
+ *
+ * <p>After each chunk the number of leading chunks already converted is stored in a
+ * checkpoint file. A run that finds a checkpoint for the same input, scales and output,
+ * with the output still in place, resumes after those chunks; the checkpoint is deleted
+ * once the whole archive has been converted.
+ *
+ * <p>The job runs with the {@code archive} profile, which also starts the application
+ * without a web server.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+@Component
+@Profile("archive")
+public class ArchiveConversionJob implements CommandLineRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(ArchiveConversionJob.class);
+
+    private final Path input;
+    private final Path output;
+    private final Path checkpointFile;
+    private final ScaleConversion conversion;
+    private final int chunkSize;
+    private final int parallelism;
+    private final Duration progressInterval;
+    private final ArrayConversionKernel kernel;
+    private final LookupTableConverter lookupTableConverter;
+
+    public ArchiveConversionJob(ArchiveProperties properties, TemperatureConversionEngine engine,
+                                ArrayConversionKernel kernel, LookupTableConverter lookupTableConverter) {
+        this.input = required(properties.input(), "input");
+        this.output = required(properties.output(), "output");
+        this.checkpointFile = properties.checkpoint() != null
+                ? properties.checkpoint()
+                : output.resolveSibling(output.getFileName() + ".checkpoint");
+        this.conversion = engine.conversion(required(properties.source(), "source"),
+                required(properties.target(), "target"));
+        if (properties.chunkSize() <= 0
+                || (long) properties.chunkSize() * Double.BYTES > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                    "termometer.archive.chunk-size must be between 1 and " + Integer.MAX_VALUE / Double.BYTES);
+        }
+        this.chunkSize = properties.chunkSize();
+        this.parallelism = properties.parallelism() > 0
+                ? properties.parallelism()
+                : Runtime.getRuntime().availableProcessors();
+        this.progressInterval = properties.progressInterval();
+        this.kernel = kernel;
+        this.lookupTableConverter = lookupTableConverter;
+    }
+
+    @Override
+    public void run(String... args) throws Exception {
+        convert();
+    }
+
+    /**
+     * Converts the archive, resuming from the checkpoint when one matches this run.
+     *
+     * @return the number of readings converted by this run
+     * @throws IOException          if the input is not a complete columnar file, or a file
+     *                              cannot be read or written
+     * @throws InterruptedException if the job is interrupted while waiting for a chunk
+     */
+    public long convert() throws IOException, InterruptedException {
+        try (FileChannel in = FileChannel.open(input, READ);
+             FileChannel out = FileChannel.open(output, READ, WRITE, CREATE)) {
+            ColumnarFormat.Header header = ColumnarFormat.readHeader(in);
+            int valueSize = header.type().size();
+            long size = ColumnarFormat.HEADER_SIZE + header.count() * valueSize;
+            if (in.size() < size) {
+                throw new EOFException("Archive " + input + " holds " + in.size() + " bytes but its header declares "
+                        + size);
+            }
+            boolean scaled = header.type() == ColumnarFormat.ValueType.INT32;
+            ColumnarFormat.Header outHeader = scaled
+                    ? new ColumnarFormat.Header(header.type(), lookupTableConverter.getOutputResolution(), header.count())
+                    : header;
+            long chunks = Math.ceilDiv(header.count(), chunkSize);
+
+            Checkpoint start = Checkpoint.start(input, output, conversion.getSource(), conversion.getTarget(),
+                    chunkSize);
+            Checkpoint checkpoint = Checkpoint.read(checkpointFile)
+                    .filter(start::isResumableFrom)
+                    .filter(previous -> previous.completedChunks() <= chunks)
+                    .orElse(start);
+            if (checkpoint.completedChunks() > 0 && out.size() != size) {
+                log.warn("Ignoring checkpoint {}: the output {} does not match it", checkpointFile, output);
+                checkpoint = start;
+            }
+            if (checkpoint.completedChunks() == 0) {
+                prepareOutput(out, outHeader, size);
+            } else {
+                log.info("Resuming {} after {} of {} chunks", input, checkpoint.completedChunks(), chunks);
+            }
+
+            long firstChunk = checkpoint.completedChunks();
+            long total = header.count() - Math.min(header.count(), firstChunk * chunkSize);
+            log.info("Converting {} {} readings from {} to {} with {} threads",
+                    total, header.type(), conversion.getSource(), conversion.getTarget(), parallelism);
+
+            long startTime = System.nanoTime();
+            ThreadLocal<double[]> buffers = ThreadLocal.withInitial(() -> new double[chunkSize]);
+            ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+            try {
+                CompletionService<Long> completion = new ExecutorCompletionService<>(executor);
+                for (long chunk = firstChunk; chunk < chunks; chunk++) {
+                    long index = chunk;
+                    completion.submit(() -> {
+                        convertChunk(in, out, header, index, buffers);
+                        return index;
+                    });
+                }
+
+                BitSet done = new BitSet();
+                long completed = firstChunk;
+                long converted = 0;
+                long nextReport = startTime + progressInterval.toNanos();
+                for (long pending = chunks - firstChunk; pending > 0; ) {
+                    Future<Long> result = completion.poll(
+                            Math.max(0, nextReport - System.nanoTime()), TimeUnit.NANOSECONDS);
+                    if (result != null) {
+                        long chunk = await(result);
+                        pending--;
+                        converted += chunkLength(header, chunk);
+                        done.set(Math.toIntExact(chunk - firstChunk));
+                        long advanced = completed;
+                        while (advanced < chunks && done.get(Math.toIntExact(advanced - firstChunk))) {
+                            advanced++;
+                        }
+                        if (advanced > completed) {
+                            completed = advanced;
+                            checkpoint = checkpoint.withCompletedChunks(completed);
+                            checkpoint.write(checkpointFile);
+                        }
+                    }
+                    if (System.nanoTime() >= nextReport) {
+                        reportProgress(converted, total, startTime);
+                        nextReport += progressInterval.toNanos();
+                    }
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+
+            Files.deleteIfExists(checkpointFile);
+            log.info("Converted {} readings into {} in {} ms", total, output,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+            return total;
+        }
+    }
+
+    private void convertChunk(FileChannel in, FileChannel out, ColumnarFormat.Header header, long chunk,
+                              ThreadLocal<double[]> buffers) throws IOException {
+        int length = chunkLength(header, chunk);
+        int valueSize = header.type().size();
+        long position = ColumnarFormat.HEADER_SIZE + chunk * chunkSize * valueSize;
+        MappedByteBuffer source = in.map(FileChannel.MapMode.READ_ONLY, position, (long) length * valueSize);
+        MappedByteBuffer target = out.map(FileChannel.MapMode.READ_WRITE, position, (long) length * valueSize);
+        source.order(ByteOrder.LITTLE_ENDIAN);
+        target.order(ByteOrder.LITTLE_ENDIAN);
+        if (header.type() == ColumnarFormat.ValueType.INT32) {
+            convertScaled(source.asIntBuffer(), target.asIntBuffer(), length, header.scale());
+        } else {
+            double[] values = buffers.get();
+            source.asDoubleBuffer().get(values, 0, length);
+            kernel.apply(conversion, values, 0, length);
+            target.asDoubleBuffer().put(values, 0, length);
+        }
+        target.force();
+    }
+
+    private void convertScaled(IntBuffer readings, IntBuffer results, int length, int resolution) {
+        TemperatureScale source = conversion.getSource();
+        TemperatureScale target = conversion.getTarget();
+        for (int i = 0; i < length; i++) {
+            long converted = lookupTableConverter.convertScaled(source, target, readings.get(i), resolution);
+            results.put(i, Math.toIntExact(converted));
+        }
+    }
+
+    private int chunkLength(ColumnarFormat.Header header, long chunk) {
+        return (int) Math.min(chunkSize, header.count() - chunk * chunkSize);
+    }
+
+    /* Sizes the output for the whole archive and writes its header */
+    private static void prepareOutput(FileChannel out, ColumnarFormat.Header header, long size) throws IOException {
+        out.truncate(size);
+        if (out.size() < size) {
+            out.write(ByteBuffer.allocate(1), size - 1);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(ColumnarFormat.HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        ColumnarFormat.writeHeader(header, buffer);
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            out.write(buffer, buffer.position());
+        }
+        out.force(false);
+    }
+
+    private void reportProgress(long converted, long total, long startTime) {
+        double seconds = (System.nanoTime() - startTime) / 1e9;
+        double rate = converted / seconds;
+        log.info("Converted {} of {} readings ({}%), {} readings/s, about {} s left",
+                converted, total, total == 0 ? 100 : converted * 100 / total, Math.round(rate),
+                rate == 0 ? "?" : Math.round((total - converted) / rate));
+    }
+
+    private static long await(Future<Long> result) throws IOException, InterruptedException {
+        try {
+            return result.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException io) {
+                throw io;
+            }
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    private static <T> T required(T value, String property) {
+        if (value == null) {
+            throw new IllegalArgumentException("termometer.archive." + property + " must be set");
+        }
+        return value;
+    }
+
+}
@@ -0,0 +1,39 @@
+package com.gklyphon.termometer.archive;
+
+import com.gklyphon.termometer.model.TemperatureScale;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuration of the archive conversion job, bound from the {@code termometer.archive}
+ * properties.
+ *
+ * @param input            the columnar file holding the readings to convert
+ * @param output           the columnar file the converted readings are written to
+ * @param source           the scale of the readings in the input
+ * @param target           the scale to convert the readings to
+ * @param checkpoint       the file recording the progress of the job, by default the
+ *                         output path followed by {@code .checkpoint}
+ * @param chunkSize        readings mapped and converted per task (default 1048576)
+ * @param parallelism      tasks converted at the same time, 0 for one per core (default)
+ * @param progressInterval time between progress reports (default 10 seconds)
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+@ConfigurationProperties(prefix = "termometer.archive")
+public record ArchiveProperties(
+        Path input,
+        Path output,
+        TemperatureScale source,
+        TemperatureScale target,
+        Path checkpoint,
+        @DefaultValue("1048576") int chunkSize,
+        @DefaultValue("0") int parallelism,
+        @DefaultValue("10s") Duration progressInterval) {
+}
@@ -0,0 +1,130 @@
+package com.gklyphon.termometer.archive;
+
+import com.gklyphon.termometer.model.TemperatureScale;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import java.util.Properties;
+
+/**
+ * Progress of an archive conversion: every chunk below {@code completedChunks} has been
+ * converted and flushed to the output.
+ *
+ * <p>The checkpoint also records the run it belongs to, so a checkpoint left by a run
+ * over another file, over the same file after it changed, towards another scale or into
+ * another output, is ignored.
+ *
+ * @param input           the absolute path of the input
+ * @param inputSize       the size of the input in bytes
+ * @param inputModified   the last modification time of the input, in milliseconds
+ * @param output          the absolute path of the output
+ * @param source          the scale of the input readings
+ * @param target          the scale of the output readings
+ * @param chunkSize       the readings per chunk
+ * @param completedChunks the number of leading chunks already converted
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+record Checkpoint(String input, long inputSize, long inputModified, String output, TemperatureScale source,
+                  TemperatureScale target, int chunkSize, long completedChunks) {
+
+    /**
+     * Describes a run over an input that has not converted any chunk yet.
+     *
+     * @param input     the input file
+     * @param output    the output file
+     * @param source    the scale of the input readings
+     * @param target    the scale of the output readings
+     * @param chunkSize the readings per chunk
+     * @return an empty checkpoint
+     * @throws IOException if the attributes of the input cannot be read
+     */
+    static Checkpoint start(Path input, Path output, TemperatureScale source, TemperatureScale target,
+                            int chunkSize) throws IOException {
+        return new Checkpoint(input.toAbsolutePath().toString(), Files.size(input),
+                Files.getLastModifiedTime(input).toMillis(), output.toAbsolutePath().toString(), source, target,
+                chunkSize, 0);
+    }
+
+    /**
+     * Reads the checkpoint stored in a file.
+     *
+     * @param file the checkpoint file
+     * @return the checkpoint, or empty if the file does not exist
+     * @throws IOException if the file cannot be read
+     */
+    static Optional<Checkpoint> read(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file)) {
+            properties.load(reader);
+        }
+        try {
+            return Optional.of(new Checkpoint(
+                    properties.getProperty("input"),
+                    Long.parseLong(properties.getProperty("inputSize")),
+                    Long.parseLong(properties.getProperty("inputModified")),
+                    properties.getProperty("output"),
+                    TemperatureScale.valueOf(properties.getProperty("source")),
+                    TemperatureScale.valueOf(properties.getProperty("target")),
+                    Integer.parseInt(properties.getProperty("chunkSize")),
+                    Long.parseLong(properties.getProperty("completedChunks"))));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Stores the checkpoint, replacing the file atomically so an interrupted write never
+     * leaves a truncated checkpoint behind.
+     *
+     * @param file the checkpoint file
+     * @throws IOException if the file cannot be written
+     */
+    void write(Path file) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty("input", input);
+        properties.setProperty("inputSize", Long.toString(inputSize));
+        properties.setProperty("inputModified", Long.toString(inputModified));
+        properties.setProperty("output", output);
+        properties.setProperty("source", source.name());
+        properties.setProperty("target", target.name());
+        properties.setProperty("chunkSize", Integer.toString(chunkSize));
+        properties.setProperty("completedChunks", Long.toString(completedChunks));
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (Writer writer = Files.newBufferedWriter(temporary)) {
+            properties.store(writer, "termometer archive conversion");
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * @param other a checkpoint read from disk
+     * @return whether the other checkpoint describes a run over the same input and chunks,
+     *         between the same scales and into the same output
+     */
+    boolean isResumableFrom(Checkpoint other) {
+        return input.equals(other.input) && inputSize == other.inputSize
+                && inputModified == other.inputModified && output.equals(other.output)
+                && source == other.source && target == other.target && chunkSize == other.chunkSize;
+    }
+
+    /**
+     * @param completedChunks the number of leading chunks now converted
+     * @return a copy of this checkpoint with the new progress
+     */
+    Checkpoint withCompletedChunks(long completedChunks) {
+        return new Checkpoint(input, inputSize, inputModified, output, source, target, chunkSize, completedChunks);
+    }
+
+}
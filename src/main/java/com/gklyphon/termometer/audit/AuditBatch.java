@@ -0,0 +1,109 @@
+package com.gklyphon.termometer.audit;
+
+import com.gklyphon.termometer.model.TemperatureScale;
+
+import java.math.BigDecimal;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+
+/**
+ * Records the readings of one batch conversion in the {@link AuditJournal}, created with
+ * {@link AuditJournal#batch}.
+ *
+ * <p>Each reading is recorded as its own conversion when it is converted, unless the
+ * {@link AuditBatchCoverage} is {@code SUMMARY}, in which case only their number is
+ * recorded when the batch is closed. With {@code SYNC} durability the batch does not wait
+ * for every record: {@link #commit()} waits once for all the readings recorded so far, and
+ * is called before each part of the response is sent.
+ *
+ * <p>A batch is used by one thread at a time.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+public final class AuditBatch implements AutoCloseable {
+
+    private final AuditJournal journal;
+    private final TemperatureScale source;
+    private final TemperatureScale target;
+    private final boolean readings;
+    private long count;
+    private long last;
+
+    AuditBatch(AuditJournal journal, TemperatureScale source, TemperatureScale target, boolean readings) {
+        this.journal = journal;
+        this.source = source;
+        this.target = target;
+        this.readings = readings;
+    }
+
+    /**
+     * Records a reading converted exactly with {@code BigDecimal} arithmetic.
+     *
+     * @param input  the reading
+     * @param result the converted reading
+     */
+    public void record(BigDecimal input, BigDecimal result) {
+        count++;
+        if (readings) {
+            last = journal.publish(AuditRecord.Kind.DECIMAL, source, target, input, result);
+        }
+    }
+
+    /**
+     * Records a block of {@code double} readings.
+     *
+     * @param inputs  the readings, from index 0
+     * @param results the converted readings, from index 0
+     * @param length  the number of readings
+     */
+    public void record(DoubleBuffer inputs, double[] results, int length) {
+        count += length;
+        if (readings) {
+            for (int i = 0; i < length; i++) {
+                last = journal.publish(source, target, inputs.get(i), results[i]);
+            }
+        }
+    }
+
+    /**
+     * Records a block of scaled integer readings converted through the lookup tables.
+     *
+     * @param inputs      the readings, from index 0
+     * @param inputScale  the decimal places of the readings
+     * @param results     the converted readings, from index 0
+     * @param resultScale the decimal places of the converted readings
+     * @param length      the number of readings
+     */
+    public void recordScaled(IntBuffer inputs, int inputScale, IntBuffer results, int resultScale, int length) {
+        count += length;
+        if (readings) {
+            for (int i = 0; i < length; i++) {
+                last = journal.publish(AuditRecord.Kind.SCALED, source, target,
+                        inputs.get(i), inputScale, results.get(i), resultScale);
+            }
+        }
+    }
+
+    /**
+     * Waits, with {@code SYNC} durability, until the readings recorded so far are forced.
+     */
+    public void commit() {
+        journal.awaitRecorded(last);
+    }
+
+    /**
+     * Records the number of readings of the batch with {@code SUMMARY} coverage, and
+     * commits the batch.
+     */
+    @Override
+    public void close() {
+        if (!readings) {
+            last = journal.publishBatch(source, target, count);
+        }
+        commit();
+    }
+
+}
@@ -0,0 +1,27 @@
+package com.gklyphon.termometer.audit;
+
+/**
+ * How the readings of batch conversions are recorded, selected with
+ * {@code termometer.audit.batch-coverage}.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+public enum AuditBatchCoverage {
+
+    /**
+     * Every reading of a batch is recorded as its own conversion, with its input and
+     * result, so the journal covers every conversion and the replay checks each of them.
+     */
+    READINGS,
+
+    /**
+     * A batch is recorded as a single {@link AuditRecord.Kind#BATCH} record holding its
+     * number of readings. The journal then shows that a batch was converted but not what
+     * it held, in exchange for one record per batch instead of one per reading.
+     */
+    SUMMARY
+
+}
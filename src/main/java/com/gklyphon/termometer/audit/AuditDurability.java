@@ -0,0 +1,38 @@
+package com.gklyphon.termometer.audit;
+
+/**
+ * How soon audit records reach the disk, selected with {@code termometer.audit.durability}.
+ *
+ * <p>Records are always written into a memory-mapped segment by the journal writer, so
+ * every level survives a crash of the application itself; the levels differ in when the
+ * mapped pages are forced to the device, which decides what a crash of the machine loses.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+public enum AuditDurability {
+
+    /**
+     * Pages are left to the operating system, which writes them back on its own schedule;
+     * only full segments are forced. Conversions never wait for the journal.
+     */
+    NONE,
+
+    /**
+     * The writer forces new records at most once per {@code termometer.audit.flush-interval},
+     * so a crash of the machine loses at most that much. Conversions never wait for the
+     * journal.
+     */
+    PERIODIC,
+
+    /**
+     * Each conversion waits until its record has been forced. Records that arrive while
+     * the writer is forcing are forced together by the next call (group commit), so the
+     * cost of a force is shared by every concurrent conversion. A batch waits once for
+     * each block of readings it converts, before the block is sent.
+     */
+    SYNC
+
+}
@@ -0,0 +1,431 @@
+package com.gklyphon.termometer.audit;
+
+import com.gklyphon.termometer.model.FixedPointValue;
+import com.gklyphon.termometer.model.TemperatureScale;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32C;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Append-only journal of every conversion performed by the service, enabled with
+ * {@code termometer.audit.enabled}.
+ *
+ * <p>Conversions publish a fixed-size record into an {@link AuditRingBuffer} and return;
+ * a single writer thread drains the ring in sequence order and copies the records into
+ * the current memory-mapped segment, described by {@link AuditJournalFormat}. When a
+ * segment is full it is forced to disk and the next one is created. Between segment
+ * rolls, the {@link AuditDurability} decides when the written records are forced: never,
+ * at most every {@code termometer.audit.flush-interval}, or after every drain with the
+ * converting threads waiting for it, in which case one force commits every record
+ * published meanwhile. The readings of a batch are recorded through an {@link AuditBatch},
+ * which waits once for a whole block of readings.
+ *
+ * <p>On start the journal continues after the last valid record of the last segment, so
+ * a record torn by a crash is overwritten. The journal is started before the web server
+ * and stopped after it, once every published record has been written and forced.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+@Component
+public class AuditJournal implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditJournal.class);
+
+    /* Records copied into the segment between checks for a force */
+    private static final int DRAIN_LIMIT = 4096;
+
+    private final AuditProperties properties;
+    private final long recordsPerSegment;
+
+    private volatile AuditRingBuffer ring;
+    private volatile boolean running;
+    private volatile boolean failed;
+    private Thread writer;
+
+    /* Sequence of the last record forced to disk, and the condition SYNC producers wait on */
+    private final AtomicLong durable = new AtomicLong();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition forced = lock.newCondition();
+
+    /* State of the writer thread */
+    private final ByteBuffer scratch = ByteBuffer.allocate(AuditJournalFormat.RECORD_SIZE)
+            .order(ByteOrder.LITTLE_ENDIAN);
+    private final CRC32C checksum = new CRC32C();
+    private final AuditRingBuffer.Consumer appender = this::copy;
+    private FileChannel channel;
+    private MappedByteBuffer segment;
+    private long segmentIndex;
+    private long segmentRecords;
+    private long position;
+    private int forcedOffset;
+    private long written;
+    private long nextForce;
+
+    public AuditJournal(AuditProperties properties) {
+        if (properties.segmentSize().toBytes() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("termometer.audit.segment-size must not exceed 2GB");
+        }
+        this.properties = properties;
+        this.recordsPerSegment = AuditJournalFormat.recordsPerSegment(properties.segmentSize().toBytes());
+    }
+
+    /**
+     * @return whether conversions are recorded
+     */
+    public boolean isEnabled() {
+        return properties.enabled();
+    }
+
+    /**
+     * Records a conversion of a decimal reading, rounding the reading and result to 18
+     * significant digits when they have more.
+     *
+     * @param kind   how the reading was converted
+     * @param source the scale converted from
+     * @param target the scale converted to
+     * @param input  the reading
+     * @param result the converted reading
+     */
+    public void record(AuditRecord.Kind kind, TemperatureScale source, TemperatureScale target,
+                       BigDecimal input, BigDecimal result) {
+        awaitRecorded(publish(kind, source, target, input, result));
+    }
+
+    /**
+     * Records a conversion of a fixed-point or scaled reading.
+     *
+     * @param kind   how the reading was converted
+     * @param source the scale converted from
+     * @param target the scale converted to
+     * @param input  the reading
+     * @param result the converted reading
+     */
+    public void record(AuditRecord.Kind kind, TemperatureScale source, TemperatureScale target,
+                       FixedPointValue input, FixedPointValue result) {
+        awaitRecorded(publish(kind, source, target, input.unscaled(), input.scale(), result.unscaled(),
+                result.scale()));
+    }
+
+    /**
+     * Records a conversion of a scaled reading held as its unscaled value and scale, without
+     * building a {@link FixedPointValue} when the journal is disabled.
+     *
+     * @param kind        how the reading was converted
+     * @param source      the scale converted from
+     * @param target      the scale converted to
+     * @param input       the reading multiplied by 10<sup>inputScale</sup>
+     * @param inputScale  the decimal places of the reading
+     * @param result      the converted reading multiplied by 10<sup>resultScale</sup>
+     * @param resultScale the decimal places of the converted reading
+     */
+    public void record(AuditRecord.Kind kind, TemperatureScale source, TemperatureScale target,
+                       long input, int inputScale, long result, int resultScale) {
+        awaitRecorded(publish(kind, source, target, input, inputScale, result, resultScale));
+    }
+
+    /**
+     * Records a conversion of a {@code double} reading.
+     *
+     * @param source the scale converted from
+     * @param target the scale converted to
+     * @param input  the reading
+     * @param result the converted reading
+     */
+    public void record(TemperatureScale source, TemperatureScale target, double input, double result) {
+        awaitRecorded(publish(source, target, input, result));
+    }
+
+    /**
+     * Records a batch conversion as a single record, whatever the
+     * {@link AuditBatchCoverage}.
+     *
+     * @param source   the scale converted from
+     * @param target   the scale converted to
+     * @param readings the number of readings converted
+     */
+    public void recordBatch(TemperatureScale source, TemperatureScale target, long readings) {
+        awaitRecorded(publishBatch(source, target, readings));
+    }
+
+    /**
+     * Starts recording the readings of a batch conversion, as configured by
+     * {@code termometer.audit.batch-coverage}.
+     *
+     * @param source the scale converted from
+     * @param target the scale converted to
+     * @return the batch, to be closed once every reading has been converted
+     */
+    public AuditBatch batch(TemperatureScale source, TemperatureScale target) {
+        return new AuditBatch(this, source, target,
+                ring != null && properties.batchCoverage() == AuditBatchCoverage.READINGS);
+    }
+
+    /*
+     * The publish methods hand a record to the writer without waiting for it, and return its
+     * sequence, or 0 when the journal is not running
+     */
+    long publish(AuditRecord.Kind kind, TemperatureScale source, TemperatureScale target,
+                 BigDecimal input, BigDecimal result) {
+        if (ring == null) {
+            return 0;
+        }
+        BigDecimal fittedInput = AuditJournalFormat.fit(input);
+        BigDecimal fittedResult = AuditJournalFormat.fit(result);
+        int flags = fittedInput != input || fittedResult != result ? AuditJournalFormat.ROUNDED : 0;
+        return append(fittedInput.unscaledValue().longValue(), fittedResult.unscaledValue().longValue(),
+                AuditJournalFormat.pack(kind, source, target, flags, fittedInput.scale(), fittedResult.scale()));
+    }
+
+    long publish(AuditRecord.Kind kind, TemperatureScale source, TemperatureScale target,
+                 long input, int inputScale, long result, int resultScale) {
+        if (ring == null) {
+            return 0;
+        }
+        return append(input, result, AuditJournalFormat.pack(kind, source, target, 0, inputScale, resultScale));
+    }
+
+    long publish(TemperatureScale source, TemperatureScale target, double input, double result) {
+        if (ring == null) {
+            return 0;
+        }
+        return append(Double.doubleToRawLongBits(input), Double.doubleToRawLongBits(result),
+                AuditJournalFormat.pack(AuditRecord.Kind.BINARY, source, target, 0, 0, 0));
+    }
+
+    long publishBatch(TemperatureScale source, TemperatureScale target, long readings) {
+        if (ring == null) {
+            return 0;
+        }
+        return append(readings, 0, AuditJournalFormat.pack(AuditRecord.Kind.BATCH, source, target, 0, 0, 0));
+    }
+
+    /* Waits, with SYNC durability, until the record of the given sequence has been forced */
+    void awaitRecorded(long sequence) {
+        if (sequence == 0 || properties.durability() != AuditDurability.SYNC) {
+            return;
+        }
+        LockSupport.unpark(writer);
+        awaitDurable(sequence);
+    }
+
+    private long append(long input, long result, long packed) {
+        AuditRingBuffer buffer = ring;
+        if (buffer == null) {
+            return 0;
+        }
+        Instant now = Instant.now();
+        long sequence = buffer.publish(now.getEpochSecond() * 1_000_000_000L + now.getNano(), input, result, packed);
+        if (buffer.size() > properties.ringSize() / 2) {
+            LockSupport.unpark(writer);
+        }
+        return sequence;
+    }
+
+    private void awaitDurable(long sequence) {
+        if (durable.get() >= sequence) {
+            return;
+        }
+        lock.lock();
+        try {
+            while (durable.get() < sequence) {
+                if (failed) {
+                    throw new IllegalStateException("The audit journal cannot write conversions");
+                }
+                forced.await(properties.flushInterval().toNanos(), TimeUnit.NANOSECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void start() {
+        if (!properties.enabled()) {
+            return;
+        }
+        try {
+            long nextSequence = recover();
+            ring = new AuditRingBuffer(properties.ringSize(), nextSequence);
+            durable.set(nextSequence - 1);
+            written = nextSequence - 1;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open the audit journal in " + properties.directory(), e);
+        }
+        running = true;
+        writer = Thread.ofPlatform().name("audit-journal").daemon().start(this::write);
+        log.info("Audit journal writing to {} from sequence {} with {} durability",
+                properties.directory(), written + 1, properties.durability());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        LockSupport.unpark(writer);
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        ring = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /* Started before, and stopped after, the web server and the gRPC server */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    /* Opens the last segment after its last valid record and returns the next sequence */
+    private long recover() throws IOException {
+        Path directory = properties.directory();
+        Files.createDirectories(directory);
+        List<Path> segments = AuditJournalFormat.segments(directory);
+        if (segments.isEmpty()) {
+            open(0);
+            return 1;
+        }
+        long lastSequence = 0;
+        for (int i = segments.size() - 1; i >= 0 && lastSequence == 0; i--) {
+            lastSequence = AuditJournalReader.lastSequence(segments.get(i));
+        }
+        try (FileChannel last = FileChannel.open(segments.getLast(), READ)) {
+            ByteBuffer header = ByteBuffer.allocate(AuditJournalFormat.HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            last.read(header, 0);
+            open(AuditJournalFormat.readHeader(header));
+        }
+        position = AuditJournalReader.validRecords(segment, checksum);
+        return lastSequence + 1;
+    }
+
+    /* Maps a segment, creating it at its full size when it does not exist yet */
+    private void open(long index) throws IOException {
+        Path file = AuditJournalFormat.segment(properties.directory(), index);
+        boolean created = !Files.exists(file);
+        channel = FileChannel.open(file, CREATE, READ, WRITE);
+        long size = created
+                ? AuditJournalFormat.HEADER_SIZE + recordsPerSegment * AuditJournalFormat.RECORD_SIZE
+                : channel.size();
+        segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        segment.order(ByteOrder.LITTLE_ENDIAN);
+        if (created) {
+            AuditJournalFormat.writeHeader(index, segment);
+        }
+        segmentIndex = index;
+        segmentRecords = (size - AuditJournalFormat.HEADER_SIZE) / AuditJournalFormat.RECORD_SIZE;
+        position = 0;
+        forcedOffset = 0;
+    }
+
+    private void write() {
+        long interval = properties.flushInterval().toNanos();
+        nextForce = System.nanoTime() + interval;
+        while (true) {
+            boolean stopping = !running;
+            int drained = ring.drain(appender, DRAIN_LIMIT);
+            if (written > durable.get() && !failed) {
+                AuditDurability durability = properties.durability();
+                boolean due = durability == AuditDurability.SYNC
+                        || durability == AuditDurability.PERIODIC && System.nanoTime() - nextForce >= 0;
+                if (due || stopping && drained == 0) {
+                    force();
+                    nextForce = System.nanoTime() + interval;
+                }
+            }
+            if (drained == 0) {
+                if (stopping && ring.size() == 0) {
+                    break;
+                }
+                LockSupport.parkNanos(this, interval);
+            }
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.warn("Cannot close the audit journal segment {}", segmentIndex, e);
+        }
+    }
+
+    /* Copies a record into the segment, rolling to a new segment when it is full */
+    private void copy(long sequence, long timestamp, long input, long result, long packed) {
+        if (failed) {
+            return;
+        }
+        try {
+            if (position == segmentRecords) {
+                force();
+                channel.close();
+                open(segmentIndex + 1);
+            }
+            AuditJournalFormat.encode(scratch, checksum, sequence, timestamp, input, result, packed);
+            segment.put(AuditJournalFormat.recordOffset(position), scratch, 0, AuditJournalFormat.RECORD_SIZE);
+            position++;
+            written = sequence;
+        } catch (IOException | RuntimeException e) {
+            fail(e);
+        }
+    }
+
+    /* Forces the records written since the last force and releases the producers waiting for them */
+    private void force() {
+        try {
+            int end = AuditJournalFormat.recordOffset(position);
+            segment.force(forcedOffset, end - forcedOffset);
+            forcedOffset = end;
+        } catch (RuntimeException e) {
+            fail(e);
+            return;
+        }
+        durable.set(written);
+        signalForced();
+    }
+
+    /* Stops recording, and fails the producers waiting for their records */
+    private void fail(Exception e) {
+        failed = true;
+        log.error("The audit journal failed after sequence {}; further conversions are not recorded", written, e);
+        signalForced();
+    }
+
+    private void signalForced() {
+        lock.lock();
+        try {
+            forced.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+}
@@ -0,0 +1,273 @@
+package com.gklyphon.termometer.audit;
+
+import com.gklyphon.termometer.model.TemperatureScale;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Binary layout of the audit journal: a directory of segment files, each a 64-byte header
+ * followed by fixed-size little-endian records.
+ *
+ * <pre>
+ * segment header
+ * offset  size  field
+ * 0       4     magic, the ASCII bytes "TMA1"
+ * 4       2     version, 1
+ * 6       2     record size, 48
+ * 8       8     index of the segment, starting at 0
+ * 16      48    reserved, zero
+ *
+ * record
+ * 0       8     sequence, starting at 1; 0 marks the end of the journal
+ * 8       8     timestamp, nanoseconds since the epoch
+ * 16      8     input, unscaled
+ * 24      8     result, unscaled
+ * 32      1     source scale (ordinal)
+ * 33      1     target scale (ordinal)
+ * 34      1     kind (ordinal + 1)
+ * 35      1     flags: 1 when the input or result was rounded
+ * 36      1     input scale (signed)
+ * 37      1     result scale (signed)
+ * 38      2     reserved, zero
+ * 40      4     CRC32C of bytes 0 to 39
+ * 44      4     reserved, zero
+ * </pre>
+ *
+ * <p>Segments are named {@code audit-<index>.journal} and created at their full size, so
+ * the unwritten tail of the last segment reads as zeros. A record whose checksum does not
+ * match, such as one torn by a crash, also ends the journal. {@code BINARY} records hold
+ * the raw bits of their {@code double} values with a scale of 0, and read back without a
+ * value when it is not finite.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+public final class AuditJournalFormat {
+
+    /** Size of a segment header in bytes */
+    public static final int HEADER_SIZE = 64;
+
+    /** Size of a record in bytes */
+    public static final int RECORD_SIZE = 48;
+
+    /** Flag of records whose input or result was rounded to fit */
+    public static final int ROUNDED = 1;
+
+    private static final int MAGIC = 'T' | 'M' << 8 | 'A' << 16 | '1' << 24;
+    private static final short VERSION = 1;
+    private static final int CHECKSUM_OFFSET = 40;
+    private static final MathContext PRECISION = new MathContext(18, RoundingMode.HALF_EVEN);
+    private static final TemperatureScale[] SCALES = TemperatureScale.values();
+    private static final AuditRecord.Kind[] KINDS = AuditRecord.Kind.values();
+
+    private AuditJournalFormat() {
+    }
+
+    /**
+     * Returns the number of records a segment of the given size holds.
+     *
+     * @param segmentSize the size of the segment file in bytes
+     * @return the number of records
+     * @throws IllegalArgumentException if the segment cannot hold a single record
+     */
+    public static long recordsPerSegment(long segmentSize) {
+        long records = (segmentSize - HEADER_SIZE) / RECORD_SIZE;
+        if (records < 1) {
+            throw new IllegalArgumentException("Audit segments must hold at least one record");
+        }
+        return records;
+    }
+
+    /**
+     * @param record the index of a record within its segment
+     * @return the offset of the record in the segment
+     */
+    public static int recordOffset(long record) {
+        return Math.toIntExact(HEADER_SIZE + record * RECORD_SIZE);
+    }
+
+    /**
+     * @param directory the journal directory
+     * @param index     the index of the segment
+     * @return the path of the segment file
+     */
+    public static Path segment(Path directory, long index) {
+        return directory.resolve(String.format("audit-%016d.journal", index));
+    }
+
+    /**
+     * Lists the segment files of a journal in order.
+     *
+     * @param directory the journal directory
+     * @return the segment files, empty if the directory does not exist
+     * @throws IOException if the directory cannot be listed
+     */
+    public static List<Path> segments(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().matches("audit-\\d{16}\\.journal"))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    /**
+     * Writes a segment header at the start of a buffer.
+     *
+     * @param index  the index of the segment
+     * @param buffer a little-endian buffer of at least {@link #HEADER_SIZE} bytes
+     */
+    public static void writeHeader(long index, ByteBuffer buffer) {
+        buffer.putInt(0, MAGIC)
+                .putShort(4, VERSION)
+                .putShort(6, (short) RECORD_SIZE)
+                .putLong(8, index);
+    }
+
+    /**
+     * Checks the segment header at the start of a buffer.
+     *
+     * @param buffer a little-endian buffer holding a segment
+     * @return the index of the segment
+     * @throws IllegalArgumentException if the buffer does not start with a valid header
+     */
+    public static long readHeader(ByteBuffer buffer) {
+        if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("Not an audit journal segment");
+        }
+        if (buffer.getShort(4) != VERSION || buffer.getShort(6) != RECORD_SIZE) {
+            throw new IllegalArgumentException("Unsupported audit journal version " + buffer.getShort(4));
+        }
+        return buffer.getLong(8);
+    }
+
+    /**
+     * Packs the single-byte fields of a record into a {@code long}, laid out as bytes 32 to
+     * 39 of the record.
+     *
+     * @param kind        how the reading was converted
+     * @param source      the scale converted from
+     * @param target      the scale converted to
+     * @param flags       the record flags
+     * @param inputScale  the scale of the input, between -128 and 127
+     * @param resultScale the scale of the result, between -128 and 127
+     * @return the packed fields
+     */
+    public static long pack(AuditRecord.Kind kind, TemperatureScale source, TemperatureScale target, int flags,
+                            int inputScale, int resultScale) {
+        return source.ordinal()
+                | (long) target.ordinal() << 8
+                | (long) (kind.ordinal() + 1) << 16
+                | (long) flags << 24
+                | (inputScale & 0xFFL) << 32
+                | (resultScale & 0xFFL) << 40;
+    }
+
+    /**
+     * Encodes a record into a buffer and stamps its checksum.
+     *
+     * @param buffer    a little-endian heap buffer of at least {@link #RECORD_SIZE} bytes
+     * @param checksum  a checksum instance reused between records
+     * @param sequence  the sequence of the record
+     * @param timestamp nanoseconds since the epoch
+     * @param input     the unscaled input
+     * @param result    the unscaled result
+     * @param packed    the fields packed by {@link #pack}
+     */
+    public static void encode(ByteBuffer buffer, CRC32C checksum, long sequence, long timestamp,
+                              long input, long result, long packed) {
+        buffer.putLong(0, sequence)
+                .putLong(8, timestamp)
+                .putLong(16, input)
+                .putLong(24, result)
+                .putLong(32, packed);
+        checksum.reset();
+        checksum.update(buffer.array(), buffer.arrayOffset(), CHECKSUM_OFFSET);
+        buffer.putInt(CHECKSUM_OFFSET, (int) checksum.getValue()).putInt(44, 0);
+    }
+
+    /**
+     * Decodes the record at a position of a buffer.
+     *
+     * @param buffer   a little-endian buffer holding a segment
+     * @param position the offset of the record
+     * @param checksum a checksum instance reused between records
+     * @return the record, or {@code null} if there is no complete record at the position
+     */
+    public static AuditRecord decode(ByteBuffer buffer, int position, CRC32C checksum) {
+        long sequence = buffer.getLong(position);
+        if (sequence == 0) {
+            return null;
+        }
+        checksum.reset();
+        checksum.update(buffer.slice(position, CHECKSUM_OFFSET));
+        if (buffer.getInt(position + CHECKSUM_OFFSET) != (int) checksum.getValue()) {
+            return null;
+        }
+        long timestamp = buffer.getLong(position + 8);
+        long input = buffer.getLong(position + 16);
+        long result = buffer.getLong(position + 24);
+        AuditRecord.Kind kind = KINDS[buffer.get(position + 34) - 1];
+        int inputScale = buffer.get(position + 36);
+        int resultScale = buffer.get(position + 37);
+        BigDecimal inputValue;
+        BigDecimal resultValue;
+        switch (kind) {
+            case BINARY -> {
+                inputValue = binary(input);
+                resultValue = binary(result);
+            }
+            case BATCH -> {
+                inputValue = BigDecimal.valueOf(input);
+                resultValue = null;
+            }
+            default -> {
+                inputValue = BigDecimal.valueOf(input, inputScale);
+                resultValue = BigDecimal.valueOf(result, resultScale);
+            }
+        }
+        return new AuditRecord(sequence, Instant.ofEpochSecond(0, timestamp), kind,
+                SCALES[buffer.get(position + 32)], SCALES[buffer.get(position + 33)],
+                inputValue, resultValue, (buffer.get(position + 35) & ROUNDED) != 0);
+    }
+
+    /* NaN and the infinities have no decimal value */
+    private static BigDecimal binary(long bits) {
+        double value = Double.longBitsToDouble(bits);
+        return Double.isFinite(value) ? BigDecimal.valueOf(value) : null;
+    }
+
+    /**
+     * Fits a decimal value into an unscaled {@code long} and a one-byte scale, rounding it
+     * half-even to 18 significant digits when it has more. Values too large to fit even
+     * then, beyond 10<sup>145</sup>, are saturated.
+     *
+     * @param value the value to fit
+     * @return the value as stored in a record
+     */
+    public static BigDecimal fit(BigDecimal value) {
+        BigDecimal fitted = value.precision() > PRECISION.getPrecision() ? value.round(PRECISION) : value;
+        if (fitted.scale() > Byte.MAX_VALUE) {
+            fitted = fitted.setScale(Byte.MAX_VALUE, RoundingMode.HALF_EVEN);
+        } else if (fitted.scale() < Byte.MIN_VALUE) {
+            long saturated = fitted.signum() < 0 ? -Long.MAX_VALUE : Long.MAX_VALUE;
+            fitted = BigDecimal.valueOf(saturated, Byte.MIN_VALUE);
+        }
+        return fitted;
+    }
+
+}
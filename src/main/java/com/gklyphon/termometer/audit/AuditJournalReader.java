@@ -0,0 +1,100 @@
+package com.gklyphon.termometer.audit;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+
+import static java.nio.file.StandardOpenOption.READ;
+
+/**
+ * Reads the records of an audit journal back, in sequence order.
+ *
+ * <p>Segments are memory-mapped read-only, so a journal can be read while the
+ * application is still appending to it; records written after a segment was mapped may
+ * or may not be seen.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+public final class AuditJournalReader {
+
+    private AuditJournalReader() {
+    }
+
+    /**
+     * Passes the records of a journal to an action, starting at a sequence.
+     *
+     * @param directory    the journal directory
+     * @param fromSequence the sequence of the first record to read
+     * @param action       the action applied to each record
+     * @return the number of records read
+     * @throws IOException              if a segment cannot be read
+     * @throws IllegalArgumentException if a segment file is not a valid segment
+     */
+    public static long forEach(Path directory, long fromSequence, Consumer<AuditRecord> action) throws IOException {
+        CRC32C checksum = new CRC32C();
+        long count = 0;
+        for (Path file : AuditJournalFormat.segments(directory)) {
+            ByteBuffer segment = map(file);
+            AuditJournalFormat.readHeader(segment);
+            long records = validRecords(segment, checksum);
+            for (int i = 0; i < records; i++) {
+                AuditRecord record = AuditJournalFormat.decode(segment, AuditJournalFormat.recordOffset(i), checksum);
+                if (record.sequence() >= fromSequence) {
+                    action.accept(record);
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the sequence of the last valid record of a segment.
+     *
+     * @param file the segment file
+     * @return the sequence, or 0 if the segment holds no valid record
+     * @throws IOException if the segment cannot be read
+     */
+    static long lastSequence(Path file) throws IOException {
+        ByteBuffer segment = map(file);
+        AuditJournalFormat.readHeader(segment);
+        long records = validRecords(segment, new CRC32C());
+        return records == 0 ? 0 : segment.getLong(AuditJournalFormat.recordOffset(records - 1));
+    }
+
+    /*
+     * Counts the leading records of a segment with a valid checksum and consecutive
+     * sequences; the first other one marks the end of the journal
+     */
+    static long validRecords(ByteBuffer segment, CRC32C checksum) {
+        long capacity = (segment.limit() - AuditJournalFormat.HEADER_SIZE) / AuditJournalFormat.RECORD_SIZE;
+        long previous = 0;
+        long records = 0;
+        while (records < capacity) {
+            AuditRecord record = AuditJournalFormat.decode(segment, AuditJournalFormat.recordOffset(records), checksum);
+            if (record == null || previous != 0 && record.sequence() != previous + 1) {
+                break;
+            }
+            previous = record.sequence();
+            records++;
+        }
+        return records;
+    }
+
+    private static MappedByteBuffer map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, READ)) {
+            MappedByteBuffer segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            segment.order(ByteOrder.LITTLE_ENDIAN);
+            return segment;
+        }
+    }
+
+}
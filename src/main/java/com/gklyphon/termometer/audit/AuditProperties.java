@@ -0,0 +1,39 @@
+package com.gklyphon.termometer.audit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuration of the conversion audit journal, bound from the {@code termometer.audit}
+ * properties.
+ *
+ * @param enabled       whether every conversion is recorded in the journal (default false)
+ * @param directory     the directory holding the segment files (default {@code audit})
+ * @param segmentSize   size of each memory-mapped segment file (default 64MB)
+ * @param ringSize      records buffered between the conversions and the journal writer, a
+ *                      power of two; conversions wait when it is full (default 65536)
+ * @param durability    when records are forced to disk (default {@code PERIODIC})
+ * @param flushInterval longest time between forces with {@code PERIODIC} durability, and
+ *                      longest time the idle writer sleeps (default 10ms)
+ * @param batchCoverage whether batches are recorded reading by reading or as a single
+ *                      record of their size (default {@code READINGS})
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+@ConfigurationProperties(prefix = "termometer.audit")
+public record AuditProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("audit") Path directory,
+        @DefaultValue("64MB") DataSize segmentSize,
+        @DefaultValue("65536") int ringSize,
+        @DefaultValue("PERIODIC") AuditDurability durability,
+        @DefaultValue("10ms") Duration flushInterval,
+        @DefaultValue("READINGS") AuditBatchCoverage batchCoverage) {
+}
@@ -0,0 +1,48 @@
+package com.gklyphon.termometer.audit;
+
+import com.gklyphon.termometer.model.TemperatureScale;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * A conversion read back from the audit journal.
+ *
+ * <p>Decimal readings and results keep up to 18 significant digits; those that had more,
+ * such as the 34-digit result of a conversion without a finite decimal expansion, are
+ * stored rounded half-even and marked as {@code rounded}.
+ *
+ * @param sequence  the position of the record in the journal, starting at 1
+ * @param timestamp when the conversion was performed
+ * @param kind      how the reading was converted
+ * @param source    the scale converted from
+ * @param target    the scale converted to
+ * @param input     the reading, the number of readings of a {@link Kind#BATCH}, or
+ *                  {@code null} for a {@link Kind#BINARY} reading that is not finite
+ * @param result    the converted reading, or {@code null} for a {@link Kind#BATCH} or a
+ *                  {@link Kind#BINARY} result that is not finite
+ * @param rounded   whether the input or the result was rounded to fit the record
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+public record AuditRecord(long sequence, Instant timestamp, Kind kind, TemperatureScale source,
+                          TemperatureScale target, BigDecimal input, BigDecimal result, boolean rounded) {
+
+    /** How a conversion was performed. */
+    public enum Kind {
+        /** A single reading converted exactly with {@code BigDecimal} arithmetic */
+        DECIMAL,
+        /** A single reading converted with fixed-point arithmetic */
+        FIXED_POINT,
+        /** A single scaled integer reading converted through the lookup tables */
+        SCALED,
+        /** A {@code double} reading, sent over gRPC or in a float64 columnar batch */
+        BINARY,
+        /** A batch of readings, recorded once with its number of readings when batches are summarized */
+        BATCH
+    }
+
+}
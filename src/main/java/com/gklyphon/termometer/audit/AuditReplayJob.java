@@ -0,0 +1,148 @@
+package com.gklyphon.termometer.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.gklyphon.termometer.service.ScaleConversion;
+import com.gklyphon.termometer.service.TemperatureConversionEngine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.RoundingMode;
+import java.nio.file.Path;
+
+/**
+ * Offline job that reads an audit journal back and replays every recorded conversion
+ * against the current {@link TemperatureConversionEngine}.
+ *
+ * <p>Each record is converted again the way it was first converted: exactly for decimal
+ * readings, rounded half-even to the recorded result scale for fixed-point and scaled
+ * readings, and with {@code double} arithmetic for binary readings, fused or not as the
+ * array kernel may have converted them. Records whose result differs are logged, and the
+ * job fails once the journal has been read if there were any. Batch summaries, decimal
+ * records rounded to fit the journal and binary records that are not finite cannot be
+ * replayed and are only counted. With {@code termometer.audit.replay.output} set, the
+ * records are also exported as newline-delimited JSON.
+ *
+ * <p>The job runs with the {@code audit-replay} profile, which also starts the application
+ * without a web server.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+@Component
+@Profile("audit-replay")
+public class AuditReplayJob implements CommandLineRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditReplayJob.class);
+
+    /** Outcome of replaying one record. */
+    public enum Outcome { MATCHED, MISMATCHED, SKIPPED }
+
+    /**
+     * Counts of the replayed records by outcome.
+     *
+     * @param matched    records whose result was reproduced
+     * @param mismatched records whose result differs
+     * @param skipped    records that cannot be replayed
+     */
+    public record Summary(long matched, long mismatched, long skipped) {
+    }
+
+    private final Path directory;
+    private final AuditReplayProperties properties;
+    private final TemperatureConversionEngine engine;
+    private final ObjectMapper objectMapper;
+
+    public AuditReplayJob(AuditProperties auditProperties, AuditReplayProperties properties,
+                          TemperatureConversionEngine engine, ObjectMapper objectMapper) {
+        this.directory = auditProperties.directory();
+        this.properties = properties;
+        this.engine = engine;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void run(String... args) throws Exception {
+        Summary summary = replay();
+        if (summary.mismatched() > 0) {
+            throw new IllegalStateException(summary.mismatched() + " audited conversions could not be reproduced");
+        }
+    }
+
+    /**
+     * Replays the journal, exporting the records when an output is configured.
+     *
+     * @return the counts of the replayed records by outcome
+     * @throws IOException if the journal cannot be read or the output cannot be written
+     */
+    public Summary replay() throws IOException {
+        long[] counts = new long[Outcome.values().length];
+        try (SequenceWriter output = properties.output() != null
+                ? objectMapper.writer().withRootValueSeparator("\n").writeValues(properties.output().toFile())
+                : null) {
+            AuditJournalReader.forEach(directory, properties.from(), record -> {
+                Outcome outcome = replay(record);
+                if (outcome == Outcome.MISMATCHED) {
+                    log.warn("Audited conversion {} does not reproduce: {}", record.sequence(), record);
+                }
+                counts[outcome.ordinal()]++;
+                if (output != null) {
+                    try {
+                        output.write(record);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        Summary summary = new Summary(counts[Outcome.MATCHED.ordinal()], counts[Outcome.MISMATCHED.ordinal()],
+                counts[Outcome.SKIPPED.ordinal()]);
+        log.info("Replayed the audit journal in {}: {} matched, {} mismatched, {} skipped",
+                directory, summary.matched(), summary.mismatched(), summary.skipped());
+        return summary;
+    }
+
+    /**
+     * Converts the reading of a record again and compares the result.
+     *
+     * @param record the record to replay
+     * @return whether the recorded result was reproduced
+     */
+    public Outcome replay(AuditRecord record) {
+        boolean matches = switch (record.kind()) {
+            case BATCH -> false;
+            case DECIMAL -> AuditJournalFormat.fit(engine.convert(record.source(), record.target(), record.input()))
+                    .compareTo(record.result()) == 0;
+            case FIXED_POINT, SCALED -> engine.convert(record.source(), record.target(), record.input())
+                    .setScale(record.result().scale(), RoundingMode.HALF_EVEN)
+                    .equals(record.result());
+            case BINARY -> {
+                if (record.input() == null || record.result() == null) {
+                    yield false;
+                }
+                // Batches are converted by the array kernel, whose fused multiply-add may differ in the last bit
+                ScaleConversion conversion = engine.conversion(record.source(), record.target());
+                double input = record.input().doubleValue();
+                double recorded = record.result().doubleValue();
+                yield Double.compare(conversion.apply(input), recorded) == 0
+                        || Double.compare(Math.fma(input, conversion.getFactor(), conversion.getOffset()), recorded) == 0;
+            }
+        };
+        if (matches) {
+            return Outcome.MATCHED;
+        }
+        // A rounded input no longer holds the converted reading
+        return record.kind() == AuditRecord.Kind.BATCH || record.rounded() || record.input() == null
+                || record.result() == null ? Outcome.SKIPPED : Outcome.MISMATCHED;
+    }
+
+}
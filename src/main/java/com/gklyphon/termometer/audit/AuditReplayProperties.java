@@ -0,0 +1,25 @@
+package com.gklyphon.termometer.audit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+
+/**
+ * Configuration of the audit replay job, bound from the {@code termometer.audit.replay}
+ * properties. The journal is read from {@code termometer.audit.directory}.
+ *
+ * @param from   the sequence of the first record to replay (default 1)
+ * @param output a file the replayed records are exported to as newline-delimited JSON,
+ *               or none to only verify them (default)
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+@ConfigurationProperties(prefix = "termometer.audit.replay")
+public record AuditReplayProperties(
+        @DefaultValue("1") long from,
+        Path output) {
+}
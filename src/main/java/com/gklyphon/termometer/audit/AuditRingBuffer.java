@@ -0,0 +1,135 @@
+package com.gklyphon.termometer.audit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Bounded lock-free ring of audit records between many conversion threads and the single
+ * journal writer.
+ *
+ * <p>A producer claims the next sequence with one atomic increment, writes the fields of
+ * its record into the claimed slot and publishes the slot by storing the sequence in it
+ * with release semantics. The consumer reads slots in sequence order and stops at the
+ * first one not published yet, so records reach the journal in sequence order even when
+ * their producers finish out of order. A producer that finds the ring full waits for the
+ * consumer to free its slot; records are never dropped.
+ *
+ * <p>Slots hold four {@code long} fields each, in a single array, and nothing is
+ * allocated per record.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+final class AuditRingBuffer {
+
+    /* Fields of a slot: timestamp, input, result and the packed single-byte fields */
+    private static final int FIELDS = 4;
+
+    /* Spins before a producer waiting for a free slot starts parking */
+    private static final int SPINS = 100;
+
+    /** Receives the records drained from the ring, in sequence order. */
+    @FunctionalInterface
+    interface Consumer {
+        void accept(long sequence, long timestamp, long input, long result, long packed);
+    }
+
+    private final int mask;
+    private final long[] fields;
+    private final AtomicLongArray published;
+    private final AtomicLong next;
+    private final AtomicLong consumed;
+
+    /**
+     * @param capacity      the number of slots, a power of two
+     * @param firstSequence the sequence of the first record, at least 1
+     */
+    AuditRingBuffer(int capacity, long firstSequence) {
+        if (firstSequence < 1) {
+            throw new IllegalArgumentException("Audit sequences start at 1");
+        }
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("termometer.audit.ring-size must be a power of two");
+        }
+        this.mask = capacity - 1;
+        this.fields = new long[capacity * FIELDS];
+        // Sequences start at 1, so the initial 0 marks every slot as not published
+        this.published = new AtomicLongArray(capacity);
+        this.next = new AtomicLong(firstSequence);
+        this.consumed = new AtomicLong(firstSequence);
+    }
+
+    /**
+     * Adds a record, waiting while the ring is full.
+     *
+     * @param timestamp nanoseconds since the epoch
+     * @param input     the unscaled input
+     * @param result    the unscaled result
+     * @param packed    the single-byte fields packed by {@link AuditJournalFormat#pack}
+     * @return the sequence of the record
+     */
+    long publish(long timestamp, long input, long result, long packed) {
+        long sequence = next.getAndIncrement();
+        int capacity = mask + 1;
+        for (int spins = 0; sequence - consumed.get() >= capacity; spins++) {
+            if (spins < SPINS) {
+                Thread.onSpinWait();
+            } else {
+                LockSupport.parkNanos(10_000);
+            }
+        }
+        int slot = (int) sequence & mask;
+        int offset = slot * FIELDS;
+        fields[offset] = timestamp;
+        fields[offset + 1] = input;
+        fields[offset + 2] = result;
+        fields[offset + 3] = packed;
+        published.lazySet(slot, sequence);
+        return sequence;
+    }
+
+    /**
+     * Passes the published records to a consumer, in sequence order, and frees their slots.
+     * Only one thread may drain the ring.
+     *
+     * @param consumer the consumer of the records
+     * @param limit    the largest number of records to drain
+     * @return the number of records drained
+     */
+    int drain(Consumer consumer, int limit) {
+        long sequence = consumed.get();
+        int drained = 0;
+        while (drained < limit) {
+            int slot = (int) sequence & mask;
+            if (published.get(slot) != sequence) {
+                break;
+            }
+            int offset = slot * FIELDS;
+            consumer.accept(sequence, fields[offset], fields[offset + 1], fields[offset + 2], fields[offset + 3]);
+            sequence++;
+            drained++;
+        }
+        if (drained > 0) {
+            consumed.lazySet(sequence);
+        }
+        return drained;
+    }
+
+    /**
+     * @return the number of records claimed but not drained yet
+     */
+    long size() {
+        return next.get() - consumed.get();
+    }
+
+    /**
+     * @return the sequence the next record will get
+     */
+    long nextSequence() {
+        return next.get();
+    }
+
+}
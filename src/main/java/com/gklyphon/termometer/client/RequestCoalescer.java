@@ -0,0 +1,156 @@
+package com.gklyphon.termometer.client;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Collects the single readings of one pair of scales into batches and completes the
+ * future of each reading with its result once the batch has been converted.
+ *
+ * <p>The first reading of a batch schedules it to be sent when the window closes; a batch
+ * that reaches the maximum size is sent at once and the next reading starts a new one.
+ * Batches are sent on the given executor, one task each. The pending batch is guarded by a
+ * {@link ReentrantLock} rather than a monitor, so virtual threads adding readings never pin
+ * their carrier.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+final class RequestCoalescer {
+
+    /** Converts a batch of readings with one request. */
+    @FunctionalInterface
+    interface BatchSender {
+
+        /**
+         * @param readings the readings to convert
+         * @return the converted readings, in order
+         */
+        List<BigDecimal> send(List<BigDecimal> readings) throws IOException, InterruptedException;
+    }
+
+    private final BatchSender sender;
+    private final int maxBatchSize;
+    private final Executor executor;
+    private final Executor delayed;
+    private final ReentrantLock lock = new ReentrantLock();
+    private Batch pending;
+    private boolean closed;
+
+    RequestCoalescer(BatchSender sender, Duration window, int maxBatchSize, Executor executor) {
+        this.sender = sender;
+        this.maxBatchSize = maxBatchSize;
+        this.executor = executor;
+        this.delayed = window.isZero()
+                ? executor
+                : CompletableFuture.delayedExecutor(window.toNanos(), TimeUnit.NANOSECONDS, executor);
+    }
+
+    /**
+     * Adds a reading to the pending batch.
+     *
+     * @param degrees the reading
+     * @return a future completed with the converted reading
+     * @throws IllegalStateException if the client is closed
+     */
+    CompletableFuture<BigDecimal> add(BigDecimal degrees) {
+        CompletableFuture<BigDecimal> result = new CompletableFuture<>();
+        Batch full = null;
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("The client is closed");
+            }
+            if (pending == null) {
+                Batch scheduled = new Batch(maxBatchSize);
+                pending = scheduled;
+                delayed.execute(() -> flush(scheduled));
+            }
+            pending.readings.add(degrees);
+            pending.results.add(result);
+            if (pending.readings.size() == maxBatchSize) {
+                full = pending;
+                pending = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (full != null) {
+            Batch batch = full;
+            executor.execute(() -> send(batch));
+        }
+        return result;
+    }
+
+    /**
+     * Rejects new readings and sends the pending batch right away.
+     */
+    void close() {
+        Batch remaining;
+        lock.lock();
+        try {
+            closed = true;
+            remaining = pending;
+            pending = null;
+        } finally {
+            lock.unlock();
+        }
+        if (remaining != null) {
+            executor.execute(() -> send(remaining));
+        }
+    }
+
+    /* Sends the batch when its window closes, unless it was already sent because it was full */
+    private void flush(Batch batch) {
+        lock.lock();
+        try {
+            if (pending != batch) {
+                return;
+            }
+            pending = null;
+        } finally {
+            lock.unlock();
+        }
+        send(batch);
+    }
+
+    private void send(Batch batch) {
+        try {
+            List<BigDecimal> converted = sender.send(batch.readings);
+            for (int i = 0; i < converted.size(); i++) {
+                batch.results.get(i).complete(converted.get(i));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            batch.fail(e);
+        } catch (Exception e) {
+            batch.fail(e);
+        }
+    }
+
+    private static final class Batch {
+        final List<BigDecimal> readings;
+        final List<CompletableFuture<BigDecimal>> results;
+
+        Batch(int capacity) {
+            this.readings = new ArrayList<>(Math.min(capacity, 64));
+            this.results = new ArrayList<>(Math.min(capacity, 64));
+        }
+
+        void fail(Throwable failure) {
+            for (CompletableFuture<BigDecimal> result : results) {
+                result.completeExceptionally(failure);
+            }
+        }
+    }
+
+}
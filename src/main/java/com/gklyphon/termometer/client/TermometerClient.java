@@ -0,0 +1,297 @@
+package com.gklyphon.termometer.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.gklyphon.termometer.model.TemperatureScale;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Java client of the conversion API.
+ *
+ * <p>Single readings passed to {@link #convert} are not sent one request each: the calls
+ * made for the same pair of scales within {@code window} of each other are coalesced into
+ * one request to the {@code /convert/batch} endpoint, sent as soon as the window closes or
+ * {@code maxBatchSize} readings are waiting, and each future is completed with its own
+ * result. The batch endpoint converts JSON readings exactly like the single-value
+ * endpoints, so coalescing does not change any result.
+ *
+ * <p>Requests are sent from virtual threads over a pooled {@link HttpClient}, at most
+ * {@code maxConnections} at a time; further batches wait for a connection while new calls
+ * keep coalescing. The returned futures may be joined from any thread, including virtual
+ * threads. The client uses only {@code jackson-core} besides the JDK. The build packages
+ * it on its own as {@code termometer-<version>-client.jar}, which shares the POM of the
+ * application, so its consumers exclude the transitive dependencies and declare
+ * {@code jackson-core} themselves.
+ *
+ * <pre>
+ * try (TermometerClient client = TermometerClient.builder(URI.create("http://localhost:8080")).build()) {
+ *     BigDecimal fahrenheit = client.convert(CELSIUS, FAHRENHEIT, new BigDecimal("36.6")).join();
+ * }
+ * </pre>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+public final class TermometerClient implements AutoCloseable {
+
+    private static final JsonFactory JSON = new JsonFactory();
+    private static final int SCALES = TemperatureScale.values().length;
+
+    private final String batchUri;
+    private final Duration timeout;
+    private final ExecutorService executor;
+    private final ExecutorService httpExecutor;
+    private final HttpClient httpClient;
+    private final Semaphore connections;
+    private final RequestCoalescer[] coalescers;
+
+    private TermometerClient(Builder builder) {
+        this.batchUri = builder.baseUri.toString().replaceFirst("/+$", "") + "/convert/batch";
+        this.timeout = builder.timeout;
+        // The batches and the internal tasks of the HttpClient run on separate executors, so
+        // that closing the first one waits for the requests in progress without stopping them
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.httpExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        this.httpClient = HttpClient.newBuilder()
+                .version(builder.version)
+                .connectTimeout(builder.timeout)
+                .executor(httpExecutor)
+                .build();
+        this.connections = new Semaphore(builder.maxConnections);
+        TemperatureScale[] scales = TemperatureScale.values();
+        this.coalescers = new RequestCoalescer[SCALES * SCALES];
+        for (TemperatureScale source : scales) {
+            for (TemperatureScale target : scales) {
+                coalescers[source.ordinal() * SCALES + target.ordinal()] = new RequestCoalescer(
+                        readings -> send(source, target, readings), builder.window, builder.maxBatchSize, executor);
+            }
+        }
+    }
+
+    /**
+     * Creates a builder of a client for the given server.
+     *
+     * @param baseUri the URI the application is served at, such as {@code http://localhost:8080},
+     *                including its context path if any
+     * @return the builder
+     */
+    public static Builder builder(URI baseUri) {
+        return new Builder(baseUri);
+    }
+
+    /**
+     * Converts a reading, in the same bulk request as the other readings of the same pair
+     * of scales converted meanwhile.
+     *
+     * @param source  the scale of the reading
+     * @param target  the scale to convert the reading to
+     * @param degrees the reading
+     * @return a future completed with the exact converted reading, or exceptionally with a
+     * {@link TermometerClientException} or an {@link IOException} when the request fails
+     * @throws IllegalStateException if the client is closed
+     */
+    public CompletableFuture<BigDecimal> convert(TemperatureScale source, TemperatureScale target,
+                                                 BigDecimal degrees) {
+        Objects.requireNonNull(degrees, "degrees");
+        return coalescers[source.ordinal() * SCALES + target.ordinal()].add(degrees);
+    }
+
+    /**
+     * Converts several readings in one request, without waiting for other calls.
+     *
+     * @param source  the scale of the readings
+     * @param target  the scale to convert the readings to
+     * @param degrees the readings
+     * @return a future completed with the exact converted readings, in order
+     */
+    public CompletableFuture<List<BigDecimal>> convertAll(TemperatureScale source, TemperatureScale target,
+                                                          List<BigDecimal> degrees) {
+        List<BigDecimal> readings = List.copyOf(degrees);
+        CompletableFuture<List<BigDecimal>> results = new CompletableFuture<>();
+        executor.execute(() -> {
+            try {
+                results.complete(send(source, target, readings));
+            } catch (Exception e) {
+                results.completeExceptionally(e);
+            }
+        });
+        return results;
+    }
+
+    /**
+     * Sends the readings waiting to be coalesced, waits for every request in progress and
+     * releases the connections.
+     */
+    @Override
+    public void close() {
+        for (RequestCoalescer coalescer : coalescers) {
+            coalescer.close();
+        }
+        executor.close();
+        httpClient.close();
+        httpExecutor.close();
+    }
+
+    /* Posts the readings to the batch endpoint on the calling virtual thread */
+    private List<BigDecimal> send(TemperatureScale source, TemperatureScale target, List<BigDecimal> readings)
+            throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(batchUri + "?from="
+                        + source.name().toLowerCase(Locale.ROOT) + "&to=" + target.name().toLowerCase(Locale.ROOT)))
+                .timeout(timeout)
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(write(readings)))
+                .build();
+        connections.acquire();
+        try {
+            HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            try (InputStream body = response.body()) {
+                if (response.statusCode() != 200) {
+                    throw new TermometerClientException(response.statusCode(),
+                            new String(body.readAllBytes(), StandardCharsets.UTF_8));
+                }
+                return read(body, readings.size());
+            }
+        } finally {
+            connections.release();
+        }
+    }
+
+    private static byte[] write(List<BigDecimal> readings) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream(readings.size() * 8 + 2);
+        try (JsonGenerator generator = JSON.createGenerator(body)) {
+            generator.writeStartArray();
+            for (BigDecimal reading : readings) {
+                generator.writeNumber(reading);
+            }
+            generator.writeEndArray();
+        }
+        return body.toByteArray();
+    }
+
+    private static List<BigDecimal> read(InputStream body, int count) throws IOException {
+        List<BigDecimal> results = new ArrayList<>(count);
+        try (JsonParser parser = JSON.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IOException("Expected a JSON array of converted temperatures");
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null || !token.isNumeric()) {
+                    throw new IOException("Expected a converted temperature but found " + token);
+                }
+                results.add(parser.getDecimalValue());
+            }
+        }
+        if (results.size() != count) {
+            throw new IOException("Sent " + count + " temperatures but received " + results.size());
+        }
+        return results;
+    }
+
+    /**
+     * Builder of a {@link TermometerClient}.
+     */
+    public static final class Builder {
+
+        private final URI baseUri;
+        private Duration window = Duration.ofMillis(2);
+        private int maxBatchSize = 256;
+        private int maxConnections = 8;
+        private Duration timeout = Duration.ofSeconds(10);
+        private HttpClient.Version version = HttpClient.Version.HTTP_1_1;
+
+        private Builder(URI baseUri) {
+            this.baseUri = Objects.requireNonNull(baseUri, "baseUri");
+        }
+
+        /**
+         * @param window how long a single reading waits for others before its batch is
+         *               sent (default 2ms); zero sends the readings waiting as soon as possible
+         * @return this builder
+         */
+        public Builder window(Duration window) {
+            if (window.isNegative()) {
+                throw new IllegalArgumentException("The coalescing window must not be negative");
+            }
+            this.window = window;
+            return this;
+        }
+
+        /**
+         * @param maxBatchSize the number of readings that sends a batch before its window
+         *                     closes (default 256); 1 disables coalescing
+         * @return this builder
+         */
+        public Builder maxBatchSize(int maxBatchSize) {
+            if (maxBatchSize < 1) {
+                throw new IllegalArgumentException("The batch size must be positive");
+            }
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        /**
+         * @param maxConnections the number of requests sent at the same time, and so the
+         *                       number of pooled HTTP/1.1 connections (default 8)
+         * @return this builder
+         */
+        public Builder maxConnections(int maxConnections) {
+            if (maxConnections < 1) {
+                throw new IllegalArgumentException("The number of connections must be positive");
+            }
+            this.maxConnections = maxConnections;
+            return this;
+        }
+
+        /**
+         * @param timeout the connect timeout and the timeout of each request (default 10s)
+         * @return this builder
+         */
+        public Builder timeout(Duration timeout) {
+            this.timeout = Objects.requireNonNull(timeout, "timeout");
+            return this;
+        }
+
+        /**
+         * @param version the HTTP version, {@code HTTP_2} to multiplex the requests over one
+         *                connection to an application running the {@code http2} profile
+         *                (default {@code HTTP_1_1})
+         * @return this builder
+         */
+        public Builder version(HttpClient.Version version) {
+            this.version = Objects.requireNonNull(version, "version");
+            return this;
+        }
+
+        /**
+         * @return a new client
+         */
+        public TermometerClient build() {
+            return new TermometerClient(this);
+        }
+    }
+
+}
@@ -0,0 +1,28 @@
+package com.gklyphon.termometer.client;
+
+/**
+ * Thrown when the application answers a conversion request with an error status, such as
+ * 429 when the client is rate limited or 503 when the server sheds load.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+public class TermometerClientException extends RuntimeException {
+
+    private final int statusCode;
+
+    public TermometerClientException(int statusCode, String body) {
+        super("Conversion request failed with status " + statusCode + ": " + body);
+        this.statusCode = statusCode;
+    }
+
+    /**
+     * @return the HTTP status of the response
+     */
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+}
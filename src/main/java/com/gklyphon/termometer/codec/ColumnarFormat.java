@@ -0,0 +1,164 @@
+package com.gklyphon.termometer.codec;
+
+import org.springframework.http.MediaType;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Compact binary format for bulk conversions: a single column of little-endian numbers
+ * preceded by a 16-byte header.
+ *
+ * <pre>
+ * offset  size  field
+ * 0       4     magic, the ASCII bytes "TMC1"
+ * 4       1     value type: 1 for float64, 2 for int32
+ * 5       1     scale: decimal places of int32 values, 0 for float64
+ * 6       2     reserved, zero
+ * 8       8     count: number of values that follow (int64)
+ * 16      ...   count values of the given type
+ * </pre>
+ *
+ * <p>A response repeats the layout of its request: float64 readings are answered with
+ * float64 readings, and int32 readings with int32 readings at the output resolution of
+ * the lookup tables.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+public final class ColumnarFormat {
+
+    /** Media type of the columnar format */
+    public static final String MEDIA_TYPE_VALUE = "application/vnd.termometer.columnar";
+
+    /** Media type of the columnar format */
+    public static final MediaType MEDIA_TYPE = MediaType.parseMediaType(MEDIA_TYPE_VALUE);
+
+    /** Size of the header in bytes */
+    public static final int HEADER_SIZE = 16;
+
+    private static final int MAGIC = 'T' | 'M' << 8 | 'C' << 16 | '1' << 24;
+
+    /** Types of the values of a column. */
+    public enum ValueType {
+        FLOAT64(1, Double.BYTES),
+        INT32(2, Integer.BYTES);
+
+        private final byte code;
+        private final int size;
+
+        ValueType(int code, int size) {
+            this.code = (byte) code;
+            this.size = size;
+        }
+
+        /**
+         * @return the size of one value in bytes
+         */
+        public int size() {
+            return size;
+        }
+
+        static ValueType of(byte code) {
+            for (ValueType type : values()) {
+                if (type.code == code) {
+                    return type;
+                }
+            }
+            throw new IllegalArgumentException("Unknown columnar value type " + code);
+        }
+    }
+
+    /**
+     * Header of a column.
+     *
+     * @param type  the type of the values
+     * @param scale the decimal places of int32 values
+     * @param count the number of values
+     */
+    public record Header(ValueType type, int scale, long count) {
+
+        public Header {
+            if (count < 0) {
+                throw new IllegalArgumentException("Negative columnar value count " + count);
+            }
+            if (scale < 0 || scale > 18) {
+                throw new IllegalArgumentException("Columnar scale must be between 0 and 18 but was " + scale);
+            }
+        }
+    }
+
+    private ColumnarFormat() {
+    }
+
+    /**
+     * Reads a header from a channel.
+     *
+     * @param channel the channel positioned at the start of the header
+     * @return the header
+     * @throws IOException              if the channel ends before the header is complete
+     * @throws IllegalArgumentException if the bytes are not a valid header
+     */
+    public static Header readHeader(ReadableByteChannel channel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        readFully(channel, buffer);
+        buffer.flip();
+        if (buffer.getInt() != MAGIC) {
+            throw new IllegalArgumentException("Not a columnar temperature payload");
+        }
+        ValueType type = ValueType.of(buffer.get());
+        int scale = buffer.get();
+        buffer.getShort();
+        return new Header(type, scale, buffer.getLong());
+    }
+
+    /**
+     * Writes a header into a buffer.
+     *
+     * @param header the header to write
+     * @param buffer a little-endian buffer with at least {@link #HEADER_SIZE} bytes remaining
+     */
+    public static void writeHeader(Header header, ByteBuffer buffer) {
+        buffer.putInt(MAGIC)
+                .put(header.type().code)
+                .put((byte) header.scale())
+                .putShort((short) 0)
+                .putLong(header.count());
+    }
+
+    /**
+     * Fills the remaining space of a buffer from a channel.
+     *
+     * @param channel the channel to read from
+     * @param buffer  the buffer to fill
+     * @throws EOFException if the channel ends before the buffer is full
+     * @throws IOException  if the channel cannot be read
+     */
+    public static void readFully(ReadableByteChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException("Columnar payload ended " + buffer.remaining() + " bytes early");
+            }
+        }
+    }
+
+    /**
+     * Writes the remaining content of a buffer to a channel.
+     *
+     * @param channel the channel to write to
+     * @param buffer  the buffer to drain
+     * @throws IOException if the channel cannot be written
+     */
+    public static void writeFully(WritableByteChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+}
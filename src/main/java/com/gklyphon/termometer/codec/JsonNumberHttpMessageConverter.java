@@ -0,0 +1,128 @@
+package com.gklyphon.termometer.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gklyphon.termometer.model.FixedPointValue;
+import com.gklyphon.termometer.service.ConversionResultCache;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes single conversion results, {@link BigDecimal} and {@link FixedPointValue}, as
+ * JSON numbers without going through Jackson.
+ *
+ * <p>The bytes are the same Jackson would write with the application's
+ * {@link ObjectMapper}, including its {@code WRITE_BIGDECIMAL_AS_PLAIN} setting, but no
+ * generator, serializer lookup or intermediate buffer is involved: a fixed-point value is
+ * formatted digit by digit from its {@code long} into an array of the exact size, and a
+ * decimal is copied from its cached string form. The response also gets an exact
+ * {@code Content-Length}.
+ *
+ * <p>Results served by the {@link ConversionResultCache} are written from the bytes
+ * serialized when they were cached. Going through this converter rather than returning
+ * the bytes directly keeps content negotiation identical with and without the cache.
+ *
+ * <p>There are no thread-local buffers: requests run on virtual threads, which are not
+ * reused, so a thread-local buffer would be allocated for every request anyway.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+public class JsonNumberHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+    private final boolean plainDecimals;
+
+    /**
+     * @param objectMapper the mapper whose output is reproduced
+     */
+    public JsonNumberHttpMessageConverter(ObjectMapper objectMapper) {
+        super(MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+        this.plainDecimals = objectMapper.isEnabled(JsonGenerator.Feature.WRITE_BIGDECIMAL_AS_PLAIN);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return clazz == BigDecimal.class || clazz == FixedPointValue.class
+                || clazz == ConversionResultCache.CachedConversion.class;
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Numbers are only written", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(Object value, HttpOutputMessage outputMessage) throws IOException {
+        byte[] bytes = encode(value);
+        // Headers are still writable until the body is requested
+        outputMessage.getHeaders().setContentLength(bytes.length);
+        outputMessage.getBody().write(bytes);
+    }
+
+    @Override
+    protected boolean supportsRepeatableWrites(Object value) {
+        return true;
+    }
+
+    /**
+     * Encodes a result as the bytes of a JSON number.
+     *
+     * @param value a {@link BigDecimal}, {@link FixedPointValue} or cached conversion
+     * @return the ASCII bytes of the number
+     */
+    public byte[] encode(Object value) {
+        if (value instanceof ConversionResultCache.CachedConversion cached) {
+            return cached.json();
+        }
+        if (value instanceof FixedPointValue fixed) {
+            return encode(fixed.unscaled(), fixed.scale());
+        }
+        BigDecimal decimal = (BigDecimal) value;
+        return (plainDecimals ? decimal.toPlainString() : decimal.toString()).getBytes(StandardCharsets.ISO_8859_1);
+    }
+
+    /* Sizes the number first, then writes its digits backwards into an array of that size */
+    private static byte[] encode(long unscaled, int scale) {
+        boolean negative = unscaled < 0;
+        // Works on the non-positive magnitude so Long.MIN_VALUE needs no special case
+        long magnitude = negative ? unscaled : -unscaled;
+        int digits = 1;
+        for (long rest = magnitude / 10; rest != 0; rest /= 10) {
+            digits++;
+        }
+        int length = (negative ? 1 : 0) + Math.max(digits - scale, 1) + (scale > 0 ? scale + 1 : 0);
+        byte[] bytes = new byte[length];
+        int position = length;
+        long remaining = magnitude;
+        for (int i = 0; i < scale; i++) {
+            bytes[--position] = (byte) ('0' - remaining % 10);
+            remaining /= 10;
+        }
+        if (scale > 0) {
+            bytes[--position] = '.';
+        }
+        do {
+            bytes[--position] = (byte) ('0' - remaining % 10);
+            remaining /= 10;
+        } while (remaining != 0);
+        if (negative) {
+            bytes[0] = '-';
+        }
+        return bytes;
+    }
+
+}
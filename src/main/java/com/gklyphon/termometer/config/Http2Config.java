@@ -0,0 +1,44 @@
+package com.gklyphon.termometer.config;
+
+import org.apache.coyote.UpgradeProtocol;
+import org.apache.coyote.http2.Http2Protocol;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Tuning of the HTTP/2 connections of the embedded Tomcat server.
+ *
+ * <p>With {@code server.http2.enabled} and no TLS, Tomcat serves cleartext HTTP/2 (h2c) next
+ * to HTTP/1.1 on the same port, both to clients that upgrade a first HTTP/1.1 request and
+ * to clients that start with the HTTP/2 preface. Spring Boot has no properties for the
+ * limits of HTTP/2 connections, so they are applied here from {@link Http2Properties}:
+ * Tomcat allows 100 concurrent streams by default, which a gateway multiplexing tiny
+ * conversion requests reaches quickly.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+@Configuration
+@ConditionalOnProperty(name = "server.http2.enabled", havingValue = "true")
+public class Http2Config {
+
+    @Bean
+    public WebServerFactoryCustomizer<TomcatServletWebServerFactory> http2ConnectionCustomizer(
+            Http2Properties properties) {
+        return factory -> factory.addConnectorCustomizers(connector -> {
+            for (UpgradeProtocol protocol : connector.findUpgradeProtocols()) {
+                if (protocol instanceof Http2Protocol http2) {
+                    http2.setMaxConcurrentStreams(properties.maxConcurrentStreams());
+                    http2.setMaxConcurrentStreamExecution(properties.maxConcurrentStreamExecution());
+                    http2.setKeepAliveTimeout(properties.keepAliveTimeout().toMillis());
+                }
+            }
+        });
+    }
+
+}
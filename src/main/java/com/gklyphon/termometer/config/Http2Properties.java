@@ -0,0 +1,30 @@
+package com.gklyphon.termometer.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the HTTP/2 connections of the embedded server, bound from the
+ * {@code termometer.http2} properties and applied when {@code server.http2.enabled} is
+ * set.
+ *
+ * @param maxConcurrentStreams         streams a client may keep open on one connection
+ *                                     (default 256)
+ * @param maxConcurrentStreamExecution streams of one connection processed at the same
+ *                                     time (default 256)
+ * @param keepAliveTimeout             how long an idle connection is kept open
+ *                                     (default 60 seconds)
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+@ConfigurationProperties(prefix = "termometer.http2")
+public record Http2Properties(
+        @DefaultValue("256") long maxConcurrentStreams,
+        @DefaultValue("256") int maxConcurrentStreamExecution,
+        @DefaultValue("60s") Duration keepAliveTimeout) {
+}
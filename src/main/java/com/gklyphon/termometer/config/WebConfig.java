@@ -0,0 +1,88 @@
+package com.gklyphon.termometer.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gklyphon.termometer.codec.JsonNumberHttpMessageConverter;
+import com.gklyphon.termometer.metrics.ConversionMetricsInterceptor;
+import com.gklyphon.termometer.model.ArithmeticMode;
+import com.gklyphon.termometer.model.TemperatureScale;
+import com.gklyphon.termometer.ratelimit.ClientRateLimiter;
+import com.gklyphon.termometer.ratelimit.LoadShedder;
+import com.gklyphon.termometer.ratelimit.LoadSheddingProperties;
+import com.gklyphon.termometer.ratelimit.RateLimitFilter;
+import com.gklyphon.termometer.ratelimit.RateLimitProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.format.FormatterRegistry;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Spring MVC configuration shared by the conversion controllers.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    /** Routes served by the conversion controllers */
+    public static final String[] CONVERSION_PATHS =
+            {"/celsius-to/**", "/fahrenheit-to/**", "/kelvin-to/**", "/convert", "/convert/**"};
+
+    /** Routes served by the conversion controllers, as servlet URL patterns */
+    public static final String[] CONVERSION_URL_PATTERNS =
+            {"/celsius-to/*", "/fahrenheit-to/*", "/kelvin-to/*", "/convert/*"};
+
+    private final ConversionMetricsInterceptor conversionMetricsInterceptor;
+    private final ObjectMapper objectMapper;
+
+    public WebConfig(ConversionMetricsInterceptor conversionMetricsInterceptor, ObjectMapper objectMapper) {
+        this.conversionMetricsInterceptor = conversionMetricsInterceptor;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Rate limits and sheds requests to the conversion controllers before they reach
+     * Spring MVC, see {@link RateLimitFilter}.
+     */
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(
+            ClientRateLimiter rateLimiter, RateLimitProperties rateLimitProperties,
+            LoadShedder loadShedder, LoadSheddingProperties loadSheddingProperties, MeterRegistry registry) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(new RateLimitFilter(
+                rateLimiter, rateLimitProperties, loadShedder, loadSheddingProperties, registry));
+        registration.addUrlPatterns(CONVERSION_URL_PATTERNS);
+        // After the observation filter, so rejected requests still show up in http.server.requests
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    /**
+     * Writes single conversion results ahead of the Jackson converter, see
+     * {@link JsonNumberHttpMessageConverter}.
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(0, new JsonNumberHttpMessageConverter(objectMapper));
+    }
+
+    @Override
+    public void addFormatters(FormatterRegistry registry) {
+        registry.addConverter(String.class, TemperatureScale.class, TemperatureScale::of);
+        registry.addConverter(String.class, ArithmeticMode.class, ArithmeticMode::of);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(conversionMetricsInterceptor).addPathPatterns(CONVERSION_PATHS);
+    }
+
+}
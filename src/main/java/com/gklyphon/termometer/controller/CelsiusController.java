@@ -1,13 +1,25 @@
 package com.gklyphon.termometer.controller;
 
 import org.springframework.http.HttpStatus;
+import com.gklyphon.termometer.codec.ColumnarFormat;
+import com.gklyphon.termometer.model.ArithmeticMode;
+import com.gklyphon.termometer.model.FixedPointValue;
+import com.gklyphon.termometer.service.BatchConversionService;
+import com.gklyphon.termometer.service.TemperatureConversionEngine;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.math.BigDecimal;
+import java.io.InputStream;
+
+import static com.gklyphon.termometer.model.TemperatureScale.*;
 
 /**
  *
@@ -19,7 +31,11 @@ import java.math.BigDecimal;
  * <li>Celsius to Fahrenheit</li>
  * <li>Celsius to Kelvin</li>
  * </ul>
- * <p>Conversions are performed using decimal values (BigDecimal).
+ * <p>Conversions are performed using decimal values (BigDecimal) by the shared
+ * {@link TemperatureConversionEngine}, or with scaled {@code long} arithmetic when
+ * {@code arithmetic=fixed-point} is requested. Each conversion is
+ * also available as a streaming batch endpoint that accepts many readings per request,
+ * and as a lookup-table endpoint for readings sent as scaled integers.
  *
  * @author JFCiscoHuerta
  * @version 1.0
@@ -30,6 +46,17 @@ import java.math.BigDecimal;
 @RequestMapping("/celsius-to")
 public class CelsiusController {
 
+    private final TemperatureConversionEngine conversionEngine;
+    private final ConversionResponder conversionResponder;
+    private final BatchConversionService batchConversionService;
+
+    public CelsiusController(TemperatureConversionEngine conversionEngine, ConversionResponder conversionResponder,
+            BatchConversionService batchConversionService) {
+        this.conversionEngine = conversionEngine;
+        this.conversionResponder = conversionResponder;
+        this.batchConversionService = batchConversionService;
+    }
+
     /**
      * Converts Celsius degrees to Fahrenheit degrees.
      *
@@ -37,18 +64,61 @@ public class CelsiusController {
      * the temperature in Celsius. If no value is provided, 0°C is used as the default.
      *
      * <p>The conversion formula used is:
-     * <pre>(Celsius * 1.8) + 32</pre>
+     * <pre>Celsius * 9 / 5 + 32</pre>
      *
      * @param degrees Temperature in Celsius to convert (optional, default value is 0)
+     * @param arithmetic {@code decimal} for the exact result (default), or {@code fixed-point}
+     *                   for a result rounded half-even to the configured scale
      * @return {@link ResponseEntity} with the temperature converted to Fahrenheit
      * in the response body and an HTTP status code of 200 (OK)
      */
     @GetMapping("/fahrenheit")
     public ResponseEntity<?> celsiusToFahrenheit(
-            @RequestParam(name = "degrees", defaultValue = "0") BigDecimal degrees) {
-        return ResponseEntity.ok().body(
-                (degrees.multiply(BigDecimal.valueOf(1.8)))
-                        .add(BigDecimal.valueOf(32))
+            @RequestParam(name = "degrees", defaultValue = "0") String degrees,
+            @RequestParam(name = "arithmetic", defaultValue = "decimal") ArithmeticMode arithmetic) {
+        return conversionResponder.convert(CELSIUS, FAHRENHEIT, degrees, arithmetic);
+    }
+
+    /**
+     * Converts a Celsius reading sent as a scaled integer to Fahrenheit.
+     *
+     * <p>The reading is {@code value / 10^resolution} degrees, for example {@code value=366}
+     * with {@code resolution=1} for 36.6. Readings in the configured range with the
+     * configured resolution are read from a precomputed table; any other reading is
+     * converted arithmetically with the same rounding.
+     *
+     * @param value      the scaled temperature in Celsius
+     * @param resolution the decimal places of {@code value} (optional, defaults to the table resolution)
+     * @return {@link ResponseEntity} with the temperature converted to Fahrenheit, with the
+     * configured output resolution
+     */
+    @GetMapping("/fahrenheit/scaled")
+    public ResponseEntity<FixedPointValue> celsiusToFahrenheitScaled(
+            @RequestParam(name = "value") long value,
+            @RequestParam(name = "resolution", defaultValue = "${termometer.lookup.resolution:1}") int resolution) {
+        return conversionResponder.convertScaled(CELSIUS, FAHRENHEIT, value, resolution);
+    }
+
+    /**
+     * Converts a batch of Celsius readings to Fahrenheit.
+     *
+     * <p>The request body is either a JSON array of numbers or newline-delimited JSON
+     * with one number per line. Readings are converted while the body is being read and
+     * the results are streamed back in the same format, so large batches are never held
+     * in memory.
+     *
+     * @param headers     the headers of the request, with the format and length of its body
+     * @param body        the readings in Celsius
+     * @return {@link ResponseEntity} streaming the readings converted to Fahrenheit
+     */
+    @PostMapping(path = "/fahrenheit/batch",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE,
+                    ColumnarFormat.MEDIA_TYPE_VALUE})
+    public ResponseEntity<StreamingResponseBody> celsiusToFahrenheitBatch(
+            @RequestHeader HttpHeaders headers, InputStream body) {
+        return ResponseEntity.ok().contentType(headers.getContentType()).body(
+                batchConversionService.stream(body, headers,
+                        conversionEngine.conversion(CELSIUS, FAHRENHEIT))
         );
     }
 
@@ -62,14 +132,55 @@ public class CelsiusController {
      * <pre>Celsius + 273.15</pre>
      *
      * @param degrees Temperature in Celsius to convert (optional, default value is 0)
+     * @param arithmetic {@code decimal} for the exact result (default), or {@code fixed-point}
+     *                   for a result rounded half-even to the configured scale
      * @return {@link ResponseEntity} with the temperature converted to Kelvin
      * in the response body and an HTTP status code of 200 (OK)
      */
     @GetMapping("/kelvin")
     public ResponseEntity<?> celsiusToKelvin(
-            @RequestParam(name = "degrees", defaultValue = "0") BigDecimal degrees) {
-        return ResponseEntity.ok().body(
-                degrees.subtract(BigDecimal.valueOf(273.15))
+            @RequestParam(name = "degrees", defaultValue = "0") String degrees,
+            @RequestParam(name = "arithmetic", defaultValue = "decimal") ArithmeticMode arithmetic) {
+        return conversionResponder.convert(CELSIUS, KELVIN, degrees, arithmetic);
+    }
+
+    /**
+     * Converts a Celsius reading sent as a scaled integer to Kelvin.
+     *
+     * <p>The reading is {@code value / 10^resolution} degrees, for example {@code value=366}
+     * with {@code resolution=1} for 36.6. Readings in the configured range with the
+     * configured resolution are read from a precomputed table; any other reading is
+     * converted arithmetically with the same rounding.
+     *
+     * @param value      the scaled temperature in Celsius
+     * @param resolution the decimal places of {@code value} (optional, defaults to the table resolution)
+     * @return {@link ResponseEntity} with the temperature converted to Kelvin, with the
+     * configured output resolution
+     */
+    @GetMapping("/kelvin/scaled")
+    public ResponseEntity<FixedPointValue> celsiusToKelvinScaled(
+            @RequestParam(name = "value") long value,
+            @RequestParam(name = "resolution", defaultValue = "${termometer.lookup.resolution:1}") int resolution) {
+        return conversionResponder.convertScaled(CELSIUS, KELVIN, value, resolution);
+    }
+
+    /**
+     * Converts a batch of Celsius readings to Kelvin.
+     *
+     * <p>Accepts and returns the same formats as {@link #celsiusToFahrenheitBatch}.
+     *
+     * @param headers     the headers of the request, with the format and length of its body
+     * @param body        the readings in Celsius
+     * @return {@link ResponseEntity} streaming the readings converted to Kelvin
+     */
+    @PostMapping(path = "/kelvin/batch",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE,
+                    ColumnarFormat.MEDIA_TYPE_VALUE})
+    public ResponseEntity<StreamingResponseBody> celsiusToKelvinBatch(
+            @RequestHeader HttpHeaders headers, InputStream body) {
+        return ResponseEntity.ok().contentType(headers.getContentType()).body(
+                batchConversionService.stream(body, headers,
+                        conversionEngine.conversion(CELSIUS, KELVIN))
         );
     }
 
@@ -0,0 +1,119 @@
+package com.gklyphon.termometer.controller;
+
+import com.gklyphon.termometer.codec.ColumnarFormat;
+import com.gklyphon.termometer.model.ArithmeticMode;
+import com.gklyphon.termometer.model.FixedPointValue;
+import com.gklyphon.termometer.model.TemperatureScale;
+import com.gklyphon.termometer.service.BatchConversionService;
+import com.gklyphon.termometer.service.TemperatureConversionEngine;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+
+/**
+ * REST controller that converts between any two supported temperature scales.
+ *
+ * <p>The scales are passed as the {@code from} and {@code to} parameters, by name and in
+ * any case, for example {@code /convert?from=rankine&to=celsius&degrees=491.67}. The
+ * supported scales are those of {@link TemperatureScale}: Celsius, Fahrenheit, Kelvin,
+ * Rankine, Réaumur, Delisle and Newton. Every pair resolves to the conversion the
+ * {@link TemperatureConversionEngine} precomputed for it at startup, so adding a scale
+ * needs no new endpoint. The {@code /celsius-to}, {@code /fahrenheit-to} and
+ * {@code /kelvin-to} routes remain as aliases for their pairs.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+@RestController
+@RequestMapping("/convert")
+public class ConversionController {
+
+    private final TemperatureConversionEngine conversionEngine;
+    private final ConversionResponder conversionResponder;
+    private final BatchConversionService batchConversionService;
+
+    public ConversionController(TemperatureConversionEngine conversionEngine, ConversionResponder conversionResponder,
+            BatchConversionService batchConversionService) {
+        this.conversionEngine = conversionEngine;
+        this.conversionResponder = conversionResponder;
+        this.batchConversionService = batchConversionService;
+    }
+
+    /**
+     * Converts a temperature from one scale to another.
+     *
+     * @param from       the scale of {@code degrees}
+     * @param to         the scale to convert to
+     * @param degrees    the temperature to convert (optional, default value is 0)
+     * @param arithmetic {@code decimal} for the exact result (default), or {@code fixed-point}
+     *                   for a result rounded half-even to the configured scale
+     * @return {@link ResponseEntity} with the converted temperature in the response body
+     * and an HTTP status code of 200 (OK)
+     */
+    @GetMapping
+    public ResponseEntity<?> convert(
+            @RequestParam(name = "from") TemperatureScale from,
+            @RequestParam(name = "to") TemperatureScale to,
+            @RequestParam(name = "degrees", defaultValue = "0") String degrees,
+            @RequestParam(name = "arithmetic", defaultValue = "decimal") ArithmeticMode arithmetic) {
+        return conversionResponder.convert(from, to, degrees, arithmetic);
+    }
+
+    /**
+     * Converts a reading sent as a scaled integer from one scale to another.
+     *
+     * <p>The reading is {@code value / 10^resolution} degrees; see the {@code /scaled}
+     * endpoints of the scale controllers.
+     *
+     * @param from       the scale of the reading
+     * @param to         the scale to convert to
+     * @param value      the scaled temperature
+     * @param resolution the decimal places of {@code value} (optional, defaults to the table resolution)
+     * @return {@link ResponseEntity} with the converted temperature, with the configured
+     * output resolution
+     */
+    @GetMapping("/scaled")
+    public ResponseEntity<FixedPointValue> convertScaled(
+            @RequestParam(name = "from") TemperatureScale from,
+            @RequestParam(name = "to") TemperatureScale to,
+            @RequestParam(name = "value") long value,
+            @RequestParam(name = "resolution", defaultValue = "${termometer.lookup.resolution:1}") int resolution) {
+        return conversionResponder.convertScaled(from, to, value, resolution);
+    }
+
+    /**
+     * Converts a batch of readings from one scale to another.
+     *
+     * <p>Accepts and returns the same formats as the batch endpoints of the scale
+     * controllers: a JSON array, newline-delimited JSON or the columnar format.
+     *
+     * @param from        the scale of the readings
+     * @param to          the scale to convert to
+     * @param headers     the headers of the request, with the format and length of its body
+     * @param body        the readings
+     * @return {@link ResponseEntity} streaming the converted readings
+     */
+    @PostMapping(path = "/batch",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE,
+                    ColumnarFormat.MEDIA_TYPE_VALUE})
+    public ResponseEntity<StreamingResponseBody> convertBatch(
+            @RequestParam(name = "from") TemperatureScale from,
+            @RequestParam(name = "to") TemperatureScale to,
+            @RequestHeader HttpHeaders headers, InputStream body) {
+        return ResponseEntity.ok().contentType(headers.getContentType()).body(
+                batchConversionService.stream(body, headers, conversionEngine.conversion(from, to))
+        );
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.gklyphon.termometer.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * Translates conversion failures caused by the request into HTTP responses.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+@RestControllerAdvice(basePackageClasses = ConversionExceptionHandler.class)
+class ConversionExceptionHandler {
+
+    /**
+     * Handles readings whose converted value cannot be represented, such as a scaled
+     * reading that overflows a {@code long} once converted.
+     *
+     * @param e the arithmetic failure
+     * @return a problem detail with an HTTP status code of 400 (Bad Request)
+     */
+    @ExceptionHandler(ArithmeticException.class)
+    ProblemDetail handleArithmeticException(ArithmeticException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST,
+                "The reading cannot be converted: " + e.getMessage());
+    }
+
+    /**
+     * Handles readings that are not numbers, such as {@code degrees=warm}.
+     *
+     * @param e the parsing failure
+     * @return a problem detail with an HTTP status code of 400 (Bad Request)
+     */
+    @ExceptionHandler(NumberFormatException.class)
+    ProblemDetail handleNumberFormatException(NumberFormatException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, "The reading is not a number");
+    }
+
+}
@@ -0,0 +1,104 @@
+package com.gklyphon.termometer.controller;
+
+import com.gklyphon.termometer.audit.AuditJournal;
+import com.gklyphon.termometer.audit.AuditRecord;
+import com.gklyphon.termometer.codec.JsonNumberHttpMessageConverter;
+import com.gklyphon.termometer.model.ArithmeticMode;
+import com.gklyphon.termometer.model.FixedPointValue;
+import com.gklyphon.termometer.model.TemperatureScale;
+import com.gklyphon.termometer.service.ConversionResultCache;
+import com.gklyphon.termometer.service.FixedPointConverter;
+import com.gklyphon.termometer.service.LookupTableConverter;
+import com.gklyphon.termometer.service.TemperatureConversionEngine;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+
+/**
+ * Builds the responses of the single-value conversion endpoints.
+ *
+ * <p>When the result cache is enabled, the cached result is returned and written from its
+ * pre-serialized JSON bytes by the {@link JsonNumberHttpMessageConverter}; otherwise the result is converted by the engine and serialized by the
+ * regular message converters. Both paths produce the same response body.
+ *
+ * <p>Readings requested with {@link ArithmeticMode#FIXED_POINT} arithmetic skip both and
+ * are converted by the {@link FixedPointConverter} from the text of the parameter, and
+ * scaled integer readings by the {@link LookupTableConverter}. Every conversion is
+ * recorded in the {@link AuditJournal} when it is enabled.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+@Component
+class ConversionResponder {
+
+    private final TemperatureConversionEngine conversionEngine;
+    private final ConversionResultCache resultCache;
+    private final FixedPointConverter fixedPointConverter;
+    private final LookupTableConverter lookupTableConverter;
+    private final AuditJournal auditJournal;
+
+    ConversionResponder(TemperatureConversionEngine conversionEngine, ConversionResultCache resultCache,
+                        FixedPointConverter fixedPointConverter, LookupTableConverter lookupTableConverter,
+                        AuditJournal auditJournal) {
+        this.conversionEngine = conversionEngine;
+        this.resultCache = resultCache;
+        this.fixedPointConverter = fixedPointConverter;
+        this.lookupTableConverter = lookupTableConverter;
+        this.auditJournal = auditJournal;
+    }
+
+    /**
+     * Converts a single reading.
+     *
+     * @param source     the scale of the reading
+     * @param target     the scale to convert the reading to
+     * @param degrees    the reading, as a plain or scientific decimal number
+     * @param arithmetic the arithmetic used to convert the reading
+     * @return {@link ResponseEntity} with the converted reading and an HTTP status code of 200 (OK)
+     * @throws NumberFormatException if the reading is not a number
+     */
+    ResponseEntity<?> convert(TemperatureScale source, TemperatureScale target, String degrees,
+                              ArithmeticMode arithmetic) {
+        if (arithmetic == ArithmeticMode.FIXED_POINT) {
+            FixedPointValue reading = FixedPointValue.parse(degrees);
+            FixedPointValue result = fixedPointConverter.convert(source, target, reading);
+            auditJournal.record(AuditRecord.Kind.FIXED_POINT, source, target, reading, result);
+            return ResponseEntity.ok(result);
+        }
+        return convert(source, target, new BigDecimal(degrees.strip()));
+    }
+
+    /**
+     * Converts a single reading sent as a scaled integer.
+     *
+     * @param source     the scale of the reading
+     * @param target     the scale to convert the reading to
+     * @param value      the reading multiplied by 10<sup>resolution</sup>
+     * @param resolution the decimal places of the reading
+     * @return {@link ResponseEntity} with the converted reading, with the output resolution of
+     * the lookup tables
+     */
+    ResponseEntity<FixedPointValue> convertScaled(TemperatureScale source, TemperatureScale target, long value,
+                                                  int resolution) {
+        FixedPointValue result = lookupTableConverter.convert(source, target, value, resolution);
+        auditJournal.record(AuditRecord.Kind.SCALED, source, target, value, resolution, result.unscaled(),
+                result.scale());
+        return ResponseEntity.ok(result);
+    }
+
+    private ResponseEntity<?> convert(TemperatureScale source, TemperatureScale target, BigDecimal degrees) {
+        if (resultCache.isEnabled()) {
+            ConversionResultCache.CachedConversion cached = resultCache.get(source, target, degrees);
+            auditJournal.record(AuditRecord.Kind.DECIMAL, source, target, degrees, cached.value());
+            return ResponseEntity.ok(cached);
+        }
+        BigDecimal result = conversionEngine.convert(source, target, degrees);
+        auditJournal.record(AuditRecord.Kind.DECIMAL, source, target, degrees, result);
+        return ResponseEntity.ok().body(result);
+    }
+
+}
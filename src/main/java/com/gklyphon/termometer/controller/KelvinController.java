@@ -1,12 +1,24 @@
 package com.gklyphon.termometer.controller;
 
+import com.gklyphon.termometer.codec.ColumnarFormat;
+import com.gklyphon.termometer.model.ArithmeticMode;
+import com.gklyphon.termometer.model.FixedPointValue;
+import com.gklyphon.termometer.service.BatchConversionService;
+import com.gklyphon.termometer.service.TemperatureConversionEngine;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.math.BigDecimal;
+import java.io.InputStream;
+
+import static com.gklyphon.termometer.model.TemperatureScale.*;
 
 /**
  * Controller for converting temperatures from Kelvin to other scales.
@@ -16,7 +28,11 @@ import java.math.BigDecimal;
  * <li>Kelvin to Celsius</li>
  * <li>Kelvin to Fahrenheit</li>
  * </ul>
- * <p>Conversions are performed using decimal values (BigDecimal).
+ * <p>Conversions are performed using decimal values (BigDecimal) by the shared
+ * {@link TemperatureConversionEngine}, or with scaled {@code long} arithmetic when
+ * {@code arithmetic=fixed-point} is requested. Each conversion is
+ * also available as a streaming batch endpoint that accepts many readings per request,
+ * and as a lookup-table endpoint for readings sent as scaled integers.
  *
  * @author JFCiscoHuerta
  * @version 1.0
@@ -27,6 +43,17 @@ import java.math.BigDecimal;
 @RequestMapping("/kelvin-to")
 public class KelvinController {
 
+    private final TemperatureConversionEngine conversionEngine;
+    private final ConversionResponder conversionResponder;
+    private final BatchConversionService batchConversionService;
+
+    public KelvinController(TemperatureConversionEngine conversionEngine, ConversionResponder conversionResponder,
+            BatchConversionService batchConversionService) {
+        this.conversionEngine = conversionEngine;
+        this.conversionResponder = conversionResponder;
+        this.batchConversionService = batchConversionService;
+    }
+
     /**
      * Converts Kelvin to Celsius.
      *
@@ -34,13 +61,55 @@ public class KelvinController {
      * the equivalent temperature in Celsius. If no value is provided, it defaults to 0 K.
      *
      * @param degrees the temperature in Kelvin to be converted to Celsius
+     * @param arithmetic {@code decimal} for the exact result (default), or {@code fixed-point}
+     *                   for a result rounded half-even to the configured scale
      * @return the equivalent temperature in Celsius
      */
     @GetMapping("/celsius")
     public ResponseEntity<?> kelvinToCelsius(
-            @RequestParam(name = "degrees", defaultValue = "0") BigDecimal degrees) {
-        return ResponseEntity.ok().body(
-                degrees.subtract(BigDecimal.valueOf(273.15))
+            @RequestParam(name = "degrees", defaultValue = "0") String degrees,
+            @RequestParam(name = "arithmetic", defaultValue = "decimal") ArithmeticMode arithmetic) {
+        return conversionResponder.convert(KELVIN, CELSIUS, degrees, arithmetic);
+    }
+
+    /**
+     * Converts a Kelvin reading sent as a scaled integer to Celsius.
+     *
+     * <p>The reading is {@code value / 10^resolution} degrees, for example {@code value=366}
+     * with {@code resolution=1} for 36.6. Readings in the configured range with the
+     * configured resolution are read from a precomputed table; any other reading is
+     * converted arithmetically with the same rounding.
+     *
+     * @param value      the scaled temperature in Kelvin
+     * @param resolution the decimal places of {@code value} (optional, defaults to the table resolution)
+     * @return {@link ResponseEntity} with the temperature converted to Celsius, with the
+     * configured output resolution
+     */
+    @GetMapping("/celsius/scaled")
+    public ResponseEntity<FixedPointValue> kelvinToCelsiusScaled(
+            @RequestParam(name = "value") long value,
+            @RequestParam(name = "resolution", defaultValue = "${termometer.lookup.resolution:1}") int resolution) {
+        return conversionResponder.convertScaled(KELVIN, CELSIUS, value, resolution);
+    }
+
+    /**
+     * Converts a batch of Kelvin readings to Celsius.
+     *
+     * <p>The request body is either a JSON array of numbers or newline-delimited JSON
+     * with one number per line. The converted readings are streamed back in the same format.
+     *
+     * @param headers     the headers of the request, with the format and length of its body
+     * @param body        the readings in Kelvin
+     * @return the equivalent readings in Celsius, streamed as they are converted
+     */
+    @PostMapping(path = "/celsius/batch",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE,
+                    ColumnarFormat.MEDIA_TYPE_VALUE})
+    public ResponseEntity<StreamingResponseBody> kelvinToCelsiusBatch(
+            @RequestHeader HttpHeaders headers, InputStream body) {
+        return ResponseEntity.ok().contentType(headers.getContentType()).body(
+                batchConversionService.stream(body, headers,
+                        conversionEngine.conversion(KELVIN, CELSIUS))
         );
     }
 
@@ -51,18 +120,56 @@ public class KelvinController {
      * the equivalent temperature in Fahrenheit. If no value is provided, it defaults to 0 K.
      *
      * @param degrees the temperature in Kelvin to be converted to Fahrenheit
+     * @param arithmetic {@code decimal} for the exact result (default), or {@code fixed-point}
+     *                   for a result rounded half-even to the configured scale
      * @return the equivalent temperature in Fahrenheit
      */
     @GetMapping("/fahrenheit")
     public ResponseEntity<?> kelvinToFahrenheit(
-            @RequestParam(name = "degrees", defaultValue = "0") BigDecimal degrees) {
+            @RequestParam(name = "degrees", defaultValue = "0") String degrees,
+            @RequestParam(name = "arithmetic", defaultValue = "decimal") ArithmeticMode arithmetic) {
 
-        return ResponseEntity.ok().body(
-                (degrees.subtract(BigDecimal.valueOf(273.15)))
-                        .multiply(BigDecimal.valueOf(1.8))
-                        .add(BigDecimal.valueOf(32))
-        );
+        return conversionResponder.convert(KELVIN, FAHRENHEIT, degrees, arithmetic);
+    }
+
+    /**
+     * Converts a Kelvin reading sent as a scaled integer to Fahrenheit.
+     *
+     * <p>The reading is {@code value / 10^resolution} degrees, for example {@code value=366}
+     * with {@code resolution=1} for 36.6. Readings in the configured range with the
+     * configured resolution are read from a precomputed table; any other reading is
+     * converted arithmetically with the same rounding.
+     *
+     * @param value      the scaled temperature in Kelvin
+     * @param resolution the decimal places of {@code value} (optional, defaults to the table resolution)
+     * @return {@link ResponseEntity} with the temperature converted to Fahrenheit, with the
+     * configured output resolution
+     */
+    @GetMapping("/fahrenheit/scaled")
+    public ResponseEntity<FixedPointValue> kelvinToFahrenheitScaled(
+            @RequestParam(name = "value") long value,
+            @RequestParam(name = "resolution", defaultValue = "${termometer.lookup.resolution:1}") int resolution) {
+        return conversionResponder.convertScaled(KELVIN, FAHRENHEIT, value, resolution);
     }
 
+    /**
+     * Converts a batch of Kelvin readings to Fahrenheit.
+     *
+     * <p>Accepts and returns the same formats as {@link #kelvinToCelsiusBatch}.
+     *
+     * @param headers     the headers of the request, with the format and length of its body
+     * @param body        the readings in Kelvin
+     * @return the equivalent readings in Fahrenheit, streamed as they are converted
+     */
+    @PostMapping(path = "/fahrenheit/batch",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE,
+                    ColumnarFormat.MEDIA_TYPE_VALUE})
+    public ResponseEntity<StreamingResponseBody> kelvinToFahrenheitBatch(
+            @RequestHeader HttpHeaders headers, InputStream body) {
+        return ResponseEntity.ok().contentType(headers.getContentType()).body(
+                batchConversionService.stream(body, headers,
+                        conversionEngine.conversion(KELVIN, FAHRENHEIT))
+        );
+    }
 
 }
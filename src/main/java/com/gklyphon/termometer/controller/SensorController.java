@@ -0,0 +1,94 @@
+package com.gklyphon.termometer.controller;
+
+import com.gklyphon.termometer.aggregation.IngestionResult;
+import com.gklyphon.termometer.aggregation.SensorAggregator;
+import com.gklyphon.termometer.aggregation.WindowStatistics;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * REST controller that ingests sensor readings and serves rolling statistics of them.
+ *
+ * <p>Readings of any scale are normalized to the scale configured with
+ * {@code termometer.aggregation.scale} and aggregated per sensor in time buckets, see
+ * {@link SensorAggregator}.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+@RestController
+@RequestMapping("/sensors")
+public class SensorController {
+
+    private final SensorAggregator sensorAggregator;
+
+    public SensorController(SensorAggregator sensorAggregator) {
+        this.sensorAggregator = sensorAggregator;
+    }
+
+    /**
+     * Ingests a stream of readings.
+     *
+     * <p>The body is newline-delimited JSON with one reading per line, for example
+     * <pre>{"sensor":"boiler-1","scale":"FAHRENHEIT","degrees":180.5,"timestamp":1760700000000}</pre>
+     * The timestamp is in epoch milliseconds and defaults to the time the reading arrives.
+     * Readings are aggregated while the body is read, so the stream can be kept open and
+     * sent in chunks.
+     *
+     * @param body the readings
+     * @return {@link ResponseEntity} with the number of readings accepted and dropped as late
+     * @throws IOException if the body cannot be read
+     */
+    @PostMapping(path = "/readings", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<IngestionResult> ingestReadings(InputStream body) throws IOException {
+        return ResponseEntity.ok(sensorAggregator.ingest(body));
+    }
+
+    /**
+     * Returns the statistics of a sliding window ending now.
+     *
+     * @param sensor the sensor
+     * @param window the length of the window as an ISO-8601 duration, a multiple of the
+     *               bucket length (optional, default value is PT1M)
+     * @return {@link ResponseEntity} with the count, minimum, maximum, mean and percentiles
+     * of the readings in the window
+     */
+    @GetMapping("/{sensor}/statistics")
+    public ResponseEntity<WindowStatistics> slidingStatistics(
+            @PathVariable String sensor,
+            @RequestParam(name = "window", defaultValue = "PT1M") Duration window) {
+        return ResponseEntity.ok(sensorAggregator.sliding(sensor, window, Instant.now()));
+    }
+
+    /**
+     * Returns the statistics of the last completed tumbling windows.
+     *
+     * @param sensor the sensor
+     * @param window the length of each window as an ISO-8601 duration, a multiple of the
+     *               bucket length (optional, default value is PT1M)
+     * @param count  the number of windows (optional, default value is 5)
+     * @return {@link ResponseEntity} with the statistics of each window, the most recent last
+     */
+    @GetMapping("/{sensor}/statistics/tumbling")
+    public ResponseEntity<List<WindowStatistics>> tumblingStatistics(
+            @PathVariable String sensor,
+            @RequestParam(name = "window", defaultValue = "PT1M") Duration window,
+            @RequestParam(name = "count", defaultValue = "5") int count) {
+        return ResponseEntity.ok(sensorAggregator.tumbling(sensor, window, count, Instant.now()));
+    }
+
+}
@@ -0,0 +1,295 @@
+package com.gklyphon.termometer.grpc;
+
+import com.gklyphon.termometer.audit.AuditBatch;
+import com.gklyphon.termometer.audit.AuditJournal;
+import com.gklyphon.termometer.audit.AuditRecord;
+import com.gklyphon.termometer.grpc.v1.Batch;
+import com.gklyphon.termometer.grpc.v1.BatchRequest;
+import com.gklyphon.termometer.grpc.v1.ConversionServiceGrpc;
+import com.gklyphon.termometer.grpc.v1.ConvertRequest;
+import com.gklyphon.termometer.grpc.v1.ConvertResponse;
+import com.gklyphon.termometer.grpc.v1.Scale;
+import com.gklyphon.termometer.metrics.ConversionMetrics;
+import com.gklyphon.termometer.model.TemperatureScale;
+import com.gklyphon.termometer.service.ArrayConversionKernel;
+import com.gklyphon.termometer.service.ScaleConversion;
+import com.gklyphon.termometer.service.TemperatureConversionEngine;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.nio.DoubleBuffer;
+
+/**
+ * gRPC service exposing the conversions of the REST controllers.
+ *
+ * <p>Single readings go through the {@link TemperatureConversionEngine}: decimal readings
+ * are converted exactly, like the single-value endpoints, and binary readings with the
+ * {@code double} arithmetic of the batch endpoints. Batches arrive as packed
+ * {@code double} arrays and are converted in place by the {@link ArrayConversionKernel},
+ * one chunk at a time. Readings converted by the streaming calls are counted in the
+ * {@code termometer.conversion.readings} counter. Conversions are recorded in the
+ * {@link AuditJournal} like those of the REST controllers, every reading of a stream
+ * through an {@link AuditBatch}.
+ *
+ * <p>{@code ConvertBatch} answers all its readings in one message, so a call sending more
+ * than {@code termometer.grpc.max-batch-readings} readings ends with
+ * {@code RESOURCE_EXHAUSTED}. {@code ConvertStream} requests the next chunk only once the
+ * client is ready to receive the answer of the previous one, so a client that does not
+ * read its answers stops the server from reading its requests instead of having them
+ * buffered.
+ *
+ * <p>Invalid scales or readings end the call with {@code INVALID_ARGUMENT}.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+@Component
+public class ConversionGrpcService extends ConversionServiceGrpc.ConversionServiceImplBase {
+
+    private final TemperatureConversionEngine conversionEngine;
+    private final ArrayConversionKernel kernel;
+    private final ConversionMetrics metrics;
+    private final AuditJournal auditJournal;
+    private final int maxBatchReadings;
+
+    public ConversionGrpcService(TemperatureConversionEngine conversionEngine, ArrayConversionKernel kernel,
+                                 ConversionMetrics metrics, AuditJournal auditJournal, GrpcProperties properties) {
+        this.conversionEngine = conversionEngine;
+        this.kernel = kernel;
+        this.metrics = metrics;
+        this.auditJournal = auditJournal;
+        this.maxBatchReadings = properties.maxBatchReadings();
+    }
+
+    @Override
+    public void convert(ConvertRequest request, StreamObserver<ConvertResponse> responseObserver) {
+        ConvertResponse response;
+        try {
+            ScaleConversion conversion = conversion(request.getSource(), request.getTarget());
+            response = switch (request.getReadingCase()) {
+                case DEGREES -> {
+                    double result = conversion.apply(request.getDegrees());
+                    auditJournal.record(conversion.getSource(), conversion.getTarget(), request.getDegrees(), result);
+                    yield ConvertResponse.newBuilder().setDegrees(result).build();
+                }
+                case DECIMAL -> {
+                    BigDecimal reading = decimal(request.getDecimal());
+                    BigDecimal result = conversion.apply(reading);
+                    auditJournal.record(AuditRecord.Kind.DECIMAL, conversion.getSource(), conversion.getTarget(),
+                            reading, result);
+                    yield ConvertResponse.newBuilder().setDecimal(result.toString()).build();
+                }
+                case READING_NOT_SET -> throw invalid("The request has no reading");
+            };
+        } catch (StatusRuntimeException e) {
+            responseObserver.onError(e);
+            return;
+        }
+        responseObserver.onNext(response);
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public StreamObserver<BatchRequest> convertBatch(StreamObserver<Batch> responseObserver) {
+        Batch.Builder result = Batch.newBuilder();
+        return new BatchObserver(responseObserver, maxBatchReadings) {
+            @Override
+            void accept(double[] values, int length) {
+                for (int i = 0; i < length; i++) {
+                    result.addDegrees(values[i]);
+                }
+            }
+
+            @Override
+            void complete() {
+                responseObserver.onNext(result.build());
+            }
+        };
+    }
+
+    @Override
+    public StreamObserver<BatchRequest> convertStream(StreamObserver<Batch> responseObserver) {
+        ServerCallStreamObserver<Batch> call = (ServerCallStreamObserver<Batch>) responseObserver;
+        ReadyRequester requester = new ReadyRequester(call);
+        call.disableAutoRequest();
+        call.setOnReadyHandler(requester);
+        return new BatchObserver(responseObserver, Long.MAX_VALUE) {
+            @Override
+            void accept(double[] values, int length) {
+                Batch.Builder chunk = Batch.newBuilder();
+                for (int i = 0; i < length; i++) {
+                    chunk.addDegrees(values[i]);
+                }
+                commit();
+                responseObserver.onNext(chunk.build());
+                requester.next();
+            }
+
+            @Override
+            void complete() {
+            }
+        };
+    }
+
+    private ScaleConversion conversion(Scale source, Scale target) {
+        return conversionEngine.conversion(scale(source), scale(target));
+    }
+
+    private static TemperatureScale scale(Scale scale) {
+        if (scale == Scale.SCALE_UNSPECIFIED || scale == Scale.UNRECOGNIZED) {
+            throw invalid("Both scales must be set to a known scale");
+        }
+        return TemperatureScale.valueOf(scale.name());
+    }
+
+    private static BigDecimal decimal(String value) {
+        try {
+            return new BigDecimal(value);
+        } catch (NumberFormatException e) {
+            throw invalid("Not a decimal reading: " + value);
+        }
+    }
+
+    private static StatusRuntimeException invalid(String description) {
+        return Status.INVALID_ARGUMENT.withDescription(description).asRuntimeException();
+    }
+
+    /*
+     * Requests one chunk at a time while the client reads the answers, and the next one once
+     * it is ready again. The call runs its handlers one at a time, so no field is shared
+     * between threads
+     */
+    private static final class ReadyRequester implements Runnable {
+
+        private final ServerCallStreamObserver<Batch> call;
+        private boolean requested;
+
+        ReadyRequester(ServerCallStreamObserver<Batch> call) {
+            this.call = call;
+        }
+
+        /* Called when the call becomes ready to send */
+        @Override
+        public void run() {
+            if (call.isReady() && !requested) {
+                requested = true;
+                call.request(1);
+            }
+        }
+
+        /* Called once a chunk has been answered */
+        void next() {
+            if (call.isReady()) {
+                call.request(1);
+            } else {
+                requested = false;
+            }
+        }
+    }
+
+    /*
+     * Converts the chunks of a stream with the scales of its first chunk, reusing one array
+     * for the readings of each chunk
+     */
+    private abstract class BatchObserver implements StreamObserver<BatchRequest> {
+
+        private final StreamObserver<Batch> responseObserver;
+        private final long maxReadings;
+        private ScaleConversion conversion;
+        private AuditBatch audit;
+        private double[] readings = new double[0];
+        private double[] values = new double[0];
+        private long count;
+        private boolean failed;
+
+        BatchObserver(StreamObserver<Batch> responseObserver, long maxReadings) {
+            this.responseObserver = responseObserver;
+            this.maxReadings = maxReadings;
+        }
+
+        abstract void accept(double[] values, int length);
+
+        abstract void complete();
+
+        @Override
+        public void onNext(BatchRequest request) {
+            if (failed) {
+                return;
+            }
+            try {
+                if (conversion == null) {
+                    conversion = conversion(request.getSource(), request.getTarget());
+                    audit = auditJournal.batch(conversion.getSource(), conversion.getTarget());
+                } else if (changes(request.getSource(), conversion.getSource())
+                        || changes(request.getTarget(), conversion.getTarget())) {
+                    throw invalid("The scales of a stream cannot change");
+                }
+                if (count + request.getDegreesCount() > maxReadings) {
+                    throw Status.RESOURCE_EXHAUSTED
+                            .withDescription("A batch may hold at most " + maxReadings + " readings")
+                            .asRuntimeException();
+                }
+            } catch (StatusRuntimeException e) {
+                abort();
+                responseObserver.onError(e);
+                return;
+            }
+            int length = request.getDegreesCount();
+            if (values.length < length) {
+                readings = new double[length];
+                values = new double[length];
+            }
+            for (int i = 0; i < length; i++) {
+                readings[i] = values[i] = request.getDegrees(i);
+            }
+            kernel.apply(conversion, values, 0, length);
+            audit.record(DoubleBuffer.wrap(readings), values, length);
+            accept(values, length);
+            count += length;
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (!failed) {
+                abort();
+            }
+        }
+
+        @Override
+        public void onCompleted() {
+            if (failed) {
+                return;
+            }
+            if (conversion != null) {
+                metrics.recordReadings(conversion.getSource(), conversion.getTarget(), count);
+                audit.close();
+            }
+            complete();
+            responseObserver.onCompleted();
+        }
+
+        /* Closes the journal batch of a stream that fails, so the readings already converted are recorded */
+        private void abort() {
+            failed = true;
+            if (audit != null) {
+                audit.close();
+            }
+        }
+
+        /* Waits, with SYNC durability, for the readings recorded before they are answered */
+        void commit() {
+            audit.commit();
+        }
+
+        private static boolean changes(Scale scale, TemperatureScale current) {
+            return scale != Scale.SCALE_UNSPECIFIED && !scale.name().equals(current.name());
+        }
+    }
+
+}
@@ -0,0 +1,31 @@
+package com.gklyphon.termometer.grpc;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Configuration of the gRPC server, bound from the {@code termometer.grpc} properties.
+ *
+ * @param enabled               whether the gRPC server is started (default true)
+ * @param address               address the server listens on (default 127.0.0.1, local
+ *                              clients only)
+ * @param port                  port the server listens on, 0 for any free port (default 9090)
+ * @param maxInboundMessageSize largest message a client may send (default 16MB)
+ * @param maxBatchReadings      readings a {@code ConvertBatch} call may send; they are all
+ *                              answered in one message, which must stay below the 4MB a
+ *                              client accepts by default (default 400000, 3.2MB)
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+@ConfigurationProperties(prefix = "termometer.grpc")
+public record GrpcProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("127.0.0.1") String address,
+        @DefaultValue("9090") int port,
+        @DefaultValue("16MB") DataSize maxInboundMessageSize,
+        @DefaultValue("400000") int maxBatchReadings) {
+}
@@ -0,0 +1,93 @@
+package com.gklyphon.termometer.grpc;
+
+import io.grpc.Server;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the {@link ConversionGrpcService} on its own port, next to the embedded web server.
+ *
+ * <p>Calls are dispatched to virtual threads, like the REST requests, and the server is
+ * started and stopped with the application context. On shutdown, running calls get a few
+ * seconds to finish before they are cancelled.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+@Component
+@ConditionalOnProperty(name = "termometer.grpc.enabled", havingValue = "true", matchIfMissing = true)
+public class GrpcServer implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(GrpcServer.class);
+
+    private static final long SHUTDOWN_GRACE_SECONDS = 5;
+
+    private final GrpcProperties properties;
+    private final ConversionGrpcService service;
+    private volatile Server server;
+    private ExecutorService executor;
+
+    public GrpcServer(GrpcProperties properties, ConversionGrpcService service) {
+        this.properties = properties;
+        this.service = service;
+    }
+
+    @Override
+    public void start() {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        Server created = NettyServerBuilder.forAddress(new InetSocketAddress(properties.address(), properties.port()))
+                .addService(service)
+                .executor(executor)
+                .maxInboundMessageSize(Math.toIntExact(properties.maxInboundMessageSize().toBytes()))
+                .build();
+        try {
+            server = created.start();
+        } catch (IOException e) {
+            executor.close();
+            throw new UncheckedIOException("Cannot start the gRPC server on port " + properties.port(), e);
+        }
+        log.info("gRPC server started on {}:{}", properties.address(), server.getPort());
+    }
+
+    @Override
+    public void stop() {
+        Server running = server;
+        server = null;
+        running.shutdown();
+        try {
+            if (!running.awaitTermination(SHUTDOWN_GRACE_SECONDS, TimeUnit.SECONDS)) {
+                running.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            running.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        executor.shutdownNow();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    /**
+     * @return the port the server listens on, useful when it was configured as 0
+     */
+    public int getPort() {
+        return server.getPort();
+    }
+
+}
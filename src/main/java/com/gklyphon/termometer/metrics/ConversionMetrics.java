@@ -0,0 +1,117 @@
+package com.gklyphon.termometer.metrics;
+
+import com.gklyphon.termometer.model.TemperatureScale;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Meters recorded for every conversion request.
+ *
+ * <ul>
+ * <li>{@code termometer.conversions}: timer with a percentile histogram, tagged by
+ * {@code source}, {@code target}, {@code kind} (single or batch) and {@code outcome}</li>
+ * <li>{@code termometer.conversion.readings}: counter of readings converted by batch requests,
+ * tagged by {@code source} and {@code target}</li>
+ * </ul>
+ *
+ * <p>Meters are registered the first time a combination of tags is used and then kept in
+ * arrays indexed by ordinal, so recording a request never goes through a registry lookup.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+@Component
+public class ConversionMetrics {
+
+    /** Whether a request converts one reading or a batch of them. */
+    public enum Kind { SINGLE, BATCH }
+
+    /** How a request completed, derived from its HTTP status. */
+    public enum Outcome {
+        SUCCESS, CLIENT_ERROR, SERVER_ERROR;
+
+        public static Outcome of(int status) {
+            if (status >= 500) {
+                return SERVER_ERROR;
+            }
+            return status >= 400 ? CLIENT_ERROR : SUCCESS;
+        }
+    }
+
+    private static final int SCALES = TemperatureScale.values().length;
+    private static final int KINDS = Kind.values().length;
+    private static final int OUTCOMES = Outcome.values().length;
+
+    private final MeterRegistry registry;
+    private final AtomicReferenceArray<Timer> timers =
+            new AtomicReferenceArray<>(SCALES * SCALES * KINDS * OUTCOMES);
+    private final AtomicReferenceArray<Counter> readings =
+            new AtomicReferenceArray<>(SCALES * SCALES);
+
+    public ConversionMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Returns the timer of a conversion request.
+     *
+     * @param source  the scale converted from
+     * @param target  the scale converted to
+     * @param kind    whether the request converted one reading or a batch
+     * @param outcome how the request completed
+     * @return the timer for the given tags
+     */
+    public Timer timer(TemperatureScale source, TemperatureScale target, Kind kind, Outcome outcome) {
+        int index = ((source.ordinal() * SCALES + target.ordinal()) * KINDS + kind.ordinal()) * OUTCOMES
+                + outcome.ordinal();
+        Timer timer = timers.get(index);
+        if (timer == null) {
+            timer = Timer.builder("termometer.conversions")
+                    .description("Conversion requests by scale pair, kind and outcome")
+                    .tag("source", tag(source))
+                    .tag("target", tag(target))
+                    .tag("kind", tag(kind))
+                    .tag("outcome", outcome.name())
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofNanos(1_000))
+                    .maximumExpectedValue(Duration.ofMinutes(1))
+                    .register(registry);
+            timers.set(index, timer);
+        }
+        return timer;
+    }
+
+    /**
+     * Adds the number of readings converted by a batch request.
+     *
+     * @param source the scale converted from
+     * @param target the scale converted to
+     * @param count  the number of readings converted
+     */
+    public void recordReadings(TemperatureScale source, TemperatureScale target, long count) {
+        int index = source.ordinal() * SCALES + target.ordinal();
+        Counter counter = readings.get(index);
+        if (counter == null) {
+            counter = Counter.builder("termometer.conversion.readings")
+                    .description("Readings converted by batch requests")
+                    .tag("source", tag(source))
+                    .tag("target", tag(target))
+                    .register(registry);
+            readings.set(index, counter);
+        }
+        counter.increment(count);
+    }
+
+    private static String tag(Enum<?> value) {
+        return value.name().toLowerCase(Locale.ROOT);
+    }
+
+}
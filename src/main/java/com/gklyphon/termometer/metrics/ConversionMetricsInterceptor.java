@@ -0,0 +1,61 @@
+package com.gklyphon.termometer.metrics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Interceptor that times every request to the conversion controllers.
+ *
+ * <p>The scale pair and kind of a request are resolved from its {@link ConversionRoute};
+ * requests to the generic {@code /convert} routes are not recorded when either of their
+ * {@code from} and {@code to} parameters is not a known scale. The outcome is taken from
+ * the final response status, so requests rejected before the handler runs, for example
+ * because the {@code value} of a scaled reading is not a number, are recorded as client
+ * errors. Batch requests are timed until their streamed response has been written.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+@Component
+public class ConversionMetricsInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String START_ATTRIBUTE = ConversionMetricsInterceptor.class.getName() + ".start";
+
+    private final ConversionMetrics metrics;
+
+    public ConversionMetricsInterceptor(ConversionMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // Asynchronous requests are dispatched twice; keep the start of the first dispatch
+        if (request.getAttribute(START_ATTRIBUTE) == null) {
+            request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+                                Object handler, Exception ex) {
+        Object start = request.getAttribute(START_ATTRIBUTE);
+        if (start == null) {
+            return;
+        }
+        ConversionRoute route = ConversionRoute.of(request);
+        if (route == null) {
+            return;
+        }
+        int status = ex != null && response.getStatus() < 400 ? 500 : response.getStatus();
+        metrics.timer(route.source(), route.target(), route.kind(), ConversionMetrics.Outcome.of(status))
+                .record(System.nanoTime() - (Long) start, TimeUnit.NANOSECONDS);
+    }
+
+}
@@ -0,0 +1,85 @@
+package com.gklyphon.termometer.metrics;
+
+import com.gklyphon.termometer.model.TemperatureScale;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Scale pair and kind of a request to the conversion controllers.
+ *
+ * <p>The pair is derived from the route that matched the request, such as
+ * {@code /celsius-to/fahrenheit/batch}, and resolved once per route. Requests to the
+ * generic {@code /convert} routes take the pair from their {@code from} and {@code to}
+ * parameters.
+ *
+ * @param source the scale converted from
+ * @param target the scale converted to
+ * @param kind   whether the request converts one reading or a batch
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+public record ConversionRoute(TemperatureScale source, TemperatureScale target, ConversionMetrics.Kind kind) {
+
+    private static final ConversionRoute UNKNOWN = new ConversionRoute(null, null, null);
+
+    /* Routes by pattern; the pair is null for the /convert routes, which take it from the request */
+    private static final Map<String, ConversionRoute> ROUTES = new ConcurrentHashMap<>();
+
+    /**
+     * Resolves the route of a request once a handler has been matched.
+     *
+     * @param request the request
+     * @return the route, or {@code null} when the request was not matched to a conversion
+     * route or does not name two known scales
+     */
+    public static ConversionRoute of(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern == null) {
+            return null;
+        }
+        ConversionRoute route = ROUTES.computeIfAbsent(pattern.toString(), ConversionRoute::parse);
+        if (route == UNKNOWN) {
+            return null;
+        }
+        if (route.source() != null) {
+            return route;
+        }
+        String from = request.getParameter("from");
+        String to = request.getParameter("to");
+        if (from == null || to == null) {
+            return null;
+        }
+        try {
+            return new ConversionRoute(TemperatureScale.of(from), TemperatureScale.of(to), route.kind());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static ConversionRoute parse(String pattern) {
+        String[] segments = pattern.replaceFirst("^/", "").split("/");
+        if (segments[0].equals("convert")) {
+            boolean batch = segments.length > 1 && segments[1].equals("batch");
+            return new ConversionRoute(null, null, batch ? ConversionMetrics.Kind.BATCH : ConversionMetrics.Kind.SINGLE);
+        }
+        if (segments.length < 2 || !segments[0].endsWith("-to")) {
+            return UNKNOWN;
+        }
+        try {
+            TemperatureScale source = TemperatureScale.of(segments[0].substring(0, segments[0].length() - 3));
+            TemperatureScale target = TemperatureScale.of(segments[1]);
+            boolean batch = segments.length > 2 && segments[2].equals("batch");
+            return new ConversionRoute(source, target,
+                    batch ? ConversionMetrics.Kind.BATCH : ConversionMetrics.Kind.SINGLE);
+        } catch (IllegalArgumentException e) {
+            return UNKNOWN;
+        }
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.gklyphon.termometer.model;
+
+import java.util.Locale;
+
+/**
+ * Arithmetic used to convert a single reading, selected per request with the
+ * {@code arithmetic} parameter.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+public enum ArithmeticMode {
+
+    /** Exact {@link java.math.BigDecimal} arithmetic, keeping every significant digit */
+    DECIMAL,
+
+    /**
+     * Integer arithmetic on readings scaled to a {@code long}, rounded half-even to the
+     * configured number of decimal places
+     */
+    FIXED_POINT;
+
+    /**
+     * Resolves a mode from its name in any case, accepting dashes in place of
+     * underscores, such as {@code fixed-point}.
+     *
+     * @param name the name of the mode
+     * @return the matching mode
+     * @throws IllegalArgumentException if no mode has that name
+     */
+    public static ArithmeticMode of(String name) {
+        return valueOf(name.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+    }
+
+}
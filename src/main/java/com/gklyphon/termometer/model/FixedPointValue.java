@@ -0,0 +1,124 @@
+package com.gklyphon.termometer.model;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * Decimal temperature held as a {@code long} scaled by a power of ten, for example
+ * {@code 9788} with scale {@code 2} for 97.88.
+ *
+ * <p>The value is written as a plain JSON number directly from its digits, without
+ * going through {@link java.math.BigDecimal}.
+ *
+ * @param unscaled the value multiplied by 10<sup>scale</sup>
+ * @param scale    the number of decimal places
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+@JsonSerialize(using = FixedPointValue.Serializer.class)
+public record FixedPointValue(long unscaled, int scale) {
+
+    public FixedPointValue {
+        if (scale < 0 || scale > 18) {
+            throw new IllegalArgumentException("Scale must be between 0 and 18 but was " + scale);
+        }
+    }
+
+    /**
+     * Parses a plain decimal number, such as {@code -36.6}, keeping every digit it was
+     * written with, so {@code "36.60"} has scale 2.
+     *
+     * <p>Exponents are not accepted and the text may be surrounded by whitespace.
+     *
+     * @param text the decimal number
+     * @return the value, with as many decimal places as the text
+     * @throws NumberFormatException if the text is not a plain decimal number
+     * @throws ArithmeticException   if the number has more than 18 decimal places or does
+     *                               not fit in a {@code long} once scaled
+     */
+    public static FixedPointValue parse(String text) {
+        String value = text.strip();
+        int length = value.length();
+        int index = 0;
+        boolean negative = false;
+        if (length > 0 && (value.charAt(0) == '-' || value.charAt(0) == '+')) {
+            negative = value.charAt(0) == '-';
+            index++;
+        }
+        // Accumulated as a negative number so that Long.MIN_VALUE can be parsed
+        long accumulated = 0;
+        int digits = 0;
+        int scale = -1;
+        for (; index < length; index++) {
+            char c = value.charAt(index);
+            if (c == '.' && scale < 0) {
+                scale = 0;
+                continue;
+            }
+            if (c < '0' || c > '9') {
+                throw new NumberFormatException("Not a plain decimal number: \"" + text + "\"");
+            }
+            accumulated = Math.subtractExact(Math.multiplyExact(accumulated, 10), c - '0');
+            digits++;
+            if (scale >= 0 && ++scale > 18) {
+                throw new ArithmeticException("More than 18 decimal places: \"" + text + "\"");
+            }
+        }
+        if (digits == 0) {
+            throw new NumberFormatException("Not a plain decimal number: \"" + text + "\"");
+        }
+        return new FixedPointValue(negative ? accumulated : Math.negateExact(accumulated), Math.max(scale, 0));
+    }
+
+    /**
+     * Formats the value as a plain decimal number, such as {@code -0.05}.
+     *
+     * @return the decimal representation of the value
+     */
+    @Override
+    public String toString() {
+        String digits = Long.toString(unscaled);
+        if (scale == 0) {
+            return digits;
+        }
+        boolean negative = unscaled < 0;
+        int start = negative ? 1 : 0;
+        int length = digits.length() - start;
+        StringBuilder text = new StringBuilder(Math.max(length, scale + 1) + 2);
+        if (negative) {
+            text.append('-');
+        }
+        if (length <= scale) {
+            text.append("0.");
+            text.repeat('0', scale - length);
+            text.append(digits, start, digits.length());
+        } else {
+            text.append(digits, start, digits.length() - scale)
+                    .append('.')
+                    .append(digits, digits.length() - scale, digits.length());
+        }
+        return text.toString();
+    }
+
+    /* Writes the value as a JSON number */
+    static final class Serializer extends StdSerializer<FixedPointValue> {
+
+        Serializer() {
+            super(FixedPointValue.class);
+        }
+
+        @Override
+        public void serialize(FixedPointValue value, JsonGenerator generator, SerializerProvider provider)
+                throws IOException {
+            generator.writeNumber(value.toString());
+        }
+    }
+
+}
@@ -0,0 +1,74 @@
+package com.gklyphon.termometer.model;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+
+/**
+ * Temperature scales supported by the conversion API.
+ *
+ * <p>Every scale is defined by its exact linear relation to Kelvin:
+ * <pre>kelvin = (degrees + shift) * numerator / denominator</pre>
+ * Keeping the factor as a rational number, instead of a rounded decimal such as
+ * 0.5556, lets conversions between any two scales be computed exactly. Kelvin is the
+ * common base: the conversion between two scales composes the relation of the source
+ * with the inverse relation of the target, so a new scale only needs its own constants.
+ * The factor may be negative, as for Delisle, whose degrees grow as it gets colder.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+public enum TemperatureScale {
+
+    CELSIUS("273.15", 1, 1),
+    FAHRENHEIT("459.67", 5, 9),
+    KELVIN("0", 1, 1),
+    RANKINE("0", 5, 9),
+    REAUMUR("218.52", 5, 4),
+    DELISLE("-559.725", -2, 3),
+    NEWTON("90.1395", 100, 33);
+
+    private final BigDecimal shift;
+    private final long numerator;
+    private final long denominator;
+
+    TemperatureScale(String shift, long numerator, long denominator) {
+        this.shift = new BigDecimal(shift);
+        this.numerator = numerator;
+        this.denominator = denominator;
+    }
+
+    /**
+     * Resolves a scale from its name, ignoring case, for example {@code rankine}.
+     *
+     * @param name the name of the scale
+     * @return the scale
+     * @throws IllegalArgumentException if no scale has that name
+     */
+    public static TemperatureScale of(String name) {
+        return valueOf(name.trim().toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * @return the value added to a reading before it is scaled to Kelvin
+     */
+    public BigDecimal getShift() {
+        return shift;
+    }
+
+    /**
+     * @return the numerator of the factor that scales a shifted reading to Kelvin
+     */
+    public long getNumerator() {
+        return numerator;
+    }
+
+    /**
+     * @return the denominator of the factor that scales a shifted reading to Kelvin
+     */
+    public long getDenominator() {
+        return denominator;
+    }
+
+}
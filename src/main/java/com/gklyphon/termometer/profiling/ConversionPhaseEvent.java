@@ -0,0 +1,89 @@
+package com.gklyphon.termometer.profiling;
+
+import com.gklyphon.termometer.model.TemperatureScale;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.util.Locale;
+
+/**
+ * Flight Recorder event timing one phase of a conversion request.
+ *
+ * <p>Events are created for every phase, begun before it and {@linkplain #complete
+ * completed} after it. While no recording enables them, creating and completing one costs
+ * a few nanoseconds and nothing is written.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+@Name(ConversionPhaseEvent.NAME)
+@Label("Conversion Phase")
+@Category({"Termometer", "Conversions"})
+@Description("Time spent in one phase of a conversion request")
+@StackTrace(false)
+public class ConversionPhaseEvent extends Event {
+
+    /** Name of the event type in recordings */
+    public static final String NAME = "com.gklyphon.termometer.ConversionPhase";
+
+    /** Phases of a conversion request. */
+    public enum Phase {
+        /** Binding the request parameters to the handler arguments */
+        BINDING,
+        /** Running the handler, which converts single readings */
+        CONVERSION,
+        /** Writing the value returned by the handler to the response */
+        SERIALIZATION,
+        /** Converting the readings of a batch while its body is streamed */
+        STREAMING
+    }
+
+    @Label("Phase")
+    String phase;
+
+    @Label("Source Scale")
+    String source;
+
+    @Label("Target Scale")
+    String target;
+
+    @Label("Input Size")
+    @Description("Bytes of the query string and body of the request, or of the streamed batch")
+    @DataAmount
+    long inputSize;
+
+    @Label("Readings")
+    @Description("Readings converted, 0 when not known in this phase")
+    long readings;
+
+    /**
+     * Ends the event and commits it if a recording enables it and its duration passes
+     * the recording threshold.
+     *
+     * @param phase     the phase the event timed
+     * @param source    the scale converted from
+     * @param target    the scale converted to
+     * @param inputSize the size of the input in bytes
+     * @param readings  the number of readings converted
+     */
+    public void complete(Phase phase, TemperatureScale source, TemperatureScale target,
+                         long inputSize, long readings) {
+        end();
+        if (shouldCommit()) {
+            this.phase = phase.name().toLowerCase(Locale.ROOT);
+            this.source = source.name().toLowerCase(Locale.ROOT);
+            this.target = target.name().toLowerCase(Locale.ROOT);
+            this.inputSize = inputSize;
+            this.readings = readings;
+            commit();
+        }
+    }
+
+}
@@ -0,0 +1,91 @@
+package com.gklyphon.termometer.profiling;
+
+import com.gklyphon.termometer.metrics.ConversionMetrics;
+import com.gklyphon.termometer.metrics.ConversionRoute;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.mvc.method.annotation.ServletInvocableHandlerMethod;
+
+/**
+ * Handler method that emits a {@link ConversionPhaseEvent} for the binding, conversion
+ * and serialization phases of requests to the conversion routes.
+ *
+ * <p>A new instance is created for every request, so the route resolved while binding
+ * is kept for the later phases. Requests to other routes are invoked unchanged.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+class ProfiledHandlerMethod extends ServletInvocableHandlerMethod {
+
+    private ConversionRoute route;
+    private long inputSize;
+    private ConversionPhaseEvent serialization;
+
+    ProfiledHandlerMethod(HandlerMethod handlerMethod) {
+        super(handlerMethod);
+    }
+
+    @Override
+    public void invokeAndHandle(ServletWebRequest webRequest, ModelAndViewContainer mavContainer,
+                                Object... providedArgs) throws Exception {
+        try {
+            super.invokeAndHandle(webRequest, mavContainer, providedArgs);
+        } finally {
+            // Begun when the handler returned, so it covers the return value handling
+            if (serialization != null) {
+                complete(serialization, ConversionPhaseEvent.Phase.SERIALIZATION);
+            }
+        }
+    }
+
+    @Override
+    protected Object[] getMethodArgumentValues(NativeWebRequest request, ModelAndViewContainer mavContainer,
+                                               Object... providedArgs) throws Exception {
+        HttpServletRequest servletRequest = request.getNativeRequest(HttpServletRequest.class);
+        route = servletRequest != null ? ConversionRoute.of(servletRequest) : null;
+        if (route == null) {
+            return super.getMethodArgumentValues(request, mavContainer, providedArgs);
+        }
+        String query = servletRequest.getQueryString();
+        inputSize = (query != null ? query.length() : 0) + Math.max(servletRequest.getContentLengthLong(), 0);
+        ConversionPhaseEvent event = new ConversionPhaseEvent();
+        event.begin();
+        try {
+            return super.getMethodArgumentValues(request, mavContainer, providedArgs);
+        } finally {
+            complete(event, ConversionPhaseEvent.Phase.BINDING);
+        }
+    }
+
+    @Override
+    protected Object doInvoke(Object... args) throws Exception {
+        if (route == null) {
+            return super.doInvoke(args);
+        }
+        ConversionPhaseEvent event = new ConversionPhaseEvent();
+        event.begin();
+        Object result;
+        try {
+            result = super.doInvoke(args);
+        } finally {
+            complete(event, ConversionPhaseEvent.Phase.CONVERSION);
+        }
+        // A handler that threw has nothing to serialize; its error response is not a phase
+        serialization = new ConversionPhaseEvent();
+        serialization.begin();
+        return result;
+    }
+
+    private void complete(ConversionPhaseEvent event, ConversionPhaseEvent.Phase phase) {
+        // Batches count their readings while streaming
+        long readings = route.kind() == ConversionMetrics.Kind.SINGLE ? 1 : 0;
+        event.complete(phase, route.source(), route.target(), inputSize, readings);
+    }
+
+}
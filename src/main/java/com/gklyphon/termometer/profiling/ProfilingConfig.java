@@ -0,0 +1,37 @@
+package com.gklyphon.termometer.profiling;
+
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcRegistrations;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+import org.springframework.web.servlet.mvc.method.annotation.ServletInvocableHandlerMethod;
+
+/**
+ * Invokes the annotated controllers through {@link ProfiledHandlerMethod}, so that the
+ * phases of conversion requests are visible in Flight Recorder recordings.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+@Configuration
+public class ProfilingConfig {
+
+    @Bean
+    public WebMvcRegistrations profilingWebMvcRegistrations() {
+        return new WebMvcRegistrations() {
+            @Override
+            public RequestMappingHandlerAdapter getRequestMappingHandlerAdapter() {
+                return new RequestMappingHandlerAdapter() {
+                    @Override
+                    protected ServletInvocableHandlerMethod createInvocableHandlerMethod(HandlerMethod handlerMethod) {
+                        return new ProfiledHandlerMethod(handlerMethod);
+                    }
+                };
+            }
+        };
+    }
+
+}
@@ -0,0 +1,158 @@
+package com.gklyphon.termometer.profiling;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Actuator endpoint that captures a bounded Flight Recorder recording of the running
+ * application, including the {@link ConversionPhaseEvent conversion phases}.
+ *
+ * <ul>
+ * <li>{@code POST /actuator/profiling} starts a recording, optionally with a
+ * {@code duration} such as {@code "30s"}, at most {@code termometer.profiling.max-duration}</li>
+ * <li>{@code GET /actuator/profiling} describes the current recording</li>
+ * <li>{@code DELETE /actuator/profiling} stops the recording, if it is still running, and
+ * returns it as a {@code .jfr} file</li>
+ * </ul>
+ *
+ * <p>Only one recording exists at a time. A recording that reaches its duration stops on
+ * its own and can still be downloaded until the next one is started. Recordings hold the
+ * environment variables, system properties and command line of the process, so the
+ * endpoint is only exposed by the {@code profiling} profile, on a loopback management port.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+@Component
+@Endpoint(id = "profiling")
+public class ProfilingEndpoint {
+
+    private static final int STATUS_CONFLICT = 409;
+
+    private final ProfilingProperties properties;
+    private final Configuration configuration;
+
+    /* Guarded by this */
+    private Recording recording;
+    private Path file;
+
+    public ProfilingEndpoint(ProfilingProperties properties) throws IOException, ParseException {
+        this.properties = properties;
+        this.configuration = Configuration.getConfiguration(properties.settings());
+    }
+
+    /**
+     * Describes the current recording.
+     *
+     * @return the state, start time, duration and size of the current recording, or a
+     * state of {@code NONE} when there is none
+     */
+    @ReadOperation
+    public synchronized Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        if (recording == null) {
+            status.put("state", "NONE");
+            return status;
+        }
+        status.put("state", recording.getState());
+        status.put("startTime", recording.getStartTime());
+        status.put("duration", recording.getDuration());
+        status.put("maxSize", recording.getMaxSize());
+        status.put("size", recording.getSize());
+        return status;
+    }
+
+    /**
+     * Starts a recording, discarding the previous one.
+     *
+     * @param duration how long to record, bounded by {@code termometer.profiling.max-duration}
+     *                 and defaulting to it
+     * @return the status of the new recording, or 409 (Conflict) if a recording is running
+     */
+    @WriteOperation
+    public synchronized WebEndpointResponse<Map<String, Object>> start(@Nullable Duration duration) {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            return new WebEndpointResponse<>(status(), STATUS_CONFLICT);
+        }
+        discard();
+        Duration bounded = duration == null || duration.compareTo(properties.maxDuration()) > 0
+                ? properties.maxDuration()
+                : duration;
+        recording = new Recording(configuration);
+        recording.setName("termometer-profiling");
+        recording.enable(ConversionPhaseEvent.class).withoutThreshold();
+        recording.setDuration(bounded);
+        recording.setMaxSize(properties.maxSize().toBytes());
+        recording.setToDisk(true);
+        recording.start();
+        return new WebEndpointResponse<>(status());
+    }
+
+    /**
+     * Stops the current recording and returns its data.
+     *
+     * @return the recording as a {@code .jfr} file, or 404 (Not Found) if no recording was
+     * started since the last one was returned
+     */
+    @DeleteOperation
+    public synchronized WebEndpointResponse<Resource> stop() {
+        if (recording == null) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        try {
+            if (recording.getState() == RecordingState.RUNNING) {
+                recording.stop();
+            }
+            Path dumped = Files.createTempFile("termometer-", ".jfr");
+            recording.dump(dumped);
+            discard();
+            // The response is written after this returns, so the file is deleted with the next recording
+            file = dumped;
+            return new WebEndpointResponse<>(new FileSystemResource(dumped));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Closes the current recording and deletes the last returned file.
+     */
+    @PreDestroy
+    public synchronized void discard() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+        if (file != null) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            file = null;
+        }
+    }
+
+}
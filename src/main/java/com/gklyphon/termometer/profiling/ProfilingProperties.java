@@ -0,0 +1,31 @@
+package com.gklyphon.termometer.profiling;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the recordings started through the {@code profiling} actuator
+ * endpoint, bound from the {@code termometer.profiling} properties.
+ *
+ * @param maxDuration duration of a recording when none is requested, and the longest one
+ *                    that can be requested (default 5m)
+ * @param maxSize     size of the recording data kept on disk, older data being discarded
+ *                    beyond it (default 256MB)
+ * @param settings    name of the JDK settings used by recordings, {@code profile} for
+ *                    method sampling every 10ms (default) or {@code default} for sampling
+ *                    every 20ms with lower overhead
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+@ConfigurationProperties(prefix = "termometer.profiling")
+public record ProfilingProperties(
+        @DefaultValue("5m") Duration maxDuration,
+        @DefaultValue("256MB") DataSize maxSize,
+        @DefaultValue("profile") String settings) {
+}
@@ -0,0 +1,79 @@
+package com.gklyphon.termometer.ratelimit;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps a {@link TokenBucket} per client and decides whether a request of that client is
+ * allowed.
+ *
+ * <p>Taking a token is a single compare-and-set on the bucket of the client, so concurrent
+ * requests never block each other. Full buckets carry no state, so when
+ * {@code max-clients} buckets are tracked the full ones are dropped, at most once per
+ * second; a new client that still finds no room is rejected until buckets refill.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+@Component
+public class ClientRateLimiter {
+
+    private static final long PURGE_INTERVAL = 1_000_000_000L;
+
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final long interval;
+    private final long capacity;
+    private final int maxClients;
+    private final AtomicLong nextPurge = new AtomicLong(System.nanoTime());
+
+    public ClientRateLimiter(RateLimitProperties properties) {
+        if (properties.burst() <= 0 || !(properties.refillRate() > 0) || properties.maxClients() <= 0) {
+            throw new IllegalArgumentException(
+                    "termometer.rate-limit.burst, refill-rate and max-clients must be positive");
+        }
+        this.interval = Math.max(1, Math.round(1e9 / properties.refillRate()));
+        this.capacity = Math.multiplyExact(interval, (long) properties.burst());
+        this.maxClients = properties.maxClients();
+    }
+
+    /**
+     * Takes a token from the bucket of a client.
+     *
+     * @param client the identity of the client
+     * @param now    the current time in nanoseconds, from {@link System#nanoTime()}
+     * @return 0 if the request is allowed, otherwise the nanoseconds the client should
+     *         wait before retrying
+     */
+    public long acquire(String client, long now) {
+        TokenBucket bucket = buckets.get(client);
+        if (bucket == null) {
+            if (buckets.size() >= maxClients && !purge(now)) {
+                return interval;
+            }
+            bucket = buckets.computeIfAbsent(client, key -> new TokenBucket(now));
+        }
+        return bucket.tryAcquire(now, interval, capacity);
+    }
+
+    /**
+     * @return the number of clients with a bucket that is not known to be full
+     */
+    public int getClientCount() {
+        return buckets.size();
+    }
+
+    /* Drops full buckets if no other purge ran in the last second, and tells if there is room */
+    private boolean purge(long now) {
+        long next = nextPurge.get();
+        if (now - next >= 0 && nextPurge.compareAndSet(next, now + PURGE_INTERVAL)) {
+            buckets.values().removeIf(bucket -> bucket.isFull(now));
+        }
+        return buckets.size() < maxClients;
+    }
+
+}
@@ -0,0 +1,73 @@
+package com.gklyphon.termometer.ratelimit;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Detects a standing request queue from the latency of completed requests and tells the
+ * {@link RateLimitFilter} to reject new requests while it lasts.
+ *
+ * <p>Time is split into intervals. If even the fastest request of an interval took longer
+ * than the latency threshold, every request waited, so the server is queueing rather than
+ * serving a few slow requests, and the next interval is overloaded: requests are rejected
+ * up front, which lets the queue drain. An interval without completed requests ends the
+ * overload. The minimum is kept in an {@link AtomicLong}, so recording a latency never
+ * blocks.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+@Component
+public class LoadShedder {
+
+    private final long threshold;
+    private final long interval;
+    private final AtomicLong intervalEnd;
+    private final AtomicLong minimum = new AtomicLong(Long.MAX_VALUE);
+    private volatile boolean overloaded;
+
+    public LoadShedder(LoadSheddingProperties properties) {
+        if (properties.interval().isNegative() || properties.interval().isZero()) {
+            throw new IllegalArgumentException("termometer.shedding.interval must be positive");
+        }
+        this.threshold = properties.latencyThreshold().toNanos();
+        this.interval = properties.interval().toNanos();
+        this.intervalEnd = new AtomicLong(System.nanoTime() + interval);
+    }
+
+    /**
+     * Records the latency of a completed request.
+     *
+     * @param latency the latency in nanoseconds
+     * @param now     the current time in nanoseconds, from {@link System#nanoTime()}
+     */
+    public void record(long latency, long now) {
+        advance(now);
+        long current;
+        while (latency < (current = minimum.get()) && !minimum.compareAndSet(current, latency)) {
+            // Retry against the minimum written by another request
+        }
+    }
+
+    /**
+     * @param now the current time in nanoseconds, from {@link System#nanoTime()}
+     * @return whether new requests should be rejected
+     */
+    public boolean isOverloaded(long now) {
+        advance(now);
+        return overloaded;
+    }
+
+    /* The request that crosses the end of an interval judges it and starts the next one */
+    private void advance(long now) {
+        long end = intervalEnd.get();
+        if (now - end >= 0 && intervalEnd.compareAndSet(end, now + interval)) {
+            long fastest = minimum.getAndSet(Long.MAX_VALUE);
+            overloaded = fastest != Long.MAX_VALUE && fastest > threshold;
+        }
+    }
+
+}
@@ -0,0 +1,28 @@
+package com.gklyphon.termometer.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the adaptive load shedding of the conversion endpoints, bound from the
+ * {@code termometer.shedding} properties.
+ *
+ * @param enabled          whether requests are shed under load (default false)
+ * @param latencyThreshold latency that even the fastest request of an interval must exceed
+ *                         for the server to count as overloaded (default 50 milliseconds)
+ * @param interval         length of the intervals the latency is observed over
+ *                         (default 500 milliseconds)
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+@ConfigurationProperties(prefix = "termometer.shedding")
+public record LoadSheddingProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("50ms") Duration latencyThreshold,
+        @DefaultValue("500ms") Duration interval) {
+}
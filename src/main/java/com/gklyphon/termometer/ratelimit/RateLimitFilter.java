@@ -0,0 +1,136 @@
+package com.gklyphon.termometer.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rejects requests of clients over their rate limit with 429 (Too Many Requests), and all
+ * requests while the {@link LoadShedder} reports an overload with 503 (Service
+ * Unavailable).
+ *
+ * <p>Both checks run before the request reaches Spring MVC, and rejections are written
+ * from preformatted problem details, so a client hammering an endpoint costs little more
+ * than a counter increment. Both carry a {@code Retry-After} header in seconds. Clients
+ * are identified by their API key when it is one of the configured keys, and by their
+ * remote address otherwise.
+ *
+ * <p>Meters:
+ * <ul>
+ * <li>{@code termometer.admission}: counter of requests tagged by {@code outcome}
+ * (allowed, limited or shed)</li>
+ * <li>{@code termometer.rate.limit.clients}: gauge of the clients being tracked</li>
+ * <li>{@code termometer.shedding.overloaded}: gauge, 1 while requests are shed</li>
+ * </ul>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final byte[] LIMITED = problem(HttpStatus.TOO_MANY_REQUESTS, "Rate limit exceeded, retry later");
+    private static final byte[] SHED = problem(HttpStatus.SERVICE_UNAVAILABLE, "Server overloaded, retry later");
+
+    private final ClientRateLimiter rateLimiter;
+    private final LoadShedder loadShedder;
+    private final boolean limiting;
+    private final boolean shedding;
+    private final String apiKeyHeader;
+    private final Set<String> apiKeys;
+    private final Counter allowed;
+    private final Counter limited;
+    private final Counter shed;
+
+    public RateLimitFilter(ClientRateLimiter rateLimiter, RateLimitProperties rateLimitProperties,
+                           LoadShedder loadShedder, LoadSheddingProperties loadSheddingProperties,
+                           MeterRegistry registry) {
+        this.rateLimiter = rateLimiter;
+        this.loadShedder = loadShedder;
+        this.limiting = rateLimitProperties.enabled();
+        this.shedding = loadSheddingProperties.enabled();
+        this.apiKeyHeader = rateLimitProperties.apiKeyHeader();
+        this.apiKeys = Set.copyOf(rateLimitProperties.apiKeys());
+        this.allowed = counter(registry, "allowed");
+        this.limited = counter(registry, "limited");
+        this.shed = counter(registry, "shed");
+        Gauge.builder("termometer.rate.limit.clients", rateLimiter, ClientRateLimiter::getClientCount)
+                .description("Clients with a rate limit bucket")
+                .register(registry);
+        Gauge.builder("termometer.shedding.overloaded", loadShedder,
+                        shedder -> shedder.isOverloaded(System.nanoTime()) ? 1 : 0)
+                .description("Whether requests are being shed")
+                .register(registry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        long start = System.nanoTime();
+        if (limiting) {
+            long wait = rateLimiter.acquire(client(request), start);
+            if (wait > 0) {
+                limited.increment();
+                reject(response, HttpStatus.TOO_MANY_REQUESTS, wait, LIMITED);
+                return;
+            }
+        }
+        if (shedding && loadShedder.isOverloaded(start)) {
+            shed.increment();
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, 0, SHED);
+            return;
+        }
+        allowed.increment();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (shedding) {
+                long end = System.nanoTime();
+                loadShedder.record(end - start, end);
+            }
+        }
+    }
+
+    /* Unknown keys are not trusted, or every random key would get a full bucket of its own */
+    private String client(HttpServletRequest request) {
+        String apiKey = request.getHeader(apiKeyHeader);
+        return apiKey != null && apiKeys.contains(apiKey) ? "key:" + apiKey : request.getRemoteAddr();
+    }
+
+    private static void reject(HttpServletResponse response, HttpStatus status, long waitNanos,
+                               byte[] body) throws IOException {
+        long second = TimeUnit.SECONDS.toNanos(1);
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(Math.max(1, (waitNanos + second - 1) / second)));
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private static Counter counter(MeterRegistry registry, String outcome) {
+        return Counter.builder("termometer.admission")
+                .description("Requests to the conversion endpoints by admission outcome")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    private static byte[] problem(HttpStatus status, String detail) {
+        return ("{\"type\":\"about:blank\",\"title\":\"" + status.getReasonPhrase() + "\",\"status\":"
+                + status.value() + ",\"detail\":\"" + detail + "\"}").getBytes(StandardCharsets.US_ASCII);
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.gklyphon.termometer.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.Set;
+
+/**
+ * Configuration of the per-client rate limits of the conversion endpoints, bound from the
+ * {@code termometer.rate-limit} properties.
+ *
+ * @param enabled      whether requests are rate limited (default false)
+ * @param burst        requests a client may send at once after being idle (default 100)
+ * @param refillRate   requests per second a client may sustain (default 50)
+ * @param apiKeyHeader header identifying a client by one of the {@code apiKeys}; clients
+ *                     without it, or sending an unknown key, are identified by their
+ *                     remote address (default {@code X-API-Key})
+ * @param apiKeys      keys that get a bucket of their own; any other key is ignored, so a
+ *                     client cannot escape its limit by sending a new key with every
+ *                     request (default none)
+ * @param maxClients   clients tracked at the same time; new clients are rejected while
+ *                     every tracked client is still limited (default 100000)
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+@ConfigurationProperties(prefix = "termometer.rate-limit")
+public record RateLimitProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("100") int burst,
+        @DefaultValue("50") double refillRate,
+        @DefaultValue("X-API-Key") String apiKeyHeader,
+        @DefaultValue Set<String> apiKeys,
+        @DefaultValue("100000") int maxClients) {
+}
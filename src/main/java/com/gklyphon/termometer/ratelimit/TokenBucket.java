@@ -0,0 +1,56 @@
+package com.gklyphon.termometer.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket of one client, kept as a single timestamp so it can be updated with one
+ * compare-and-set.
+ *
+ * <p>Instead of a token count and the time of the last refill, the bucket stores the time
+ * at which it would be full again (the generic cell rate algorithm). Each request pushes
+ * that time one refill interval forward, and is allowed while it stays within
+ * {@code burst} intervals of now; a bucket whose time has passed is full.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+final class TokenBucket {
+
+    private final AtomicLong fullAt;
+
+    TokenBucket(long now) {
+        this.fullAt = new AtomicLong(now);
+    }
+
+    /**
+     * Takes a token.
+     *
+     * @param now      the current time in nanoseconds
+     * @param interval nanoseconds it takes to refill one token
+     * @param capacity nanoseconds it takes to refill the whole bucket
+     * @return 0 if a token was taken, otherwise the nanoseconds until one is available
+     */
+    long tryAcquire(long now, long interval, long capacity) {
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current - now, 0) + interval;
+            if (next > capacity) {
+                return next - capacity;
+            }
+            if (fullAt.compareAndSet(current, now + next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * @param now the current time in nanoseconds
+     * @return whether the bucket holds every token, and can be forgotten
+     */
+    boolean isFull(long now) {
+        return fullAt.get() - now <= 0;
+    }
+
+}
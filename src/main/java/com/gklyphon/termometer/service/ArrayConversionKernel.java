@@ -0,0 +1,123 @@
+package com.gklyphon.termometer.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+/**
+ * Converts arrays of readings in place with the primitive form of a
+ * {@link ScaleConversion}, {@code value * factor + offset}.
+ *
+ * <p>When the JVM is started with {@code --add-modules jdk.incubator.vector} the arrays
+ * are processed with the Vector API, several readings per fused multiply-add; otherwise,
+ * or when {@code termometer.bulk.vectorized} is false, a scalar loop is used. The fused
+ * form rounds once instead of twice, so a vectorized result may differ from
+ * {@link ScaleConversion#apply(double)} in the last bit.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+@Component
+public class ArrayConversionKernel {
+
+    private static final Logger log = LoggerFactory.getLogger(ArrayConversionKernel.class);
+
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    /* Built at run time so native image analysis does not resolve it */
+    private static final String VECTOR_KERNEL = ArrayConversionKernel.class.getPackageName() + ".VectorKernel";
+
+    private final Kernel kernel;
+    private final boolean vectorized;
+
+    public ArrayConversionKernel(BulkConversionProperties properties) {
+        Kernel vectorKernel = properties.vectorized() ? loadVectorKernel() : null;
+        this.vectorized = vectorKernel != null;
+        this.kernel = vectorized ? vectorKernel : new ScalarKernel();
+        log.info("Converting arrays with {}", kernel.describe());
+    }
+
+    /**
+     * Converts a range of readings in place.
+     *
+     * @param conversion the conversion to apply
+     * @param values     the readings, replaced by the converted readings
+     * @param from       the index of the first reading, inclusive
+     * @param to         the index of the last reading, exclusive
+     */
+    public void apply(ScaleConversion conversion, double[] values, int from, int to) {
+        Objects.checkFromToIndex(from, to, values.length);
+        kernel.apply(values, from, to, conversion.getFactor(), conversion.getOffset());
+    }
+
+    /**
+     * Converts a range of single-precision readings in place.
+     *
+     * @param conversion the conversion to apply
+     * @param values     the readings, replaced by the converted readings
+     * @param from       the index of the first reading, inclusive
+     * @param to         the index of the last reading, exclusive
+     */
+    public void apply(ScaleConversion conversion, float[] values, int from, int to) {
+        Objects.checkFromToIndex(from, to, values.length);
+        kernel.apply(values, from, to, (float) conversion.getFactor(), (float) conversion.getOffset());
+    }
+
+    /**
+     * @return whether arrays are converted with the Vector API
+     */
+    public boolean isVectorized() {
+        return vectorized;
+    }
+
+    /* Loaded by name so that nothing refers to the incubator module unless it is present */
+    private static Kernel loadVectorKernel() {
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) {
+            return null;
+        }
+        try {
+            return (Kernel) Class.forName(VECTOR_KERNEL).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            log.warn("Vector API unavailable, falling back to the scalar loop", e);
+            return null;
+        }
+    }
+
+    /**
+     * Implementation of {@code value * factor + offset} over a range of an array.
+     */
+    interface Kernel {
+
+        void apply(double[] values, int from, int to, double factor, double offset);
+
+        void apply(float[] values, int from, int to, float factor, float offset);
+
+        String describe();
+    }
+
+    private static final class ScalarKernel implements Kernel {
+
+        @Override
+        public void apply(double[] values, int from, int to, double factor, double offset) {
+            for (int i = from; i < to; i++) {
+                values[i] = values[i] * factor + offset;
+            }
+        }
+
+        @Override
+        public void apply(float[] values, int from, int to, float factor, float offset) {
+            for (int i = from; i < to; i++) {
+                values[i] = values[i] * factor + offset;
+            }
+        }
+
+        @Override
+        public String describe() {
+            return "the scalar loop";
+        }
+    }
+
+}
@@ -0,0 +1,264 @@
+package com.gklyphon.termometer.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gklyphon.termometer.audit.AuditBatch;
+import com.gklyphon.termometer.audit.AuditJournal;
+import com.gklyphon.termometer.codec.ColumnarFormat;
+import com.gklyphon.termometer.metrics.ConversionMetrics;
+import com.gklyphon.termometer.profiling.ConversionPhaseEvent;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Service that converts large batches of temperature readings as a stream.
+ *
+ * <p>Readings are accepted as a JSON array ({@code [1.5, 2, 3.25]}), as newline-delimited
+ * JSON with one number per line, or in the binary {@link ColumnarFormat}. JSON readings
+ * are parsed, converted exactly and written back one at a time; columnar readings are
+ * decoded in fixed-size chunks through {@link ByteBuffer} views, without creating an
+ * object per reading. Either way the heap used by a batch does not depend on its size.
+ * The response uses the same format as the request.
+ *
+ * <p>Columnar batches declare their size up front, so large ones are converted in
+ * parallel slices through the {@link ParallelConversionExecutor}, which also decides
+ * whether they are admitted at all.
+ *
+ * <p>The conversion of each batch is timed by a {@link ConversionPhaseEvent} of the
+ * {@code streaming} phase, with the number of readings and bytes read. Every reading is
+ * recorded in the {@link AuditJournal} through an {@link AuditBatch}, which waits for
+ * {@code SYNC} durability once per block before the block is written.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+@Service
+public class BatchConversionService {
+
+    /* Number of columnar readings decoded, converted and encoded at a time */
+    private static final int CHUNK_SIZE = 8192;
+
+    /* Number of columnar readings per slice when a batch is converted in parallel */
+    private static final int PARALLEL_SLICE_SIZE = 65536;
+
+    private final JsonFactory jsonFactory;
+    private final LookupTableConverter lookupTableConverter;
+    private final ArrayConversionKernel kernel;
+    private final ParallelConversionExecutor parallelExecutor;
+    private final ConversionMetrics metrics;
+    private final AuditJournal auditJournal;
+
+    public BatchConversionService(ObjectMapper objectMapper, LookupTableConverter lookupTableConverter,
+                                  ArrayConversionKernel kernel, ParallelConversionExecutor parallelExecutor,
+                                  ConversionMetrics metrics, AuditJournal auditJournal) {
+        this.jsonFactory = objectMapper.getFactory();
+        this.lookupTableConverter = lookupTableConverter;
+        this.kernel = kernel;
+        this.parallelExecutor = parallelExecutor;
+        this.metrics = metrics;
+        this.auditJournal = auditJournal;
+    }
+
+    /**
+     * Creates a response body that converts every reading of the given input.
+     *
+     * @param input      the request body holding the readings
+     * @param headers    the headers of the request: its content type, JSON, NDJSON or
+     *                   columnar, and its content length when known
+     * @param conversion the conversion applied to each reading
+     * @return a {@link StreamingResponseBody} writing the converted readings in the same format
+     */
+    public StreamingResponseBody stream(InputStream input, HttpHeaders headers,
+                                        ScaleConversion conversion) {
+        MediaType format = headers.getContentType();
+        if (ColumnarFormat.MEDIA_TYPE.isCompatibleWith(format)) {
+            long length = headers.getContentLength();
+            return output -> convert(conversion, audit -> convertColumnar(input, length, output, conversion, audit));
+        }
+        boolean delimited = MediaType.APPLICATION_NDJSON.isCompatibleWith(format);
+        return output -> convert(conversion, audit -> convertJson(input, output, delimited, conversion, audit));
+    }
+
+    /* Converts a batch while recording its readings, and counts them once it has been converted */
+    private void convert(ScaleConversion conversion, BatchConverter converter) throws IOException {
+        try (AuditBatch audit = auditJournal.batch(conversion.getSource(), conversion.getTarget())) {
+            metrics.recordReadings(conversion.getSource(), conversion.getTarget(), converter.convert(audit));
+        }
+    }
+
+    private long convertJson(InputStream input, OutputStream output, boolean delimited,
+                             ScaleConversion conversion, AuditBatch audit) throws IOException {
+        ConversionPhaseEvent event = new ConversionPhaseEvent();
+        event.begin();
+        long count = 0;
+        try (JsonParser parser = jsonFactory.createParser(input);
+             JsonGenerator generator = jsonFactory.createGenerator(output)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            if (delimited) {
+                JsonToken token;
+                while ((token = parser.nextToken()) != null) {
+                    generator.writeNumber(convert(readValue(parser, token), conversion, audit));
+                    generator.writeRaw('\n');
+                    count++;
+                }
+            } else {
+                if (parser.nextToken() != JsonToken.START_ARRAY) {
+                    throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                            "Expected a JSON array of temperatures");
+                }
+                generator.writeStartArray();
+                JsonToken token;
+                while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                    generator.writeNumber(convert(readValue(parser, token), conversion, audit));
+                    count++;
+                }
+                generator.writeEndArray();
+            }
+            // Most of the response is still buffered by the generator
+            audit.commit();
+            event.complete(ConversionPhaseEvent.Phase.STREAMING, conversion.getSource(), conversion.getTarget(),
+                    parser.currentLocation().getByteOffset(), count);
+        }
+        return count;
+    }
+
+    /*
+     * Float64 readings are converted a block at a time by the array kernel; int32 readings are
+     * scaled integers and go through the lookup tables. Parallel batches read larger blocks and
+     * split them into slices converted on the pool.
+     *
+     * The response is committed once the first block is written, so everything that can be
+     * checked up front is: the header, and the number of readings against the length of the
+     * body when it is known. The output header is only written with the first converted block,
+     * so a body that ends early or a reading that overflows in it is still answered with a 400.
+     * A failure in a later block propagates and the server closes the connection before the
+     * end of the chunked body, so the truncated response cannot be mistaken for a complete one.
+     */
+    private long convertColumnar(InputStream input, long contentLength, OutputStream output,
+                                 ScaleConversion conversion, AuditBatch audit) throws IOException {
+        ConversionPhaseEvent event = new ConversionPhaseEvent();
+        event.begin();
+        ReadableByteChannel in = Channels.newChannel(input);
+        WritableByteChannel out = Channels.newChannel(output);
+        ColumnarFormat.Header header;
+        try {
+            header = ColumnarFormat.readHeader(in);
+        } catch (IllegalArgumentException | EOFException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+        boolean scaled = header.type() == ColumnarFormat.ValueType.INT32;
+        int valueSize = header.type().size();
+        long expectedLength = ColumnarFormat.HEADER_SIZE + header.count() * valueSize;
+        if (contentLength >= 0 && contentLength != expectedLength) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Columnar payload declares "
+                    + header.count() + " values, " + expectedLength + " bytes, but has " + contentLength);
+        }
+
+        try (ParallelConversionExecutor.Lease lease = parallelExecutor.lease(header.count())) {
+            int blockSize = lease.parallelism() > 1 ? PARALLEL_SLICE_SIZE * lease.parallelism() : CHUNK_SIZE;
+            ByteBuffer inBuffer = ByteBuffer.allocate(blockSize * valueSize).order(ByteOrder.LITTLE_ENDIAN);
+            ByteBuffer outBuffer = ByteBuffer.allocate(blockSize * valueSize).order(ByteOrder.LITTLE_ENDIAN);
+            ByteBuffer outHeader = ByteBuffer.allocate(ColumnarFormat.HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            ColumnarFormat.writeHeader(scaled
+                    ? new ColumnarFormat.Header(header.type(), lookupTableConverter.getOutputResolution(), header.count())
+                    : header, outHeader);
+            outHeader.flip();
+
+            double[] values = new double[scaled ? 0 : blockSize];
+            long remaining = header.count();
+            do {
+                int length = (int) Math.min(remaining, blockSize);
+                inBuffer.clear().limit(length * valueSize);
+                try {
+                    ColumnarFormat.readFully(in, inBuffer);
+                } catch (EOFException e) {
+                    throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+                }
+                inBuffer.flip();
+                outBuffer.clear();
+                if (scaled) {
+                    IntBuffer readings = inBuffer.asIntBuffer();
+                    IntBuffer results = outBuffer.asIntBuffer();
+                    try {
+                        lease.run(length, (from, to) ->
+                                convertScaled(readings, results, from, to, header.scale(), conversion));
+                    } catch (ArithmeticException e) {
+                        throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                                "A converted reading does not fit in an int32 column");
+                    }
+                    audit.recordScaled(readings, header.scale(), results, lookupTableConverter.getOutputResolution(),
+                            length);
+                } else {
+                    DoubleBuffer readings = inBuffer.asDoubleBuffer();
+                    readings.get(0, values, 0, length);
+                    lease.run(length, (from, to) -> kernel.apply(conversion, values, from, to));
+                    audit.record(readings, values, length);
+                    outBuffer.asDoubleBuffer().put(values, 0, length);
+                }
+                audit.commit();
+                if (outHeader.hasRemaining()) {
+                    ColumnarFormat.writeFully(out, outHeader);
+                }
+                outBuffer.limit(length * valueSize);
+                ColumnarFormat.writeFully(out, outBuffer);
+                remaining -= length;
+            } while (remaining > 0);
+        }
+        event.complete(ConversionPhaseEvent.Phase.STREAMING, conversion.getSource(), conversion.getTarget(),
+                expectedLength, header.count());
+        return header.count();
+    }
+
+    private void convertScaled(IntBuffer readings, IntBuffer results, int from, int to, int resolution,
+                               ScaleConversion conversion) {
+        for (int i = from; i < to; i++) {
+            long converted = lookupTableConverter.convertScaled(
+                    conversion.getSource(), conversion.getTarget(), readings.get(i), resolution);
+            results.put(i, Math.toIntExact(converted));
+        }
+    }
+
+    private static BigDecimal convert(BigDecimal reading, ScaleConversion conversion, AuditBatch audit) {
+        BigDecimal result = conversion.apply(reading);
+        audit.record(reading, result);
+        return result;
+    }
+
+    private static BigDecimal readValue(JsonParser parser, JsonToken token) throws IOException {
+        if (token == null || !token.isNumeric()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Expected a numeric temperature but found " + token);
+        }
+        return parser.getDecimalValue();
+    }
+
+    /* Converts the readings of a batch and returns how many there were */
+    @FunctionalInterface
+    private interface BatchConverter {
+        long convert(AuditBatch audit) throws IOException;
+    }
+
+}
@@ -0,0 +1,21 @@
+package com.gklyphon.termometer.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuration of the conversion of arrays of readings, bound from the
+ * {@code termometer.bulk} properties.
+ *
+ * @param vectorized whether arrays are converted with the Vector API when the
+ *                   {@code jdk.incubator.vector} module is available (default true)
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+@ConfigurationProperties(prefix = "termometer.bulk")
+public record BulkConversionProperties(
+        @DefaultValue("true") boolean vectorized) {
+}
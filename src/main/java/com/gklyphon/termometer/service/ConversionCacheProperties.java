@@ -0,0 +1,23 @@
+package com.gklyphon.termometer.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuration of the single-value result cache, bound from the
+ * {@code termometer.cache} properties.
+ *
+ * @param enabled     whether results are cached (default false)
+ * @param maximumSize maximum number of cached results; the least valuable entries are
+ *                    evicted once it is reached (default 100000)
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+@ConfigurationProperties(prefix = "termometer.cache")
+public record ConversionCacheProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("100000") long maximumSize) {
+}
@@ -0,0 +1,25 @@
+package com.gklyphon.termometer.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.math.RoundingMode;
+
+/**
+ * Configuration of the exact conversion arithmetic, bound from the
+ * {@code termometer.conversion} properties.
+ *
+ * @param precision    number of significant digits kept when a quotient has no finite
+ *                     decimal expansion, such as Fahrenheit to Celsius (default 34)
+ * @param roundingMode rounding applied when the precision is exceeded (default HALF_EVEN)
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+@ConfigurationProperties(prefix = "termometer.conversion")
+public record ConversionProperties(
+        @DefaultValue("34") int precision,
+        @DefaultValue("HALF_EVEN") RoundingMode roundingMode) {
+}
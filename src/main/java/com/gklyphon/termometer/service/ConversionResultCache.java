@@ -0,0 +1,98 @@
+package com.gklyphon.termometer.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.gklyphon.termometer.model.TemperatureScale;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+
+/**
+ * Optional in-process cache of single-value conversion results.
+ *
+ * <p>Entries are keyed by scale pair and by the parsed reading. Parsing already normalizes
+ * the text of a reading, so {@code 36.6}, {@code +36.6} and {@code 036.6} share an entry,
+ * while {@code 36.60} keeps its own because its result is written with a different scale.
+ * Each entry holds the converted value together with its JSON bytes, so a hit needs
+ * neither arithmetic nor serialization.
+ *
+ * <p>The cache is bounded by {@code termometer.cache.maximum-size} and evicts with
+ * Caffeine's W-TinyLFU policy. Hits, misses and evictions are published as the
+ * {@code cache.*} meters with the tag {@code cache=conversions}.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+@Service
+public class ConversionResultCache {
+
+    /**
+     * A cached conversion result.
+     *
+     * @param value the converted reading
+     * @param json  the converted reading serialized as a JSON number
+     */
+    public record CachedConversion(BigDecimal value, byte[] json) {
+    }
+
+    private record Key(TemperatureScale source, TemperatureScale target, BigDecimal degrees) {
+    }
+
+    private final TemperatureConversionEngine engine;
+    private final ObjectMapper objectMapper;
+    private final Cache<Key, CachedConversion> cache;
+
+    public ConversionResultCache(ConversionCacheProperties properties, TemperatureConversionEngine engine,
+                                 ObjectMapper objectMapper, MeterRegistry registry) {
+        this.engine = engine;
+        this.objectMapper = objectMapper;
+        if (properties.enabled()) {
+            this.cache = Caffeine.newBuilder()
+                    .maximumSize(properties.maximumSize())
+                    .recordStats()
+                    .build();
+            CaffeineCacheMetrics.monitor(registry, cache, "conversions");
+        } else {
+            this.cache = null;
+        }
+    }
+
+    /**
+     * @return whether results are cached
+     */
+    public boolean isEnabled() {
+        return cache != null;
+    }
+
+    /**
+     * Returns the cached result of a conversion, computing and caching it on a miss.
+     *
+     * @param source  the scale of the reading
+     * @param target  the scale to convert the reading to
+     * @param degrees the reading
+     * @return the converted reading and its JSON bytes
+     * @throws IllegalStateException if the cache is disabled
+     */
+    public CachedConversion get(TemperatureScale source, TemperatureScale target, BigDecimal degrees) {
+        if (cache == null) {
+            throw new IllegalStateException("The conversion result cache is disabled");
+        }
+        return cache.get(new Key(source, target, degrees), this::convert);
+    }
+
+    private CachedConversion convert(Key key) {
+        BigDecimal value = engine.convert(key.source(), key.target(), key.degrees());
+        try {
+            return new CachedConversion(value, objectMapper.writeValueAsBytes(value));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize " + value, e);
+        }
+    }
+
+}
@@ -0,0 +1,73 @@
+package com.gklyphon.termometer.service;
+
+import com.gklyphon.termometer.model.FixedPointValue;
+import com.gklyphon.termometer.model.TemperatureScale;
+import org.springframework.stereotype.Service;
+
+/**
+ * Converts single readings with fixed-point arithmetic.
+ *
+ * <p>The reading is parsed straight into a scaled {@code long}, converted with
+ * {@link ScaleConversion#applyScaled} and written from the resulting {@code long}, so no
+ * {@link java.math.BigDecimal} is created along the way. Results always have the
+ * configured number of decimal places and are rounded half-even, for example 36.6 &deg;C
+ * is 97.88 &deg;F and 1 &deg;F is -17.22 &deg;C at the default scale of 2. Up to that
+ * rounding the result is the exact one; readings too large to be converted within a
+ * {@code long} are rejected rather than approximated.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+@Service
+public class FixedPointConverter {
+
+    private final TemperatureConversionEngine engine;
+    private final int scale;
+
+    public FixedPointConverter(FixedPointProperties properties, TemperatureConversionEngine engine) {
+        if (properties.scale() < 0 || properties.scale() > 18) {
+            throw new IllegalArgumentException("termometer.fixed-point.scale must be between 0 and 18");
+        }
+        this.engine = engine;
+        this.scale = properties.scale();
+    }
+
+    /**
+     * Converts a reading written as a plain decimal number.
+     *
+     * @param source  the scale of the reading
+     * @param target  the scale to convert the reading to
+     * @param degrees the reading, such as {@code 36.6}
+     * @return the converted reading, with the configured scale
+     * @throws NumberFormatException if the reading is not a plain decimal number
+     * @throws ArithmeticException   if the reading has more than 18 decimal places or the
+     *                               conversion does not fit in a {@code long}
+     */
+    public FixedPointValue convert(TemperatureScale source, TemperatureScale target, String degrees) {
+        return convert(source, target, FixedPointValue.parse(degrees));
+    }
+
+    /**
+     * Converts a fixed-point reading.
+     *
+     * @param source  the scale of the reading
+     * @param target  the scale to convert the reading to
+     * @param reading the reading
+     * @return the converted reading, with the configured scale
+     * @throws ArithmeticException if the conversion does not fit in a {@code long}
+     */
+    public FixedPointValue convert(TemperatureScale source, TemperatureScale target, FixedPointValue reading) {
+        long converted = engine.conversion(source, target).applyScaled(reading.unscaled(), reading.scale(), scale);
+        return new FixedPointValue(converted, scale);
+    }
+
+    /**
+     * @return the decimal places of the converted readings
+     */
+    public int getScale() {
+        return scale;
+    }
+
+}
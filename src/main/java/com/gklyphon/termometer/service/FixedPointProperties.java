@@ -0,0 +1,20 @@
+package com.gklyphon.termometer.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuration of the fixed-point arithmetic mode, bound from the
+ * {@code termometer.fixed-point} properties.
+ *
+ * @param scale decimal places of the converted readings, between 0 and 18 (default 2)
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+@ConfigurationProperties(prefix = "termometer.fixed-point")
+public record FixedPointProperties(
+        @DefaultValue("2") int scale) {
+}
@@ -0,0 +1,142 @@
+package com.gklyphon.termometer.service;
+
+import com.gklyphon.termometer.model.FixedPointValue;
+import com.gklyphon.termometer.model.TemperatureScale;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Converts readings sent as scaled integers, such as tenths of a degree, with
+ * precomputed lookup tables.
+ *
+ * <p>For every pair of scales a {@code long[]} holds the converted value of each scaled
+ * reading in the configured range, itself scaled to the output resolution and rounded
+ * half-even. The range is declared in Celsius and covers the same temperatures in every
+ * source scale, so -50..150 &deg;C is also -58..302 &deg;F and 223.15..423.15 K. A
+ * conversion inside the range is a single indexed read; readings outside of it, or sent
+ * with another resolution, are converted by the {@link TemperatureConversionEngine} and
+ * rounded the same way, so both paths return identical results.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+@Service
+public class LookupTableConverter {
+
+    private final TemperatureConversionEngine engine;
+    private final int resolution;
+    private final int outputResolution;
+    private final long[] firstReading;
+    private final long[][][] tables;
+
+    public LookupTableConverter(LookupTableProperties properties, TemperatureConversionEngine engine) {
+        this.engine = engine;
+        this.resolution = properties.resolution();
+        this.outputResolution = properties.outputResolution();
+        if (properties.minCelsius().compareTo(properties.maxCelsius()) > 0) {
+            throw new IllegalArgumentException("termometer.lookup.min-celsius must not exceed max-celsius");
+        }
+
+        TemperatureScale[] scales = TemperatureScale.values();
+        this.firstReading = new long[scales.length];
+        this.tables = new long[scales.length][scales.length][];
+        for (TemperatureScale source : scales) {
+            // Scales with a negative factor, such as Delisle, reverse the range
+            BigDecimal low = engine.convert(TemperatureScale.CELSIUS, source, properties.minCelsius());
+            BigDecimal high = engine.convert(TemperatureScale.CELSIUS, source, properties.maxCelsius());
+            long first = low.min(high)
+                    .setScale(resolution, RoundingMode.FLOOR).unscaledValue().longValueExact();
+            long last = low.max(high)
+                    .setScale(resolution, RoundingMode.CEILING).unscaledValue().longValueExact();
+            firstReading[source.ordinal()] = first;
+            for (TemperatureScale target : scales) {
+                long[] table = new long[Math.toIntExact(last - first + 1)];
+                for (int i = 0; i < table.length; i++) {
+                    table[i] = compute(source, target, first + i, resolution);
+                }
+                tables[source.ordinal()][target.ordinal()] = table;
+            }
+        }
+    }
+
+    /**
+     * Converts a scaled reading.
+     *
+     * @param source     the scale of the reading
+     * @param target     the scale to convert the reading to
+     * @param value      the reading multiplied by 10<sup>resolution</sup>
+     * @param resolution the decimal places of the reading
+     * @return the converted reading, with the configured output resolution
+     * @throws ArithmeticException if the resolution is not between 0 and 18, or the converted
+     *                             reading does not fit in a {@code long}
+     */
+    public FixedPointValue convert(TemperatureScale source, TemperatureScale target, long value, int resolution) {
+        return new FixedPointValue(convertScaled(source, target, value, resolution), outputResolution);
+    }
+
+    /**
+     * Converts a reading scaled to the configured resolution, without allocating when the
+     * reading is inside the table.
+     *
+     * @param source the scale of the reading
+     * @param target the scale to convert the reading to
+     * @param value  the reading multiplied by 10<sup>resolution</sup>
+     * @return the converted reading multiplied by 10<sup>outputResolution</sup>
+     */
+    public long convertScaled(TemperatureScale source, TemperatureScale target, long value) {
+        long[] table = tables[source.ordinal()][target.ordinal()];
+        long index = value - firstReading[source.ordinal()];
+        if (index >= 0 && index < table.length) {
+            return table[(int) index];
+        }
+        return compute(source, target, value, resolution);
+    }
+
+    /**
+     * Converts a scaled reading with any resolution, reading from the tables when the
+     * resolution is the configured one.
+     *
+     * @param source     the scale of the reading
+     * @param target     the scale to convert the reading to
+     * @param value      the reading multiplied by 10<sup>resolution</sup>
+     * @param resolution the decimal places of the reading, between 0 and 18 like those of a
+     *                   {@link FixedPointValue}
+     * @return the converted reading multiplied by 10<sup>outputResolution</sup>
+     * @throws ArithmeticException if the resolution is out of range, or the converted reading
+     *                             does not fit in a {@code long}
+     */
+    public long convertScaled(TemperatureScale source, TemperatureScale target, long value, int resolution) {
+        if (resolution < 0 || resolution > 18) {
+            throw new ArithmeticException("Resolution must be between 0 and 18 but was " + resolution);
+        }
+        return resolution == this.resolution
+                ? convertScaled(source, target, value)
+                : compute(source, target, value, resolution);
+    }
+
+    /**
+     * @return the decimal places of the readings covered by the tables
+     */
+    public int getResolution() {
+        return resolution;
+    }
+
+    /**
+     * @return the decimal places of the converted readings
+     */
+    public int getOutputResolution() {
+        return outputResolution;
+    }
+
+    private long compute(TemperatureScale source, TemperatureScale target, long value, int resolution) {
+        return engine.convert(source, target, BigDecimal.valueOf(value, resolution))
+                .setScale(outputResolution, RoundingMode.HALF_EVEN)
+                .unscaledValue()
+                .longValueExact();
+    }
+
+}
@@ -0,0 +1,29 @@
+package com.gklyphon.termometer.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.math.BigDecimal;
+
+/**
+ * Configuration of the lookup tables used for scaled integer readings, bound from the
+ * {@code termometer.lookup} properties.
+ *
+ * @param resolution       decimal places of the scaled readings covered by the tables,
+ *                         1 for tenths of a degree (default)
+ * @param outputResolution decimal places of the converted readings (default 2)
+ * @param minCelsius       lower bound of the covered range, in Celsius (default -50)
+ * @param maxCelsius       upper bound of the covered range, in Celsius (default 150)
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+@ConfigurationProperties(prefix = "termometer.lookup")
+public record LookupTableProperties(
+        @DefaultValue("1") int resolution,
+        @DefaultValue("2") int outputResolution,
+        @DefaultValue("-50") BigDecimal minCelsius,
+        @DefaultValue("150") BigDecimal maxCelsius) {
+}
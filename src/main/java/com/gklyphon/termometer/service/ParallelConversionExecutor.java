@@ -0,0 +1,170 @@
+package com.gklyphon.termometer.service;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the conversion of large batches on a dedicated {@link ForkJoinPool}.
+ *
+ * <p>A batch first takes a {@link Lease}. Batches below the configured threshold get a
+ * sequential lease and are converted on the request thread as before. Larger batches
+ * need one of {@code max-requests} admission permits; a batch that cannot get one within
+ * the admission timeout is rejected with 503 (Service Unavailable), so a burst of huge
+ * uploads is pushed back to the clients instead of queueing work. An admitted batch
+ * splits each block of readings into at most {@code request-parallelism} slices.
+ *
+ * <p>The pool is smaller than the number of cores by default, so batches never take all
+ * of the CPU away from the single-value endpoints.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+@Component
+public class ParallelConversionExecutor implements DisposableBean {
+
+    /* Smallest slice worth handing to another thread */
+    private static final int MIN_SLICE = 4096;
+
+    private final ForkJoinPool pool;
+    private final Semaphore admissions;
+    private final long threshold;
+    private final int requestParallelism;
+    private final long admissionTimeoutNanos;
+    private final Lease sequential = new Lease(1, false);
+
+    public ParallelConversionExecutor(ParallelConversionProperties properties) {
+        if (properties.requestParallelism() <= 0 || properties.maxRequests() <= 0) {
+            throw new IllegalArgumentException(
+                    "termometer.bulk.parallel.request-parallelism and max-requests must be positive");
+        }
+        int parallelism = properties.parallelism() > 0
+                ? properties.parallelism()
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.pool = new ForkJoinPool(parallelism, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("termometer-bulk-" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+        this.admissions = new Semaphore(properties.maxRequests());
+        this.threshold = properties.threshold();
+        this.requestParallelism = Math.min(properties.requestParallelism(), parallelism);
+        this.admissionTimeoutNanos = properties.admissionTimeout().toNanos();
+    }
+
+    /**
+     * Takes a lease for a batch of the given size, waiting for admission when the batch
+     * is converted in parallel.
+     *
+     * @param readings the number of readings in the batch
+     * @return the lease, to be closed once the batch is converted
+     * @throws ResponseStatusException with status 503 if the batch is not admitted in time
+     */
+    public Lease lease(long readings) {
+        if (readings < threshold || requestParallelism == 1) {
+            return sequential;
+        }
+        try {
+            if (!admissions.tryAcquire(admissionTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                        "Too many large batches in progress, retry later");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Interrupted waiting for admission");
+        }
+        return new Lease(requestParallelism, true);
+    }
+
+    /**
+     * @return the number of threads of the conversion pool
+     */
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    @Override
+    public void destroy() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Conversion of a range of readings, {@code from} inclusive to {@code to} exclusive.
+     */
+    @FunctionalInterface
+    public interface RangeAction {
+
+        void apply(int from, int to);
+    }
+
+    /**
+     * Right to convert one batch, sequentially or with a bounded number of pool threads.
+     */
+    public final class Lease implements AutoCloseable {
+
+        private final int parallelism;
+        private final boolean admitted;
+        private boolean closed;
+
+        private Lease(int parallelism, boolean admitted) {
+            this.parallelism = parallelism;
+            this.admitted = admitted;
+        }
+
+        /**
+         * @return the number of slices a block of readings is split into, 1 when sequential
+         */
+        public int parallelism() {
+            return parallelism;
+        }
+
+        /**
+         * Applies an action to every reading of a block, split into disjoint slices that
+         * run on the pool when the lease is parallel. Returns once every slice is done.
+         *
+         * @param length the number of readings in the block
+         * @param action the action applied to each slice
+         */
+        public void run(int length, RangeAction action) {
+            int slices = (int) Math.min(parallelism, Math.ceilDiv(length, MIN_SLICE));
+            if (slices <= 1) {
+                action.apply(0, length);
+                return;
+            }
+            ForkJoinTask<?>[] tasks = new ForkJoinTask<?>[slices];
+            for (int i = 0; i < slices; i++) {
+                int from = (int) ((long) length * i / slices);
+                int to = (int) ((long) length * (i + 1) / slices);
+                tasks[i] = ForkJoinTask.adapt(() -> action.apply(from, to));
+            }
+            pool.invoke(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    invokeAll(tasks);
+                }
+            });
+        }
+
+        /**
+         * Returns the admission permit of a parallel lease.
+         */
+        @Override
+        public void close() {
+            if (admitted && !closed) {
+                closed = true;
+                admissions.release();
+            }
+        }
+    }
+
+}
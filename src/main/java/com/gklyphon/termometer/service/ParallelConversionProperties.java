@@ -0,0 +1,32 @@
+package com.gklyphon.termometer.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the parallel conversion of large batches, bound from the
+ * {@code termometer.bulk.parallel} properties.
+ *
+ * @param threshold          readings a batch needs to be converted in parallel (default 262144)
+ * @param parallelism        threads of the shared conversion pool, 0 for half of the
+ *                           cores (default)
+ * @param requestParallelism threads a single batch may use at the same time (default 4)
+ * @param maxRequests        batches converted in parallel at the same time (default 2)
+ * @param admissionTimeout   how long a large batch waits for its turn before being
+ *                           rejected (default 1 second)
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+@ConfigurationProperties(prefix = "termometer.bulk.parallel")
+public record ParallelConversionProperties(
+        @DefaultValue("262144") long threshold,
+        @DefaultValue("0") int parallelism,
+        @DefaultValue("4") int requestParallelism,
+        @DefaultValue("2") int maxRequests,
+        @DefaultValue("1s") Duration admissionTimeout) {
+}
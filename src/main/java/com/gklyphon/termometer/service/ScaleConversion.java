@@ -0,0 +1,252 @@
+package com.gklyphon.termometer.service;
+
+import com.gklyphon.termometer.model.TemperatureScale;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+/**
+ * Precomputed conversion between two temperature scales.
+ *
+ * <p>Composing the Kelvin relations of both scales gives
+ * <pre>target = (source + sourceShift) * numerator / denominator - targetShift</pre>
+ * All constants are resolved once, when the conversion is created. The exact form folds
+ * the shifts into a single offset whenever that can be done without rounding, so most
+ * pairs reduce to one multiplication, one division and one addition, for example
+ * {@code degrees * 9 / 5 + 32} for Celsius to Fahrenheit. The {@code double} form is
+ * always reduced to {@code degrees * factor + offset} and never allocates. The fixed-point
+ * form works on readings held as a {@code long} scaled by a power of ten: the whole
+ * relation is brought to one integer fraction, which is divided once and rounded
+ * half-even, so it is exact up to that rounding and never allocates either.
+ *
+ * <p>Instances are immutable and safe to share between threads.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+public final class ScaleConversion {
+
+    private final TemperatureScale source;
+    private final TemperatureScale target;
+    private final MathContext mathContext;
+
+    /* Exact form: ((degrees + preShift) * numerator / denominator) + postShift */
+    private final BigDecimal preShift;
+    private final BigDecimal numerator;
+    private final BigDecimal denominator;
+    private final BigDecimal postShift;
+    private final boolean scaled;
+    private final boolean divided;
+    private final boolean terminatingDivision;
+
+    /* Primitive form: degrees * factor + offset */
+    private final double factor;
+    private final double offset;
+
+    /* Fixed-point form: shifts as longs with shiftScale decimal places, and the reduced fraction */
+    private final long fixedNumerator;
+    private final long fixedDenominator;
+    private final int shiftScale;
+    private final long fixedPreShift;
+    private final long fixedPostShift;
+
+    private static final long[] POWERS_OF_TEN = new long[19];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    ScaleConversion(TemperatureScale source, TemperatureScale target, MathContext mathContext) {
+        this.source = source;
+        this.target = target;
+        this.mathContext = mathContext;
+
+        long num = source.getNumerator() * target.getDenominator();
+        long den = source.getDenominator() * target.getNumerator();
+        long gcd = gcd(num, den);
+        if (den < 0) {
+            gcd = -gcd;
+        }
+        num /= gcd;
+        den /= gcd;
+        this.numerator = BigDecimal.valueOf(num);
+        this.denominator = BigDecimal.valueOf(den);
+        this.scaled = num != 1;
+        this.divided = den != 1;
+        this.terminatingDivision = isTerminating(den);
+
+        BigDecimal inShift = source.getShift();
+        BigDecimal outShift = target.getShift().negate();
+        BigDecimal foldedOut = exactQuotient(inShift.multiply(numerator), denominator);
+        BigDecimal foldedIn = exactQuotient(outShift.multiply(denominator), numerator);
+        if (foldedOut != null) {
+            this.preShift = BigDecimal.ZERO;
+            this.postShift = normalize(foldedOut.add(outShift));
+        } else if (foldedIn != null) {
+            this.preShift = normalize(inShift.add(foldedIn));
+            this.postShift = BigDecimal.ZERO;
+        } else {
+            this.preShift = inShift;
+            this.postShift = outShift;
+        }
+
+        this.fixedNumerator = num;
+        this.fixedDenominator = den;
+        this.shiftScale = Math.max(inShift.scale(), outShift.scale());
+        this.fixedPreShift = inShift.movePointRight(shiftScale).longValueExact();
+        this.fixedPostShift = outShift.movePointRight(shiftScale).longValueExact();
+
+        this.factor = (double) num / den;
+        this.offset = inShift.multiply(numerator)
+                .divide(denominator, MathContext.DECIMAL128)
+                .add(outShift)
+                .doubleValue();
+    }
+
+    /**
+     * Converts a reading exactly. The result is only rounded, according to the
+     * {@link MathContext} of the engine, when the quotient has no finite decimal expansion.
+     *
+     * @param degrees the reading in the source scale
+     * @return the reading in the target scale
+     */
+    public BigDecimal apply(BigDecimal degrees) {
+        BigDecimal value = preShift.signum() == 0 ? degrees : degrees.add(preShift);
+        if (scaled) {
+            value = value.multiply(numerator);
+        }
+        if (divided) {
+            value = terminatingDivision
+                    ? value.divide(denominator)
+                    : value.divide(denominator, mathContext);
+        }
+        return postShift.signum() == 0 ? value : value.add(postShift);
+    }
+
+    /**
+     * Converts a reading using primitive arithmetic, without allocating.
+     *
+     * @param degrees the reading in the source scale
+     * @return the reading in the target scale
+     */
+    public double apply(double degrees) {
+        return degrees * factor + offset;
+    }
+
+    /**
+     * Converts a fixed-point reading using exact integer arithmetic, rounding the result
+     * half-even to the requested decimal places.
+     *
+     * <p>The result is what the exact form gives once rounded to {@code resultScale}
+     * decimal places, for example 36.6 &deg;C to Fahrenheit is {@code 3660} at scale 2
+     * becoming {@code 9788}, and 1 &deg;F to Celsius is {@code 100} becoming
+     * {@code -1722} (-17.2222... rounded).
+     *
+     * @param unscaled    the reading multiplied by 10<sup>scale</sup>
+     * @param scale       the decimal places of the reading, between 0 and 18
+     * @param resultScale the decimal places of the result, between 0 and 18
+     * @return the converted reading multiplied by 10<sup>resultScale</sup>
+     * @throws ArithmeticException if an intermediate value does not fit in a {@code long},
+     *                             which can only happen for readings with close to 18 digits
+     */
+    public long applyScaled(long unscaled, int scale, int resultScale) {
+        if (scale < 0 || scale > 18 || resultScale < 0 || resultScale > 18) {
+            throw new ArithmeticException("Fixed-point scales must be between 0 and 18");
+        }
+        // Everything at the larger of the reading and shift scales: (x + pre) * num / den + post
+        int common = Math.max(scale, shiftScale);
+        long shiftFactor = POWERS_OF_TEN[common - shiftScale];
+        long shifted = Math.addExact(Math.multiplyExact(unscaled, POWERS_OF_TEN[common - scale]),
+                Math.multiplyExact(fixedPreShift, shiftFactor));
+        long dividend = Math.addExact(Math.multiplyExact(shifted, fixedNumerator),
+                Math.multiplyExact(Math.multiplyExact(fixedPostShift, shiftFactor), fixedDenominator));
+        long divisor = fixedDenominator;
+        if (resultScale >= common) {
+            dividend = Math.multiplyExact(dividend, POWERS_OF_TEN[resultScale - common]);
+        } else {
+            divisor = Math.multiplyExact(divisor, POWERS_OF_TEN[common - resultScale]);
+        }
+        return divideHalfEven(dividend, divisor);
+    }
+
+    /**
+     * @return the scale readings are converted from
+     */
+    public TemperatureScale getSource() {
+        return source;
+    }
+
+    /**
+     * @return the scale readings are converted to
+     */
+    public TemperatureScale getTarget() {
+        return target;
+    }
+
+    /**
+     * @return the multiplier of the primitive form {@code degrees * factor + offset}
+     */
+    public double getFactor() {
+        return factor;
+    }
+
+    /**
+     * @return the addend of the primitive form {@code degrees * factor + offset}
+     */
+    public double getOffset() {
+        return offset;
+    }
+
+    /* The divisor is positive; the remainder is compared with half of it without overflowing */
+    private static long divideHalfEven(long dividend, long divisor) {
+        long quotient = dividend / divisor;
+        long remainder = Math.abs(dividend % divisor);
+        long excess = remainder - (divisor - remainder);
+        if (excess > 0 || excess == 0 && remainder != 0 && (quotient & 1) != 0) {
+            return dividend < 0 ? quotient - 1 : quotient + 1;
+        }
+        return quotient;
+    }
+
+    private static BigDecimal exactQuotient(BigDecimal dividend, BigDecimal divisor) {
+        try {
+            return dividend.divide(divisor);
+        } catch (ArithmeticException e) {
+            return null;
+        }
+    }
+
+    /* Drops trailing zeros so folded shifts such as 32.00 do not widen the scale of results */
+    private static BigDecimal normalize(BigDecimal value) {
+        BigDecimal stripped = value.stripTrailingZeros();
+        return stripped.scale() < 0 ? stripped.setScale(0) : stripped;
+    }
+
+    private static boolean isTerminating(long denominator) {
+        long d = Math.abs(denominator);
+        while (d % 2 == 0) {
+            d /= 2;
+        }
+        while (d % 5 == 0) {
+            d /= 5;
+        }
+        return d == 1;
+    }
+
+    private static long gcd(long a, long b) {
+        a = Math.abs(a);
+        b = Math.abs(b);
+        while (b != 0) {
+            long t = a % b;
+            a = b;
+            b = t;
+        }
+        return a;
+    }
+
+}
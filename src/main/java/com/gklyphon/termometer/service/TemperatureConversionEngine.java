@@ -0,0 +1,79 @@
+package com.gklyphon.termometer.service;
+
+import com.gklyphon.termometer.model.TemperatureScale;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+/**
+ * Single source of the temperature conversion formulas used by every controller.
+ *
+ * <p>A {@link ScaleConversion} is precomputed for each pair of scales when the engine
+ * is created, so a conversion is a table lookup followed by the arithmetic itself.
+ * Two modes are offered:
+ * <ul>
+ * <li>an exact {@link BigDecimal} mode, rounded with the configured {@link MathContext}
+ * only when a quotient does not terminate</li>
+ * <li>a primitive {@code double} mode that does not allocate</li>
+ * </ul>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+@Service
+public class TemperatureConversionEngine {
+
+    private final ScaleConversion[][] conversions;
+
+    public TemperatureConversionEngine(ConversionProperties properties) {
+        MathContext mathContext = new MathContext(properties.precision(), properties.roundingMode());
+        TemperatureScale[] scales = TemperatureScale.values();
+        this.conversions = new ScaleConversion[scales.length][scales.length];
+        for (TemperatureScale source : scales) {
+            for (TemperatureScale target : scales) {
+                conversions[source.ordinal()][target.ordinal()] =
+                        new ScaleConversion(source, target, mathContext);
+            }
+        }
+    }
+
+    /**
+     * Returns the precomputed conversion between two scales, for callers that convert
+     * many readings of the same pair.
+     *
+     * @param source the scale readings are converted from
+     * @param target the scale readings are converted to
+     * @return the conversion between both scales
+     */
+    public ScaleConversion conversion(TemperatureScale source, TemperatureScale target) {
+        return conversions[source.ordinal()][target.ordinal()];
+    }
+
+    /**
+     * Converts a reading exactly.
+     *
+     * @param source  the scale of the reading
+     * @param target  the scale to convert the reading to
+     * @param degrees the reading
+     * @return the converted reading
+     */
+    public BigDecimal convert(TemperatureScale source, TemperatureScale target, BigDecimal degrees) {
+        return conversion(source, target).apply(degrees);
+    }
+
+    /**
+     * Converts a reading using primitive arithmetic, without allocating.
+     *
+     * @param source  the scale of the reading
+     * @param target  the scale to convert the reading to
+     * @param degrees the reading
+     * @return the converted reading
+     */
+    public double convert(TemperatureScale source, TemperatureScale target, double degrees) {
+        return conversion(source, target).apply(degrees);
+    }
+
+}
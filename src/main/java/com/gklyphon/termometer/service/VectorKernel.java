@@ -0,0 +1,62 @@
+package com.gklyphon.termometer.service;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vector API implementation of {@code value * factor + offset} over arrays, one fused
+ * multiply-add per lane.
+ *
+ * <p>This is the only class referring to {@code jdk.incubator.vector}; it is loaded by
+ * name from {@link ArrayConversionKernel} only after checking that the module is present,
+ * so the application still starts on a JVM launched without {@code --add-modules}, and
+ * native images, which do not support the incubator module, never reach it.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+final class VectorKernel implements ArrayConversionKernel.Kernel {
+
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Float> FLOATS = FloatVector.SPECIES_PREFERRED;
+
+    VectorKernel() {
+    }
+
+    @Override
+    public void apply(double[] values, int from, int to, double factor, double offset) {
+        DoubleVector factors = DoubleVector.broadcast(DOUBLES, factor);
+        DoubleVector offsets = DoubleVector.broadcast(DOUBLES, offset);
+        int i = from;
+        int bound = from + DOUBLES.loopBound(to - from);
+        for (; i < bound; i += DOUBLES.length()) {
+            DoubleVector.fromArray(DOUBLES, values, i).fma(factors, offsets).intoArray(values, i);
+        }
+        for (; i < to; i++) {
+            values[i] = Math.fma(values[i], factor, offset);
+        }
+    }
+
+    @Override
+    public void apply(float[] values, int from, int to, float factor, float offset) {
+        FloatVector factors = FloatVector.broadcast(FLOATS, factor);
+        FloatVector offsets = FloatVector.broadcast(FLOATS, offset);
+        int i = from;
+        int bound = from + FLOATS.loopBound(to - from);
+        for (; i < bound; i += FLOATS.length()) {
+            FloatVector.fromArray(FLOATS, values, i).fma(factors, offsets).intoArray(values, i);
+        }
+        for (; i < to; i++) {
+            values[i] = Math.fma(values[i], factor, offset);
+        }
+    }
+
+    @Override
+    public String describe() {
+        return "the Vector API, " + DOUBLES.length() + " doubles per vector";
+    }
+
+}
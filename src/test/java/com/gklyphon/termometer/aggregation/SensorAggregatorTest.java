@@ -0,0 +1,267 @@
+package com.gklyphon.termometer.aggregation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gklyphon.termometer.service.ConversionProperties;
+import com.gklyphon.termometer.service.TemperatureConversionEngine;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.ByteArrayInputStream;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static com.gklyphon.termometer.model.TemperatureScale.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for the {@link SensorAggregator}, verifying the statistics of sliding and
+ * tumbling windows built from time buckets.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+class SensorAggregatorTest {
+
+    static final Instant T0 = Instant.parse("2025-10-17T12:00:00Z");
+
+    final SensorAggregator aggregator = new SensorAggregator(
+            new AggregationProperties(CELSIUS, Duration.ofSeconds(10), 60, -50, 150, 200, 8, 3,
+                    Duration.ofSeconds(10)),
+            new TemperatureConversionEngine(new ConversionProperties(34, RoundingMode.HALF_EVEN)),
+            new ObjectMapper());
+
+    /**
+     * Tests that readings of several scales are normalized and aggregated.
+     */
+    @Test
+    void sliding_shouldAggregateNormalizedReadings_whenReadingsInWindow() {
+
+        aggregator.record("boiler", CELSIUS, 20, T0);
+        aggregator.record("boiler", FAHRENHEIT, 86, T0.plusSeconds(15));
+        aggregator.record("boiler", KELVIN, 313.15, T0.plusSeconds(25));
+
+        WindowStatistics statistics = aggregator.sliding("boiler", Duration.ofMinutes(1), T0.plusSeconds(29));
+
+        assertEquals(3, statistics.count());
+        assertEquals(20, statistics.min(), 1e-9);
+        assertEquals(40, statistics.max(), 1e-9);
+        assertEquals(30, statistics.mean(), 1e-9);
+        assertEquals(30, statistics.p50(), 1);
+        assertEquals(T0.plusSeconds(30), statistics.end());
+        assertEquals(T0.minusSeconds(30), statistics.start());
+    }
+
+    /**
+     * Tests that readings leave a sliding window once their bucket is outside of it.
+     */
+    @Test
+    void sliding_shouldExcludeOldBuckets_whenWindowMoves() {
+
+        aggregator.record("boiler", CELSIUS, 10, T0);
+        aggregator.record("boiler", CELSIUS, 50, T0.plusSeconds(60));
+
+        WindowStatistics statistics = aggregator.sliding("boiler", Duration.ofSeconds(30), T0.plusSeconds(60));
+
+        assertEquals(1, statistics.count());
+        assertEquals(50, statistics.min(), 1e-9);
+    }
+
+    /**
+     * Tests percentiles over a uniform distribution, accurate to one histogram bin.
+     */
+    @Test
+    void sliding_shouldEstimatePercentiles_whenManyReadings() {
+
+        for (int i = 0; i < 1000; i++) {
+            aggregator.record("oven", CELSIUS, i / 10.0, T0.plusMillis(i * 50L));
+        }
+
+        WindowStatistics statistics = aggregator.sliding("oven", Duration.ofMinutes(1), T0.plusSeconds(49));
+
+        assertEquals(1000, statistics.count());
+        assertEquals(49.95, statistics.mean(), 1e-9);
+        assertEquals(50, statistics.p50(), 1);
+        assertEquals(90, statistics.p90(), 1);
+        assertEquals(99, statistics.p99(), 1);
+    }
+
+    /**
+     * Tests that tumbling windows are aligned and returned oldest first, including empty ones.
+     */
+    @Test
+    void tumbling_shouldReturnAlignedWindows_whenCountGiven() {
+
+        aggregator.record("boiler", CELSIUS, 10, T0.plusSeconds(5));
+        aggregator.record("boiler", CELSIUS, 30, T0.plusSeconds(65));
+        aggregator.record("boiler", CELSIUS, 99, T0.plusSeconds(125));
+
+        List<WindowStatistics> windows = aggregator.tumbling("boiler", Duration.ofMinutes(1), 3, T0.plusSeconds(130));
+
+        assertEquals(3, windows.size());
+        assertEquals(T0.minusSeconds(60), windows.get(0).start());
+        assertEquals(0, windows.get(0).count());
+        assertNull(windows.get(0).mean());
+        assertEquals(10, windows.get(1).mean(), 1e-9);
+        assertEquals(30, windows.get(2).mean(), 1e-9);
+        assertEquals(T0.plusSeconds(120), windows.get(2).end());
+    }
+
+    /**
+     * Tests that a reading whose bucket has been reused is dropped.
+     */
+    @Test
+    void record_shouldDropReading_whenOlderThanKeptBuckets() {
+
+        aggregator.record("boiler", CELSIUS, 10, T0.plus(Duration.ofMinutes(10)));
+
+        assertFalse(aggregator.record("boiler", CELSIUS, 10, T0));
+    }
+
+    /**
+     * Tests that a reading timestamped far in the future is rejected, and so does not make
+     * the readings that share its slot look late.
+     */
+    @Test
+    void record_shouldRejectReading_whenTimestampedBeyondClockSkew() {
+
+        Instant now = Instant.now();
+        // 60 buckets of 10 seconds: ten minutes ahead maps to the slot of the current bucket
+        ResponseStatusException e = assertThrows(ResponseStatusException.class,
+                () -> aggregator.record("boiler", CELSIUS, 99, now.plus(Duration.ofMinutes(10))));
+        assertEquals(400, e.getStatusCode().value());
+
+        assertTrue(aggregator.record("boiler", CELSIUS, 10, now.plusSeconds(5)));
+        assertTrue(aggregator.record("boiler", CELSIUS, 20, now));
+        assertEquals(15, aggregator.sliding("boiler", Duration.ofSeconds(20), now.plusSeconds(5)).mean(), 1e-9);
+    }
+
+    /**
+     * Tests that concurrent readings of many sensors are all counted.
+     */
+    @Test
+    void record_shouldCountEveryReading_whenRecordedConcurrently() {
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            CompletableFuture.allOf(IntStream.range(0, 8)
+                    .mapToObj(t -> CompletableFuture.runAsync(() -> {
+                        for (int i = 0; i < 10_000; i++) {
+                            aggregator.record("sensor-" + (i % 3), CELSIUS, i % 100, T0);
+                        }
+                    }, executor))
+                    .toArray(CompletableFuture[]::new)).join();
+        }
+
+        long total = IntStream.range(0, 3)
+                .mapToLong(s -> aggregator.sliding("sensor-" + s, Duration.ofSeconds(10), T0).count())
+                .sum();
+        assertEquals(80_000, total);
+    }
+
+    /**
+     * Tests that new sensors are rejected once the limit is reached.
+     */
+    @Test
+    void record_shouldRejectNewSensor_whenLimitReached() {
+
+        aggregator.record("a", CELSIUS, 1, T0);
+        aggregator.record("b", CELSIUS, 1, T0);
+        aggregator.record("c", CELSIUS, 1, T0);
+
+        ResponseStatusException e = assertThrows(ResponseStatusException.class,
+                () -> aggregator.record("d", CELSIUS, 1, T0));
+        assertEquals(503, e.getStatusCode().value());
+        assertEquals(3, aggregator.getSensorCount());
+    }
+
+    /**
+     * Tests that windows longer than the kept buckets are rejected.
+     */
+    @Test
+    void sliding_shouldReject_whenWindowLongerThanHistory() {
+
+        aggregator.record("boiler", CELSIUS, 1, T0);
+
+        assertThrows(ResponseStatusException.class,
+                () -> aggregator.sliding("boiler", Duration.ofMinutes(11), T0));
+        assertThrows(ResponseStatusException.class,
+                () -> aggregator.sliding("boiler", Duration.ofSeconds(15), T0));
+    }
+
+    /**
+     * Tests ingestion of newline-delimited readings with and without timestamps.
+     */
+    @Test
+    void ingest_shouldRecordEveryReading_whenNdjsonGiven() throws Exception {
+
+        String body = """
+                {"sensor":"boiler","scale":"FAHRENHEIT","degrees":212,"timestamp":%d}
+                {"sensor":"boiler","scale":"kelvin","degrees":373.15,"timestamp":%d,"unit":{"ignored":true}}
+                """.formatted(T0.toEpochMilli(), T0.toEpochMilli());
+
+        IngestionResult result = aggregator.ingest(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(new IngestionResult(2, 0), result);
+        assertEquals(100, aggregator.sliding("boiler", Duration.ofSeconds(10), T0).mean(), 1e-9);
+    }
+
+    /**
+     * Tests that a reading overflowing to infinity, as written or once normalized, is
+     * rejected like a missing one instead of being aggregated.
+     */
+    @Test
+    void ingest_shouldRejectReading_whenDegreesNotFinite() {
+
+        String body = """
+                {"sensor":"boiler","scale":"celsius","degrees":20,"timestamp":%d}
+                {"sensor":"boiler","scale":"celsius","degrees":1e400,"timestamp":%d}
+                """.formatted(T0.toEpochMilli(), T0.toEpochMilli());
+
+        ResponseStatusException e = assertThrows(ResponseStatusException.class,
+                () -> aggregator.ingest(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8))));
+        assertEquals(400, e.getStatusCode().value());
+        e = assertThrows(ResponseStatusException.class, () -> aggregator.record("boiler", NEWTON, 1e308, T0));
+        assertEquals(400, e.getStatusCode().value());
+
+        WindowStatistics statistics = aggregator.sliding("boiler", Duration.ofSeconds(10), T0);
+        assertEquals(1, statistics.count());
+        assertEquals(20, statistics.mean(), 1e-9);
+    }
+
+    /**
+     * Tests that lowercase scale names are parsed regardless of the default locale, where
+     * {@code "i"} would otherwise upper-case to a dotted capital I.
+     */
+    @Test
+    void ingest_shouldParseScale_whenDefaultLocaleTurkish() throws Exception {
+
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+        try {
+            String body = """
+                    {"sensor":"oven","scale":"kelvin","degrees":373.15,"timestamp":%d}
+                    """.formatted(T0.toEpochMilli());
+
+            IngestionResult result = aggregator.ingest(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+
+            assertEquals(new IngestionResult(1, 0), result);
+            assertEquals(100, aggregator.sliding("oven", Duration.ofSeconds(10), T0).mean(), 1e-9);
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+}
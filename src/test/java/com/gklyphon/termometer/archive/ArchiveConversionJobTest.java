@@ -0,0 +1,198 @@
+package com.gklyphon.termometer.archive;
+
+import com.gklyphon.termometer.codec.ColumnarFormat;
+import com.gklyphon.termometer.model.TemperatureScale;
+import com.gklyphon.termometer.service.ArrayConversionKernel;
+import com.gklyphon.termometer.service.BulkConversionProperties;
+import com.gklyphon.termometer.service.ConversionProperties;
+import com.gklyphon.termometer.service.LookupTableConverter;
+import com.gklyphon.termometer.service.LookupTableProperties;
+import com.gklyphon.termometer.service.ScaleConversion;
+import com.gklyphon.termometer.service.TemperatureConversionEngine;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static com.gklyphon.termometer.model.TemperatureScale.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test class for the {@link ArchiveConversionJob}, converting small archives split into
+ * many chunks.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+class ArchiveConversionJobTest {
+
+    static final int COUNT = 10_001;
+    static final int CHUNK_SIZE = 1000;
+
+    final TemperatureConversionEngine engine =
+            new TemperatureConversionEngine(new ConversionProperties(34, RoundingMode.HALF_EVEN));
+    final ArrayConversionKernel kernel = new ArrayConversionKernel(new BulkConversionProperties(true));
+    final LookupTableConverter lookupTables = new LookupTableConverter(
+            new LookupTableProperties(1, 2, new BigDecimal("-50"), new BigDecimal("150")), engine);
+
+    @TempDir
+    Path directory;
+
+    /**
+     * Tests that every float64 reading is converted and the checkpoint is removed.
+     */
+    @Test
+    void convert_shouldConvertEveryReading_whenFloat64ArchiveGiven() throws Exception {
+
+        Path input = writeFloat64(directory.resolve("kelvin.tmc"));
+        Path output = directory.resolve("celsius.tmc");
+
+        long converted = job(input, output, KELVIN, CELSIUS).convert();
+
+        assertEquals(COUNT, converted);
+        ByteBuffer result = read(output);
+        assertEquals(new ColumnarFormat.Header(ColumnarFormat.ValueType.FLOAT64, 0, COUNT), header(result));
+        ScaleConversion conversion = engine.conversion(KELVIN, CELSIUS);
+        for (int i = 0; i < COUNT; i++) {
+            assertEquals(conversion.apply(reading(i)), result.getDouble(), 1e-9);
+        }
+        assertFalse(Files.exists(directory.resolve("celsius.tmc.checkpoint")));
+    }
+
+    /**
+     * Tests that int32 readings are converted through the lookup tables.
+     */
+    @Test
+    void convert_shouldUseLookupTables_whenInt32ArchiveGiven() throws Exception {
+
+        Path input = directory.resolve("fahrenheit.tmc");
+        ByteBuffer buffer = allocate(COUNT * Integer.BYTES);
+        ColumnarFormat.writeHeader(new ColumnarFormat.Header(ColumnarFormat.ValueType.INT32, 1, COUNT), buffer);
+        for (int i = 0; i < COUNT; i++) {
+            buffer.putInt(i - 5000);
+        }
+        Files.write(input, buffer.array());
+        Path output = directory.resolve("celsius.tmc");
+
+        job(input, output, FAHRENHEIT, CELSIUS).convert();
+
+        ByteBuffer result = read(output);
+        assertEquals(new ColumnarFormat.Header(ColumnarFormat.ValueType.INT32, 2, COUNT), header(result));
+        for (int i = 0; i < COUNT; i++) {
+            assertEquals(lookupTables.convertScaled(FAHRENHEIT, CELSIUS, i - 5000), result.getInt());
+        }
+    }
+
+    /**
+     * Tests that a run finding a checkpoint only converts the chunks after it.
+     */
+    @Test
+    void convert_shouldSkipCompletedChunks_whenCheckpointMatches() throws Exception {
+
+        Path input = writeFloat64(directory.resolve("kelvin.tmc"));
+        Path output = directory.resolve("celsius.tmc");
+        job(input, output, KELVIN, CELSIUS).convert();
+        ByteBuffer marked = read(output);
+        for (int i = 0; i < 3 * CHUNK_SIZE; i++) {
+            marked.putDouble(ColumnarFormat.HEADER_SIZE + i * Double.BYTES, -1);
+        }
+        Files.write(output, marked.array());
+        Checkpoint.start(input, output, KELVIN, CELSIUS, CHUNK_SIZE).withCompletedChunks(3)
+                .write(directory.resolve("celsius.tmc.checkpoint"));
+
+        long converted = job(input, output, KELVIN, CELSIUS).convert();
+
+        assertEquals(COUNT - 3 * CHUNK_SIZE, converted);
+        ByteBuffer result = read(output);
+        header(result);
+        ScaleConversion conversion = engine.conversion(KELVIN, CELSIUS);
+        for (int i = 0; i < COUNT; i++) {
+            assertEquals(i < 3 * CHUNK_SIZE ? -1 : conversion.apply(reading(i)), result.getDouble(), 1e-9);
+        }
+    }
+
+    /**
+     * Tests that a checkpoint left by a run towards another scale is ignored, so every
+     * chunk is converted again into the same output.
+     */
+    @Test
+    void convert_shouldStartOver_whenCheckpointTargetDiffers() throws Exception {
+
+        Path input = writeFloat64(directory.resolve("kelvin.tmc"));
+        Path output = directory.resolve("out.tmc");
+        job(input, output, KELVIN, CELSIUS).convert();
+        Checkpoint.start(input, output, KELVIN, CELSIUS, CHUNK_SIZE).withCompletedChunks(3)
+                .write(directory.resolve("out.tmc.checkpoint"));
+
+        long converted = job(input, output, KELVIN, FAHRENHEIT).convert();
+
+        assertEquals(COUNT, converted);
+        ByteBuffer result = read(output);
+        header(result);
+        ScaleConversion conversion = engine.conversion(KELVIN, FAHRENHEIT);
+        for (int i = 0; i < COUNT; i++) {
+            assertEquals(conversion.apply(reading(i)), result.getDouble(), 1e-9);
+        }
+    }
+
+    /**
+     * Tests that a file without the columnar header is rejected.
+     */
+    @Test
+    void convert_shouldFail_whenInputIsNotColumnar() throws Exception {
+
+        Path input = directory.resolve("readings.json");
+        Files.writeString(input, "[1, 2, 3, 4, 5, 6, 7, 8]");
+
+        assertThrows(IllegalArgumentException.class,
+                () -> job(input, directory.resolve("out.tmc"), KELVIN, CELSIUS).convert());
+    }
+
+    ArchiveConversionJob job(Path input, Path output, TemperatureScale source, TemperatureScale target) {
+        return new ArchiveConversionJob(
+                new ArchiveProperties(input, output, source, target, null, CHUNK_SIZE, 4, Duration.ofSeconds(10)),
+                engine, kernel, lookupTables);
+    }
+
+    static double reading(int i) {
+        return 200 + i * 0.01;
+    }
+
+    static Path writeFloat64(Path file) throws IOException {
+        ByteBuffer buffer = allocate(COUNT * Double.BYTES);
+        ColumnarFormat.writeHeader(new ColumnarFormat.Header(ColumnarFormat.ValueType.FLOAT64, 0, COUNT), buffer);
+        for (int i = 0; i < COUNT; i++) {
+            buffer.putDouble(reading(i));
+        }
+        return Files.write(file, buffer.array());
+    }
+
+    static ByteBuffer allocate(int values) {
+        return ByteBuffer.allocate(ColumnarFormat.HEADER_SIZE + values).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    static ByteBuffer read(Path file) throws IOException {
+        return ByteBuffer.wrap(Files.readAllBytes(file)).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    static ColumnarFormat.Header header(ByteBuffer buffer) throws IOException {
+        ColumnarFormat.Header header = ColumnarFormat.readHeader(
+                Channels.newChannel(new ByteArrayInputStream(buffer.array())));
+        buffer.position(ColumnarFormat.HEADER_SIZE);
+        return header;
+    }
+
+}
@@ -0,0 +1,246 @@
+package com.gklyphon.termometer.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.gklyphon.termometer.model.FixedPointValue;
+import com.gklyphon.termometer.service.ConversionProperties;
+import com.gklyphon.termometer.service.ScaleConversion;
+import com.gklyphon.termometer.service.TemperatureConversionEngine;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static com.gklyphon.termometer.model.TemperatureScale.*;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for the {@link AuditJournal}, its reader and the {@link AuditReplayJob},
+ * writing small journals split into many segments.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+class AuditJournalTest {
+
+    /* Segments of ten records */
+    static final DataSize SEGMENT_SIZE =
+            DataSize.ofBytes(AuditJournalFormat.HEADER_SIZE + 10 * AuditJournalFormat.RECORD_SIZE);
+
+    final TemperatureConversionEngine engine =
+            new TemperatureConversionEngine(new ConversionProperties(34, RoundingMode.HALF_EVEN));
+
+    @TempDir
+    Path directory;
+
+    /**
+     * Tests that records published concurrently through a small ring are all written, in
+     * sequence order and across segments, with every durability.
+     */
+    @Test
+    void record_shouldWriteEveryRecordInSequence_whenPublishedConcurrently() throws Exception {
+
+        for (AuditDurability durability : AuditDurability.values()) {
+            Path journalDirectory = directory.resolve(durability.name());
+            AuditJournal journal = journal(journalDirectory, durability);
+            journal.start();
+            try (ExecutorService threads = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int t = 0; t < 8; t++) {
+                    threads.execute(() -> {
+                        for (int i = 0; i < 50; i++) {
+                            journal.recordBatch(CELSIUS, KELVIN, i);
+                        }
+                    });
+                }
+            }
+            journal.stop();
+
+            List<AuditRecord> records = read(journalDirectory);
+            assertEquals(400, records.size(), durability.name());
+            for (int i = 0; i < records.size(); i++) {
+                assertEquals(i + 1, records.get(i).sequence());
+            }
+            assertEquals(40, AuditJournalFormat.segments(journalDirectory).size());
+        }
+    }
+
+    /**
+     * Tests that each kind of conversion reads back with its values.
+     */
+    @Test
+    void forEach_shouldReadBackEveryKind_whenConversionsRecorded() throws Exception {
+
+        AuditJournal journal = journal(directory, AuditDurability.SYNC);
+        journal.start();
+        journal.record(AuditRecord.Kind.DECIMAL, CELSIUS, FAHRENHEIT, new BigDecimal("36.6"), new BigDecimal("97.88"));
+        journal.record(AuditRecord.Kind.FIXED_POINT, KELVIN, CELSIUS,
+                new FixedPointValue(5, 3), new FixedPointValue(-27314, 2));
+        journal.record(AuditRecord.Kind.SCALED, CELSIUS, FAHRENHEIT,
+                new FixedPointValue(366, 1), new FixedPointValue(9788, 2));
+        journal.record(FAHRENHEIT, CELSIUS, 212.0, 100.0);
+        journal.recordBatch(NEWTON, DELISLE, 1234);
+        journal.stop();
+
+        List<AuditRecord> records = read(directory);
+        assertEquals(5, records.size());
+        assertEquals(new BigDecimal("97.88"), records.get(0).result());
+        assertEquals(FAHRENHEIT, records.get(0).target());
+        assertEquals(new BigDecimal("0.005"), records.get(1).input());
+        assertEquals(new BigDecimal("-273.14"), records.get(1).result());
+        assertEquals(AuditRecord.Kind.SCALED, records.get(2).kind());
+        assertEquals(new BigDecimal("36.6"), records.get(2).input());
+        assertEquals(100.0, records.get(3).result().doubleValue());
+        assertEquals(new BigDecimal("1234"), records.get(4).input());
+        assertNull(records.get(4).result());
+        assertFalse(records.get(0).rounded());
+        assertTrue(Duration.between(records.get(0).timestamp(), Instant.now()).toMinutes() < 1);
+    }
+
+    /**
+     * Tests that a restarted journal continues after the last record, overwriting a record
+     * torn by a crash.
+     */
+    @Test
+    void start_shouldContinueAfterLastValidRecord_whenJournalReopened() throws Exception {
+
+        AuditJournal first = journal(directory, AuditDurability.PERIODIC);
+        first.start();
+        for (int i = 0; i < 15; i++) {
+            first.recordBatch(CELSIUS, KELVIN, i);
+        }
+        first.stop();
+
+        // Tear the last record of the second segment
+        Path segment = AuditJournalFormat.segment(directory, 1);
+        try (FileChannel channel = FileChannel.open(segment, READ, WRITE)) {
+            channel.write(ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN).putInt(0, 42),
+                    AuditJournalFormat.recordOffset(4) + 20);
+        }
+        assertEquals(14, read(directory).size());
+
+        AuditJournal second = journal(directory, AuditDurability.PERIODIC);
+        second.start();
+        for (int i = 0; i < 3; i++) {
+            second.recordBatch(KELVIN, CELSIUS, i);
+        }
+        second.stop();
+
+        List<AuditRecord> records = read(directory);
+        assertEquals(17, records.size());
+        assertEquals(17, records.getLast().sequence());
+        assertEquals(KELVIN, records.get(14).source());
+    }
+
+    /**
+     * Tests that a batch records each of its readings, or only their number when batches
+     * are summarized.
+     *
+     * @throws Exception if the journal cannot be read
+     */
+    @Test
+    void batch_shouldRecordReadingsOrSummary_whenCoverageConfigured() throws Exception {
+
+        for (AuditBatchCoverage coverage : AuditBatchCoverage.values()) {
+            Path journalDirectory = directory.resolve(coverage.name());
+            AuditJournal journal = new AuditJournal(properties(journalDirectory, AuditDurability.SYNC, coverage));
+            journal.start();
+            try (AuditBatch batch = journal.batch(CELSIUS, KELVIN)) {
+                batch.record(new BigDecimal("1"), new BigDecimal("274.15"));
+                batch.record(DoubleBuffer.wrap(new double[] {2, 3}), new double[] {275.15, 276.15}, 2);
+                batch.recordScaled(IntBuffer.wrap(new int[] {40}), 1, IntBuffer.wrap(new int[] {27715}), 2, 1);
+            }
+            journal.stop();
+
+            List<AuditRecord> records = read(journalDirectory);
+            if (coverage == AuditBatchCoverage.READINGS) {
+                assertEquals(List.of(AuditRecord.Kind.DECIMAL, AuditRecord.Kind.BINARY, AuditRecord.Kind.BINARY,
+                        AuditRecord.Kind.SCALED), records.stream().map(AuditRecord::kind).toList());
+                assertEquals(0, new BigDecimal("3").compareTo(records.get(2).input()));
+                assertEquals(new BigDecimal("4.0"), records.get(3).input());
+                assertEquals(new BigDecimal("277.15"), records.get(3).result());
+            } else {
+                assertEquals(1, records.size());
+                assertEquals(AuditRecord.Kind.BATCH, records.getFirst().kind());
+                assertEquals(BigDecimal.valueOf(4), records.getFirst().input());
+            }
+        }
+    }
+
+    /**
+     * Tests that the replay reproduces recorded conversions, including a rounded decimal
+     * one and a fused binary one, skips a reading that is not finite, and reports a result
+     * that was not produced by the engine.
+     */
+    @Test
+    void replay_shouldReportMismatches_whenJournalReplayed() throws Exception {
+
+        AuditJournal journal = journal(directory, AuditDurability.SYNC);
+        journal.start();
+        BigDecimal third = engine.convert(FAHRENHEIT, CELSIUS, new BigDecimal("1"));
+        journal.record(AuditRecord.Kind.DECIMAL, FAHRENHEIT, CELSIUS, new BigDecimal("1"), third);
+        journal.record(AuditRecord.Kind.DECIMAL, CELSIUS, FAHRENHEIT, new BigDecimal("100"), new BigDecimal("212"));
+        journal.record(AuditRecord.Kind.FIXED_POINT, CELSIUS, FAHRENHEIT,
+                new FixedPointValue(25, 3), new FixedPointValue(3204, 2));
+        journal.record(KELVIN, CELSIUS, 300.0, engine.conversion(KELVIN, CELSIUS).apply(300.0));
+        ScaleConversion fused = engine.conversion(CELSIUS, FAHRENHEIT);
+        journal.record(CELSIUS, FAHRENHEIT, 36.6, Math.fma(36.6, fused.getFactor(), fused.getOffset()));
+        journal.record(CELSIUS, FAHRENHEIT, Double.NaN, Double.NaN);
+        journal.recordBatch(CELSIUS, KELVIN, 10);
+        journal.record(AuditRecord.Kind.DECIMAL, CELSIUS, KELVIN, new BigDecimal("0"), new BigDecimal("273.16"));
+        journal.stop();
+
+        Path output = directory.resolve("replay.ndjson");
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        AuditReplayJob job = new AuditReplayJob(properties(directory, AuditDurability.SYNC),
+                new AuditReplayProperties(1, output), engine, objectMapper);
+
+        assertEquals(new AuditReplayJob.Summary(5, 1, 2), job.replay());
+        assertTrue(read(directory).getFirst().rounded());
+        assertNull(read(directory).get(5).input());
+        assertEquals(8, Files.readAllLines(output).size());
+    }
+
+    private AuditJournal journal(Path journalDirectory, AuditDurability durability) {
+        return new AuditJournal(properties(journalDirectory, durability));
+    }
+
+    private static AuditProperties properties(Path journalDirectory, AuditDurability durability) {
+        return properties(journalDirectory, durability, AuditBatchCoverage.READINGS);
+    }
+
+    private static AuditProperties properties(Path journalDirectory, AuditDurability durability,
+                                              AuditBatchCoverage batchCoverage) {
+        return new AuditProperties(true, journalDirectory, SEGMENT_SIZE, 16, durability, Duration.ofMillis(5),
+                batchCoverage);
+    }
+
+    private static List<AuditRecord> read(Path journalDirectory) throws IOException {
+        List<AuditRecord> records = new ArrayList<>();
+        AuditJournalReader.forEach(journalDirectory, 1, records::add);
+        return records;
+    }
+
+}
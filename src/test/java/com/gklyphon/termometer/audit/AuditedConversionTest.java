@@ -0,0 +1,161 @@
+package com.gklyphon.termometer.audit;
+
+import com.gklyphon.termometer.codec.ColumnarFormat;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.gklyphon.termometer.model.TemperatureScale.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Test class for the auditing of the conversion endpoints, verifying that each reading
+ * is in the journal once its response has been returned.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+@SpringBootTest(properties = {"termometer.audit.enabled=true", "termometer.audit.durability=SYNC"})
+@AutoConfigureMockMvc
+class AuditedConversionTest {
+
+    @TempDir
+    static Path directory;
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @DynamicPropertySource
+    static void auditDirectory(DynamicPropertyRegistry registry) {
+        registry.add("termometer.audit.directory", directory::toString);
+    }
+
+    /**
+     * Tests a decimal, a fixed-point and a scaled conversion.
+     *
+     * @throws Exception if an error occurs during the requests or reading the journal
+     */
+    @Test
+    void conversions_shouldBeJournaled_whenSingleValueEndpointsCalled() throws Exception {
+
+        int before = read().size();
+        mockMvc.perform(MockMvcRequestBuilders.get("/celsius-to/fahrenheit").param("degrees", "100"))
+                .andExpect(status().isOk());
+        mockMvc.perform(MockMvcRequestBuilders.get("/kelvin-to/celsius")
+                        .param("degrees", "0.005")
+                        .param("arithmetic", "fixed-point"))
+                .andExpect(status().isOk());
+        mockMvc.perform(MockMvcRequestBuilders.get("/convert/scaled")
+                        .param("from", "celsius")
+                        .param("to", "fahrenheit")
+                        .param("value", "366"))
+                .andExpect(status().isOk());
+
+        List<AuditRecord> records = read().subList(before, read().size());
+
+        assertEquals(3, records.size());
+        assertEquals(AuditRecord.Kind.DECIMAL, records.get(0).kind());
+        assertEquals(CELSIUS, records.get(0).source());
+        assertEquals(new BigDecimal("212"), records.get(0).result());
+        assertEquals(AuditRecord.Kind.FIXED_POINT, records.get(1).kind());
+        assertEquals(KELVIN, records.get(1).source());
+        assertEquals(new BigDecimal("-273.14"), records.get(1).result());
+        assertEquals(AuditRecord.Kind.SCALED, records.get(2).kind());
+        assertEquals(new BigDecimal("97.88"), records.get(2).result());
+    }
+
+    /**
+     * Tests that a scaled reading with a resolution out of range is rejected with 400 and
+     * not journaled, as without the journal.
+     *
+     * @throws Exception if an error occurs during the request or reading the journal
+     */
+    @Test
+    void conversion_shouldNotBeJournaled_whenScaledResolutionOutOfRange() throws Exception {
+
+        int before = read().size();
+        mockMvc.perform(MockMvcRequestBuilders.get("/convert/scaled")
+                        .param("from", "celsius")
+                        .param("to", "fahrenheit")
+                        .param("value", "366")
+                        .param("resolution", "19"))
+                .andExpect(status().isBadRequest());
+
+        assertEquals(before, read().size());
+    }
+
+    /**
+     * Tests that every reading of a JSON, a float64 columnar and an int32 columnar batch is
+     * journaled with its own result.
+     *
+     * @throws Exception if an error occurs during the requests or reading the journal
+     */
+    @Test
+    void readings_shouldBeJournaled_whenBatchEndpointsCalled() throws Exception {
+
+        int before = read().size();
+        convertBatch(MockMvcRequestBuilders.post("/celsius-to/fahrenheit/batch")
+                .content("[100, -40]")
+                .contentType(MediaType.APPLICATION_JSON));
+        ByteBuffer float64 = ByteBuffer.allocate(ColumnarFormat.HEADER_SIZE + Double.BYTES)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        ColumnarFormat.writeHeader(new ColumnarFormat.Header(ColumnarFormat.ValueType.FLOAT64, 0, 1), float64);
+        float64.putDouble(300);
+        convertBatch(MockMvcRequestBuilders.post("/kelvin-to/celsius/batch")
+                .content(float64.array())
+                .contentType(ColumnarFormat.MEDIA_TYPE));
+        ByteBuffer int32 = ByteBuffer.allocate(ColumnarFormat.HEADER_SIZE + Integer.BYTES)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        ColumnarFormat.writeHeader(new ColumnarFormat.Header(ColumnarFormat.ValueType.INT32, 1, 1), int32);
+        int32.putInt(366);
+        convertBatch(MockMvcRequestBuilders.post("/celsius-to/kelvin/batch")
+                .content(int32.array())
+                .contentType(ColumnarFormat.MEDIA_TYPE));
+
+        List<AuditRecord> records = read().subList(before, read().size());
+
+        assertEquals(List.of(AuditRecord.Kind.DECIMAL, AuditRecord.Kind.DECIMAL, AuditRecord.Kind.BINARY,
+                AuditRecord.Kind.SCALED), records.stream().map(AuditRecord::kind).toList());
+        assertEquals(0, new BigDecimal("-40").compareTo(records.get(1).result()));
+        assertEquals(KELVIN, records.get(2).source());
+        assertEquals(26.85, records.get(2).result().doubleValue(), 1e-9);
+        assertEquals(new BigDecimal("36.6"), records.get(3).input());
+        assertEquals(new BigDecimal("309.75"), records.get(3).result());
+    }
+
+    private void convertBatch(MockHttpServletRequestBuilder batch) throws Exception {
+        MvcResult result = mockMvc.perform(batch)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+    }
+
+    private static List<AuditRecord> read() throws IOException {
+        List<AuditRecord> records = new ArrayList<>();
+        AuditJournalReader.forEach(directory, 1, records::add);
+        return records;
+    }
+
+}
@@ -0,0 +1,91 @@
+package com.gklyphon.termometer.benchmark;
+
+import com.gklyphon.termometer.model.TemperatureScale;
+import com.gklyphon.termometer.service.ArrayConversionKernel;
+import com.gklyphon.termometer.service.BulkConversionProperties;
+import com.gklyphon.termometer.service.ConversionProperties;
+import com.gklyphon.termometer.service.ScaleConversion;
+import com.gklyphon.termometer.service.TemperatureConversionEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.RoundingMode;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the Celsius to Fahrenheit conversion of whole arrays with the scalar loop
+ * and with the Vector API kernel. The sizes range from one that fits in L1 to one that
+ * is bound by memory bandwidth.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+@State(Scope.Benchmark)
+public class ArrayConversionBenchmark {
+
+    @Param({"1024", "65536", "4194304"})
+    int length;
+
+    double[] doubles;
+    float[] floats;
+
+    ScaleConversion celsiusToFahrenheit;
+    ArrayConversionKernel scalar;
+    ArrayConversionKernel vectorized;
+
+    @Setup
+    public void setUp() {
+        TemperatureConversionEngine engine =
+                new TemperatureConversionEngine(new ConversionProperties(34, RoundingMode.HALF_EVEN));
+        celsiusToFahrenheit = engine.conversion(TemperatureScale.CELSIUS, TemperatureScale.FAHRENHEIT);
+        scalar = new ArrayConversionKernel(new BulkConversionProperties(false));
+        vectorized = new ArrayConversionKernel(new BulkConversionProperties(true));
+        doubles = new SplittableRandom(42).doubles(length, -50, 150).toArray();
+        floats = new float[length];
+        for (int i = 0; i < length; i++) {
+            floats[i] = (float) doubles[i];
+        }
+    }
+
+    @Benchmark
+    public double[] scalarDoubles() {
+        scalar.apply(celsiusToFahrenheit, doubles, 0, length);
+        return doubles;
+    }
+
+    @Benchmark
+    public double[] vectorizedDoubles() {
+        vectorized.apply(celsiusToFahrenheit, doubles, 0, length);
+        return doubles;
+    }
+
+    @Benchmark
+    public float[] scalarFloats() {
+        scalar.apply(celsiusToFahrenheit, floats, 0, length);
+        return floats;
+    }
+
+    @Benchmark
+    public float[] vectorizedFloats() {
+        vectorized.apply(celsiusToFahrenheit, floats, 0, length);
+        return floats;
+    }
+
+}
@@ -0,0 +1,89 @@
+package com.gklyphon.termometer.benchmark;
+
+import com.gklyphon.termometer.audit.AuditBatchCoverage;
+import com.gklyphon.termometer.audit.AuditDurability;
+import com.gklyphon.termometer.audit.AuditJournal;
+import com.gklyphon.termometer.audit.AuditProperties;
+import com.gklyphon.termometer.audit.AuditRecord;
+import com.gklyphon.termometer.model.TemperatureScale;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the overhead the audit journal adds to a conversion, with 8 threads
+ * recording decimal conversions concurrently.
+ *
+ * <p>{@code disabled} measures the check made when the journal is off. With {@code NONE}
+ * and {@code PERIODIC} durability a record only costs its encoding and the publication
+ * into the ring buffer; with {@code SYNC} every call also waits for the force that
+ * commits it, shared with the records published by the other threads meanwhile.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class AuditJournalBenchmark {
+
+    @Param({"disabled", "NONE", "PERIODIC", "SYNC"})
+    String durability;
+
+    BigDecimal input = new BigDecimal("36.6");
+    BigDecimal result = new BigDecimal("97.88");
+
+    Path directory;
+    AuditJournal journal;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("audit-benchmark");
+        boolean enabled = !durability.equals("disabled");
+        journal = new AuditJournal(new AuditProperties(enabled, directory, DataSize.ofMegabytes(64), 65536,
+                enabled ? AuditDurability.valueOf(durability) : AuditDurability.NONE, Duration.ofMillis(10),
+                AuditBatchCoverage.READINGS));
+        journal.start();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        if (journal.isRunning()) {
+            journal.stop();
+        }
+        FileSystemUtils.deleteRecursively(directory);
+    }
+
+    @Benchmark
+    public void record() {
+        journal.record(AuditRecord.Kind.DECIMAL, TemperatureScale.CELSIUS, TemperatureScale.FAHRENHEIT,
+                input, result);
+    }
+
+}
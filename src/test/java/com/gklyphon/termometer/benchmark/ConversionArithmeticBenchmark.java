@@ -0,0 +1,148 @@
+package com.gklyphon.termometer.benchmark;
+
+import com.gklyphon.termometer.model.FixedPointValue;
+import com.gklyphon.termometer.model.TemperatureScale;
+import com.gklyphon.termometer.service.ConversionProperties;
+import com.gklyphon.termometer.service.LookupTableConverter;
+import com.gklyphon.termometer.service.LookupTableProperties;
+import com.gklyphon.termometer.service.ScaleConversion;
+import com.gklyphon.termometer.service.TemperatureConversionEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the cost of a single Celsius to Fahrenheit and Fahrenheit to Celsius
+ * conversion with each arithmetic representation.
+ *
+ * <p>The {@code legacy*} benchmarks reproduce the original per-controller
+ * {@code BigDecimal} chains, which build their constants on every call, and are kept as
+ * a baseline for the engine. The {@code scaledLong*} benchmarks use tenths of a degree
+ * held in a {@code long}, and the {@code lookup*} benchmarks read the same readings from
+ * the precomputed tables. The {@code fixedPoint*} benchmarks run the general scaled
+ * arithmetic of {@link ScaleConversion#applyScaled} to hundredths, and the
+ * {@code fixedPointParsed*} ones also parse the reading from its text, as the
+ * {@code arithmetic=fixed-point} requests do.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConversionArithmeticBenchmark {
+
+    @Param({"36.6", "-40", "1234.5678"})
+    String degrees;
+
+    BigDecimal decimalDegrees;
+    double doubleDegrees;
+    long tenthsDegrees;
+    FixedPointValue fixedDegrees;
+
+    TemperatureConversionEngine engine;
+    ScaleConversion celsiusToFahrenheit;
+    ScaleConversion fahrenheitToCelsius;
+    LookupTableConverter lookupTables;
+
+    @Setup
+    public void setUp() {
+        decimalDegrees = new BigDecimal(degrees);
+        doubleDegrees = decimalDegrees.doubleValue();
+        tenthsDegrees = decimalDegrees.movePointRight(1).setScale(0, RoundingMode.HALF_EVEN).longValue();
+        fixedDegrees = FixedPointValue.parse(degrees);
+        engine = new TemperatureConversionEngine(new ConversionProperties(34, RoundingMode.HALF_EVEN));
+        celsiusToFahrenheit = engine.conversion(TemperatureScale.CELSIUS, TemperatureScale.FAHRENHEIT);
+        fahrenheitToCelsius = engine.conversion(TemperatureScale.FAHRENHEIT, TemperatureScale.CELSIUS);
+        lookupTables = new LookupTableConverter(
+                new LookupTableProperties(1, 2, new BigDecimal("-50"), new BigDecimal("150")), engine);
+    }
+
+    @Benchmark
+    public BigDecimal legacyCelsiusToFahrenheit() {
+        return (decimalDegrees.multiply(BigDecimal.valueOf(1.8)))
+                .add(BigDecimal.valueOf(32));
+    }
+
+    @Benchmark
+    public BigDecimal legacyFahrenheitToCelsius() {
+        return (decimalDegrees.subtract(BigDecimal.valueOf(32)))
+                .multiply(BigDecimal.valueOf(0.5556));
+    }
+
+    @Benchmark
+    public BigDecimal exactCelsiusToFahrenheit() {
+        return engine.convert(TemperatureScale.CELSIUS, TemperatureScale.FAHRENHEIT, decimalDegrees);
+    }
+
+    @Benchmark
+    public BigDecimal exactFahrenheitToCelsius() {
+        return engine.convert(TemperatureScale.FAHRENHEIT, TemperatureScale.CELSIUS, decimalDegrees);
+    }
+
+    @Benchmark
+    public double doubleCelsiusToFahrenheit() {
+        return celsiusToFahrenheit.apply(doubleDegrees);
+    }
+
+    @Benchmark
+    public double doubleFahrenheitToCelsius() {
+        return fahrenheitToCelsius.apply(doubleDegrees);
+    }
+
+    @Benchmark
+    public long scaledLongCelsiusToFahrenheit() {
+        // tenths of a degree in, hundredths out: exact, since 9/5 only needs one extra digit
+        return tenthsDegrees * 18 + 3200;
+    }
+
+    @Benchmark
+    public long scaledLongFahrenheitToCelsius() {
+        // tenths in, tenths out, rounded to nearest (an odd divisor never produces a tie)
+        return Math.floorDiv((tenthsDegrees - 320) * 5 + 4, 9);
+    }
+
+    @Benchmark
+    public long lookupCelsiusToFahrenheit() {
+        return lookupTables.convertScaled(TemperatureScale.CELSIUS, TemperatureScale.FAHRENHEIT, tenthsDegrees);
+    }
+
+    @Benchmark
+    public long lookupFahrenheitToCelsius() {
+        return lookupTables.convertScaled(TemperatureScale.FAHRENHEIT, TemperatureScale.CELSIUS, tenthsDegrees);
+    }
+
+    @Benchmark
+    public long fixedPointCelsiusToFahrenheit() {
+        return celsiusToFahrenheit.applyScaled(fixedDegrees.unscaled(), fixedDegrees.scale(), 2);
+    }
+
+    @Benchmark
+    public long fixedPointFahrenheitToCelsius() {
+        return fahrenheitToCelsius.applyScaled(fixedDegrees.unscaled(), fixedDegrees.scale(), 2);
+    }
+
+    @Benchmark
+    public long fixedPointParsedCelsiusToFahrenheit() {
+        FixedPointValue reading = FixedPointValue.parse(degrees);
+        return celsiusToFahrenheit.applyScaled(reading.unscaled(), reading.scale(), 2);
+    }
+
+}
@@ -0,0 +1,77 @@
+package com.gklyphon.termometer.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.SimpleTypeConverter;
+import org.springframework.boot.autoconfigure.web.format.DateTimeFormatters;
+import org.springframework.boot.autoconfigure.web.format.WebConversionService;
+import org.springframework.core.MethodParameter;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks how the {@code degrees} query parameter is turned into a number.
+ *
+ * <p>{@link #springBinding()} goes through the same {@link SimpleTypeConverter} and
+ * {@link WebConversionService} path that Spring MVC uses to bind a
+ * {@code @RequestParam BigDecimal}; the other benchmarks parse the text directly.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequestParamBindingBenchmark {
+
+    @Param({"0", "36.6", "-1234.5678"})
+    String degrees;
+
+    SimpleTypeConverter typeConverter;
+    MethodParameter parameter;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        typeConverter = new SimpleTypeConverter();
+        typeConverter.setConversionService(new WebConversionService(new DateTimeFormatters()));
+        parameter = new MethodParameter(
+                RequestParamBindingBenchmark.class.getDeclaredMethod("handler", BigDecimal.class), 0);
+    }
+
+    @Benchmark
+    public BigDecimal springBinding() {
+        return typeConverter.convertIfNecessary(degrees, BigDecimal.class, parameter);
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalConstructor() {
+        return new BigDecimal(degrees);
+    }
+
+    @Benchmark
+    public double parseDouble() {
+        return Double.parseDouble(degrees);
+    }
+
+    /* Signature mirroring the conversion handlers, used to describe the bound parameter */
+    @SuppressWarnings("unused")
+    static void handler(@RequestParam(name = "degrees", defaultValue = "0") BigDecimal degrees) {
+    }
+
+}
@@ -0,0 +1,112 @@
+package com.gklyphon.termometer.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gklyphon.termometer.codec.JsonNumberHttpMessageConverter;
+import com.gklyphon.termometer.model.FixedPointValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the serialization of a conversion result into response bytes.
+ *
+ * <p>{@link #jackson()} uses an {@link ObjectMapper} configured like the one Spring MVC
+ * uses for {@code ResponseEntity<?>} bodies; the other benchmarks format the number
+ * directly and produce the same bytes. The {@code write*} benchmarks measure the whole
+ * message converter, Jackson's against the {@link JsonNumberHttpMessageConverter}
+ * registered ahead of it, for decimals and for the fixed-point results of the scaled
+ * endpoints.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResponseSerializationBenchmark {
+
+    @Param({"212.0", "-17.77777777777777777777777777777778"})
+    String result;
+
+    BigDecimal value;
+    FixedPointValue fixedPointValue;
+    ObjectMapper objectMapper;
+    MappingJackson2HttpMessageConverter jacksonConverter;
+    JsonNumberHttpMessageConverter numberConverter;
+
+    @Setup
+    public void setUp() {
+        value = new BigDecimal(result);
+        fixedPointValue = new FixedPointValue(value.movePointRight(2).longValue(), 2);
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        jacksonConverter = new MappingJackson2HttpMessageConverter(objectMapper);
+        numberConverter = new JsonNumberHttpMessageConverter(objectMapper);
+    }
+
+    @Benchmark
+    public byte[] jackson() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(value);
+    }
+
+    @Benchmark
+    public byte[] bigDecimalToString() {
+        return value.toString().getBytes(StandardCharsets.US_ASCII);
+    }
+
+    @Benchmark
+    public byte[] doubleToString() {
+        return Double.toString(value.doubleValue()).getBytes(StandardCharsets.US_ASCII);
+    }
+
+    @Benchmark
+    public MockHttpOutputMessage writeJackson() throws IOException {
+        MockHttpOutputMessage message = new MockHttpOutputMessage();
+        jacksonConverter.write(value, MediaType.APPLICATION_JSON, message);
+        return message;
+    }
+
+    @Benchmark
+    public MockHttpOutputMessage writeNumber() throws IOException {
+        MockHttpOutputMessage message = new MockHttpOutputMessage();
+        numberConverter.write(value, MediaType.APPLICATION_JSON, message);
+        return message;
+    }
+
+    @Benchmark
+    public MockHttpOutputMessage writeFixedPointJackson() throws IOException {
+        MockHttpOutputMessage message = new MockHttpOutputMessage();
+        jacksonConverter.write(fixedPointValue, MediaType.APPLICATION_JSON, message);
+        return message;
+    }
+
+    @Benchmark
+    public MockHttpOutputMessage writeFixedPointNumber() throws IOException {
+        MockHttpOutputMessage message = new MockHttpOutputMessage();
+        numberConverter.write(fixedPointValue, MediaType.APPLICATION_JSON, message);
+        return message;
+    }
+
+}
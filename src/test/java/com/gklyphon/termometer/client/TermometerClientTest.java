@@ -0,0 +1,197 @@
+package com.gklyphon.termometer.client;
+
+import com.gklyphon.termometer.model.TemperatureScale;
+import com.gklyphon.termometer.service.TemperatureConversionEngine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static com.gklyphon.termometer.model.TemperatureScale.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Integration test of the {@link TermometerClient} against the application running on a
+ * random port, verifying that concurrent single readings are coalesced into batch
+ * requests and that every caller receives its own exact result.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class TermometerClientTest {
+
+    @Value("${local.server.port}")
+    int port;
+
+    @Autowired
+    TemperatureConversionEngine engine;
+
+    @Autowired
+    MeterRegistry registry;
+
+    /**
+     * Tests that readings converted from many virtual threads at once are sent in far
+     * fewer requests than readings, with the same results as the engine.
+     *
+     * @throws InterruptedException if interrupted while waiting for the metrics
+     */
+    @Test
+    void convert_shouldCoalesceReadings_whenCalledConcurrently() throws InterruptedException {
+
+        int readings = 2000;
+        long requestsBefore = batchRequests(RANKINE, KELVIN);
+        double readingsBefore = convertedReadings(RANKINE, KELVIN);
+        List<CompletableFuture<BigDecimal>> results = new ArrayList<>();
+        try (TermometerClient client = client().window(Duration.ofMillis(5)).build();
+             ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < readings; i++) {
+                BigDecimal degrees = BigDecimal.valueOf(i, 1);
+                results.add(CompletableFuture.supplyAsync(() -> client.convert(RANKINE, KELVIN, degrees).join(),
+                        callers));
+            }
+            for (int i = 0; i < readings; i++) {
+                assertEquals(engine.convert(RANKINE, KELVIN, BigDecimal.valueOf(i, 1)), results.get(i).join());
+            }
+        }
+
+        awaitConvertedReadings(RANKINE, KELVIN, readingsBefore + readings);
+        long requests = batchRequests(RANKINE, KELVIN) - requestsBefore;
+        assertTrue(requests >= readings / 256 && requests < readings / 10,
+                () -> readings + " readings were sent in " + requests + " requests");
+    }
+
+    /**
+     * Tests that a batch reaching the maximum size is sent before its window closes.
+     *
+     * @throws Exception if the readings are not converted in time
+     */
+    @Test
+    void convert_shouldSendFullBatchAtOnce_whenMaxBatchSizeReached() throws Exception {
+
+        try (TermometerClient client = client().window(Duration.ofMinutes(1)).maxBatchSize(4).build()) {
+            List<CompletableFuture<BigDecimal>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(client.convert(CELSIUS, FAHRENHEIT, BigDecimal.valueOf(i * 10)));
+            }
+            for (int i = 0; i < 8; i++) {
+                assertEquals(engine.convert(CELSIUS, FAHRENHEIT, BigDecimal.valueOf(i * 10)),
+                        results.get(i).get(5, TimeUnit.SECONDS));
+            }
+        }
+    }
+
+    /**
+     * Tests that closing the client sends the readings still waiting for their window.
+     */
+    @Test
+    void close_shouldSendPendingReadings_whenWindowStillOpen() {
+
+        CompletableFuture<BigDecimal> result;
+        try (TermometerClient client = client().window(Duration.ofMinutes(1)).build()) {
+            result = client.convert(KELVIN, CELSIUS, new BigDecimal("0.005"));
+        }
+
+        assertEquals(new BigDecimal("-273.145"), result.join());
+        assertThrows(IllegalStateException.class, () -> {
+            try (TermometerClient client = client().build()) {
+                client.close();
+                client.convert(KELVIN, CELSIUS, BigDecimal.ONE);
+            }
+        });
+    }
+
+    /**
+     * Tests that a bulk call converts its readings in order with one request.
+     *
+     * @throws InterruptedException if interrupted while waiting for the metrics
+     */
+    @Test
+    void convertAll_shouldReturnResultsInOrder_whenReadingsSent() throws InterruptedException {
+
+        long requestsBefore = batchRequests(NEWTON, REAUMUR);
+        double readingsBefore = convertedReadings(NEWTON, REAUMUR);
+        List<BigDecimal> readings = List.of(new BigDecimal("33"), BigDecimal.ZERO, new BigDecimal("-12.5"));
+        try (TermometerClient client = client().build()) {
+            List<BigDecimal> results = client.convertAll(NEWTON, REAUMUR, readings).join();
+
+            assertEquals(readings.stream().map(degrees -> engine.convert(NEWTON, REAUMUR, degrees)).toList(), results);
+        }
+        awaitConvertedReadings(NEWTON, REAUMUR, readingsBefore + readings.size());
+        assertEquals(1, batchRequests(NEWTON, REAUMUR) - requestsBefore);
+    }
+
+    /**
+     * Tests that every future of a batch fails with the status of an error response.
+     */
+    @Test
+    void convert_shouldFailEveryReading_whenServerAnswersWithError() {
+
+        try (TermometerClient client = TermometerClient.builder(URI.create("http://localhost:" + port + "/missing"))
+                .build()) {
+            CompletableFuture<BigDecimal> first = client.convert(CELSIUS, KELVIN, BigDecimal.ONE);
+            CompletableFuture<BigDecimal> second = client.convert(CELSIUS, KELVIN, BigDecimal.TEN);
+
+            for (CompletableFuture<BigDecimal> result : List.of(first, second)) {
+                CompletionException failure = assertThrows(CompletionException.class, result::join);
+                assertEquals(404, assertInstanceOf(TermometerClientException.class, failure.getCause()).getStatusCode());
+            }
+        }
+    }
+
+    private TermometerClient.Builder client() {
+        return TermometerClient.builder(URI.create("http://localhost:" + port));
+    }
+
+    /*
+     * The metrics of a streamed batch are recorded once its response has been sent, so wait
+     * for the readings to be counted and for the requests to be timed after them
+     */
+    private void awaitConvertedReadings(TemperatureScale source, TemperatureScale target, double readings)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (convertedReadings(source, target) < readings && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        Thread.sleep(200);
+    }
+
+    private double convertedReadings(TemperatureScale source, TemperatureScale target) {
+        return registry.find("termometer.conversion.readings")
+                .tag("source", source.name().toLowerCase())
+                .tag("target", target.name().toLowerCase())
+                .counters().stream()
+                .mapToDouble(Counter::count)
+                .sum();
+    }
+
+    private long batchRequests(TemperatureScale source, TemperatureScale target) {
+        return registry.find("termometer.conversions")
+                .tag("source", source.name().toLowerCase())
+                .tag("target", target.name().toLowerCase())
+                .tag("kind", "batch")
+                .timers().stream()
+                .mapToLong(Timer::count)
+                .sum();
+    }
+
+}
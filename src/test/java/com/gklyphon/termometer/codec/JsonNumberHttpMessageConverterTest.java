@@ -0,0 +1,92 @@
+package com.gklyphon.termometer.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gklyphon.termometer.model.FixedPointValue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Test class for the {@link JsonNumberHttpMessageConverter}, verifying that its output is
+ * byte-identical to the Jackson message converter.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+class JsonNumberHttpMessageConverterTest {
+
+    final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    final JsonNumberHttpMessageConverter converter = new JsonNumberHttpMessageConverter(objectMapper);
+    final MappingJackson2HttpMessageConverter jackson = new MappingJackson2HttpMessageConverter(objectMapper);
+
+    /**
+     * Tests decimals with and without a fraction, exponent or sign.
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"212.0", "0", "-17.77777777777777777777777777777778", "1E+3", "0.00", "-0.000001",
+            "1.23E-10", "373.15", "123456789012345678901234567890"})
+    void write_shouldMatchJackson_whenBigDecimalGiven(String value) throws IOException {
+
+        assertWrittenLikeJackson(new BigDecimal(value), converter, jackson);
+    }
+
+    /**
+     * Tests that the plain notation follows the configuration of the mapper.
+     */
+    @Test
+    void write_shouldMatchJackson_whenPlainDecimalsEnabled() throws IOException {
+
+        ObjectMapper plain = Jackson2ObjectMapperBuilder.json()
+                .featuresToEnable(JsonGenerator.Feature.WRITE_BIGDECIMAL_AS_PLAIN).build();
+
+        assertWrittenLikeJackson(new BigDecimal("1E+3"),
+                new JsonNumberHttpMessageConverter(plain), new MappingJackson2HttpMessageConverter(plain));
+    }
+
+    /**
+     * Tests fixed-point values at every scale, including the extremes of {@code long}.
+     */
+    @Test
+    void write_shouldMatchJackson_whenFixedPointValueGiven() throws IOException {
+
+        long[] edges = {0, 1, -1, 5, -5, 9, 10, -10, 99, 100, 9788, -9788, Long.MAX_VALUE, Long.MIN_VALUE};
+        for (int scale = 0; scale <= 18; scale++) {
+            for (long unscaled : edges) {
+                assertWrittenLikeJackson(new FixedPointValue(unscaled, scale), converter, jackson);
+            }
+        }
+        SplittableRandom random = new SplittableRandom(7);
+        for (int i = 0; i < 10_000; i++) {
+            assertWrittenLikeJackson(new FixedPointValue(random.nextLong() >> random.nextInt(64), random.nextInt(19)),
+                    converter, jackson);
+        }
+    }
+
+    static void assertWrittenLikeJackson(Object value, HttpMessageConverter<Object> converter,
+                                         MappingJackson2HttpMessageConverter jackson) throws IOException {
+        MockHttpOutputMessage expected = new MockHttpOutputMessage();
+        jackson.write(value, MediaType.APPLICATION_JSON, expected);
+        MockHttpOutputMessage actual = new MockHttpOutputMessage();
+        converter.write(value, MediaType.APPLICATION_JSON, actual);
+
+        assertArrayEquals(expected.getBodyAsBytes(), actual.getBodyAsBytes(), value::toString);
+        assertEquals(expected.getHeaders().getContentType(), actual.getHeaders().getContentType());
+        assertEquals(actual.getBodyAsBytes().length, actual.getHeaders().getContentLength());
+    }
+
+}
@@ -0,0 +1,155 @@
+package com.gklyphon.termometer.config;
+
+import org.apache.coyote.UpgradeProtocol;
+import org.apache.coyote.http2.Http2Protocol;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+/**
+ * Test class for the {@code http2} profile, verifying that many requests are multiplexed
+ * over one cleartext HTTP/2 connection and that pipelined HTTP/1.1 requests are answered
+ * in order.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("http2")
+class Http2ConfigTest {
+
+    @Value("${local.server.port}")
+    int port;
+
+    @Autowired
+    ServletWebServerApplicationContext context;
+
+    /**
+     * Tests that concurrent requests of an HTTP/2 client share one connection after the
+     * first request upgrades it.
+     *
+     * @throws Exception if an error occurs during the requests
+     */
+    @Test
+    void requests_shouldBeMultiplexed_whenClientUsesHttp2() throws Exception {
+
+        try (HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_2).build()) {
+            HttpResponse<String> upgrade = client.send(get("/celsius-to/fahrenheit?degrees=100"),
+                    HttpResponse.BodyHandlers.ofString());
+            assertEquals(HttpClient.Version.HTTP_2, upgrade.version());
+            assertEquals("212", upgrade.body());
+
+            List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                responses.add(client.sendAsync(get("/kelvin-to/celsius?degrees=" + i),
+                        HttpResponse.BodyHandlers.ofString()));
+            }
+            for (int i = 0; i < responses.size(); i++) {
+                HttpResponse<String> response = responses.get(i).join();
+                assertEquals(200, response.statusCode());
+                assertEquals(HttpClient.Version.HTTP_2, response.version());
+                assertEquals(String.format("%.2f", i - 273.15), response.body());
+            }
+        }
+    }
+
+    /**
+     * Tests that requests written back to back on one HTTP/1.1 connection, before any
+     * response is read, are all answered in order.
+     *
+     * @throws IOException if the connection fails
+     */
+    @Test
+    void requests_shouldBeAnsweredInOrder_whenPipelinedOverHttp11() throws IOException {
+
+        try (Socket socket = new Socket("localhost", port)) {
+            OutputStream output = socket.getOutputStream();
+            StringBuilder requests = new StringBuilder();
+            for (String degrees : new String[]{"0", "100", "-40"}) {
+                requests.append("GET /celsius-to/fahrenheit?degrees=").append(degrees).append(" HTTP/1.1\r\n")
+                        .append("Host: localhost\r\n\r\n");
+            }
+            output.write(requests.toString().getBytes(StandardCharsets.US_ASCII));
+            output.flush();
+
+            assertEquals(List.of("32", "212", "-40"), readBodies(socket.getInputStream(), 3));
+        }
+    }
+
+    /**
+     * Tests that the HTTP/2 limits are applied to the connector.
+     */
+    @Test
+    void connector_shouldApplyHttp2Properties_whenProfileActive() {
+
+        UpgradeProtocol[] protocols = ((TomcatWebServer) context.getWebServer()).getTomcat().getConnector()
+                .findUpgradeProtocols();
+
+        Http2Protocol http2 = assertInstanceOf(Http2Protocol.class, protocols[0]);
+        assertEquals(256, http2.getMaxConcurrentStreams());
+        assertEquals(256, http2.getMaxConcurrentStreamExecution());
+        assertEquals(60_000, http2.getKeepAliveTimeout());
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).GET().build();
+    }
+
+    /* Reads responses with a Content-Length or a single chunk, as the conversion endpoints send */
+    private static List<String> readBodies(InputStream input, int count) throws IOException {
+        Pattern length = Pattern.compile("(?im)^content-length: *(\\d+)$");
+        Pattern chunked = Pattern.compile("(?im)^transfer-encoding: *chunked$");
+        List<String> bodies = new ArrayList<>();
+        while (bodies.size() < count) {
+            String head = readUntil(input, "\r\n\r\n");
+            Matcher matcher = length.matcher(head);
+            if (matcher.find()) {
+                bodies.add(new String(input.readNBytes(Integer.parseInt(matcher.group(1))),
+                        StandardCharsets.US_ASCII));
+            } else if (chunked.matcher(head).find()) {
+                int size = Integer.parseInt(readUntil(input, "\r\n").trim(), 16);
+                bodies.add(new String(input.readNBytes(size), StandardCharsets.US_ASCII));
+                readUntil(input, "0\r\n\r\n");
+            }
+        }
+        return bodies;
+    }
+
+    private static String readUntil(InputStream input, String terminator) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        while (!buffer.toString(StandardCharsets.US_ASCII).endsWith(terminator)) {
+            int value = input.read();
+            if (value < 0) {
+                throw new IOException("Connection closed");
+            }
+            buffer.write(value);
+        }
+        return buffer.toString(StandardCharsets.US_ASCII);
+    }
+
+}
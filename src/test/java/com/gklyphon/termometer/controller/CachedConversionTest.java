@@ -0,0 +1,65 @@
+package com.gklyphon.termometer.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Test class for the single-value endpoints with the result cache enabled, verifying that
+ * cached results are written and negotiated like computed ones.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+@SpringBootTest(properties = "termometer.cache.enabled=true")
+@AutoConfigureMockMvc
+class CachedConversionTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    /**
+     * Tests that a repeated reading is answered with the same JSON body and headers.
+     *
+     * @throws Exception if an error occurs during the requests
+     */
+    @Test
+    void convert_shouldReturnSameResponse_whenReadingServedFromCache() throws Exception {
+
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(MockMvcRequestBuilders.get("/celsius-to/fahrenheit").param("degrees", "36.6"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(header().longValue("Content-Length", 5))
+                    .andExpect(content().string("97.88"));
+        }
+    }
+
+    /**
+     * Tests that a cached result is not written when the client does not accept JSON.
+     *
+     * @throws Exception if an error occurs during the requests
+     */
+    @Test
+    void convert_shouldReturnNotAcceptable_whenJsonNotAcceptedAndResultCached() throws Exception {
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/kelvin-to/celsius").param("degrees", "300"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/kelvin-to/celsius")
+                        .param("degrees", "300")
+                        .accept(MediaType.APPLICATION_XML))
+                .andExpect(status().isNotAcceptable());
+    }
+
+}
@@ -1,14 +1,25 @@
 package com.gklyphon.termometer.controller;
 
+import com.gklyphon.termometer.codec.ColumnarFormat;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 
@@ -58,7 +69,7 @@ class CelsiusControllerTest {
      * Tests the Celsius to Fahrenheit conversion without a specified parameter.
      *
      * <p>Makes a GET request to the /fahrenheit endpoint with no parameters.
-     * The default value is 0.0 Celsius, expected to return 32.0 Fahrenheit,
+     * The default value is 0 Celsius, expected to return 32 Fahrenheit,
      * with an HTTP status of 200 (OK).
      *
      * @throws Exception if an error occurs during the request
@@ -71,14 +82,14 @@ class CelsiusControllerTest {
                                 .contentType(MediaType.APPLICATION_JSON)
                 )
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$").value("32.0"));
+                .andExpect(jsonPath("$").value("32"));
     }
 
     /**
      * Tests the Celsius to Kelvin conversion with a given parameter.
      *
      * <p>Makes a GET request to the /kelvin endpoint with 100.0 degrees Celsius.
-     * The expected result is -173.15 Kelvin, with an HTTP status of 200 (OK).
+     * The expected result is 373.15 Kelvin, with an HTTP status of 200 (OK).
      *
      * @throws Exception if an error occurs during the request
      */
@@ -91,14 +102,14 @@ class CelsiusControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
         )
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$").value("-173.15"));
+                .andExpect(jsonPath("$").value("373.15"));
     }
 
     /**
      * Tests the Celsius to Kelvin conversion without a specified parameter.
      *
      * <p>Makes a GET request to the /kelvin endpoint with no parameters.
-     * The default value is 0.0 Celsius, expected to return -273.15 Kelvin,
+     * The default value is 0.0 Celsius, expected to return 273.15 Kelvin,
      * with an HTTP status of 200 (OK).
      *
      * @throws Exception if an error occurs during the request
@@ -111,7 +122,220 @@ class CelsiusControllerTest {
                                 .contentType(MediaType.APPLICATION_JSON)
                 )
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$").value("-273.15"));
+                .andExpect(jsonPath("$").value("273.15"));
+    }
+
+    /**
+     * Tests the batch Celsius to Fahrenheit conversion with a JSON array.
+     *
+     * <p>Makes a POST request to the /fahrenheit/batch endpoint with 100.0 and 0 degrees Celsius.
+     * The expected result is an array with 212.0 and 32 Fahrenheit, with an HTTP status of 200 (OK).
+     *
+     * @throws Exception if an error occurs during the request
+     */
+    @Test
+    void celsiusToFahrenheitBatch_shouldReturnTheCorrectResults_whenJsonArrayPosted() throws Exception {
+
+        MvcResult result = mockMvc.perform(
+                        MockMvcRequestBuilders.post(API_URL + "/fahrenheit/batch")
+                                .content("[100.0, 0]")
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0]").value("212.0"))
+                .andExpect(jsonPath("$[1]").value("32"));
+    }
+
+    /**
+     * Tests the batch Celsius to Kelvin conversion with newline-delimited JSON.
+     *
+     * <p>Makes a POST request to the /kelvin/batch endpoint with one reading per line.
+     * The expected result is one converted reading per line, in the same order.
+     *
+     * @throws Exception if an error occurs during the request
+     */
+    @Test
+    void celsiusToKelvinBatch_shouldReturnTheCorrectResults_whenNdjsonPosted() throws Exception {
+
+        MvcResult result = mockMvc.perform(
+                        MockMvcRequestBuilders.post(API_URL + "/kelvin/batch")
+                                .content("100.0\n0\n")
+                                .contentType(MediaType.APPLICATION_NDJSON)
+                )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string("373.15\n273.15\n"));
+    }
+
+    /**
+     * Tests the batch Celsius to Fahrenheit conversion with a columnar float64 payload.
+     *
+     * <p>Makes a POST request to the /fahrenheit/batch endpoint with 100 and -40 degrees Celsius
+     * encoded as little-endian doubles. The expected result is a columnar payload with the same
+     * header and the values 212 and -40.
+     *
+     * @throws Exception if an error occurs during the request
+     */
+    @Test
+    void celsiusToFahrenheitBatch_shouldReturnColumnarResults_whenFloat64ColumnPosted() throws Exception {
+
+        ByteBuffer request = ByteBuffer.allocate(ColumnarFormat.HEADER_SIZE + 2 * Double.BYTES)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        ColumnarFormat.writeHeader(new ColumnarFormat.Header(ColumnarFormat.ValueType.FLOAT64, 0, 2), request);
+        request.putDouble(100).putDouble(-40);
+
+        MvcResult result = mockMvc.perform(
+                        MockMvcRequestBuilders.post(API_URL + "/fahrenheit/batch")
+                                .content(request.array())
+                                .contentType(ColumnarFormat.MEDIA_TYPE)
+                )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        byte[] body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(ColumnarFormat.MEDIA_TYPE))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        ByteBuffer response = ByteBuffer.wrap(body).order(ByteOrder.LITTLE_ENDIAN);
+        assertEquals(request.position(), body.length);
+        assertEquals(request.getLong(8), response.getLong(8));
+        assertEquals(212.0, response.getDouble(ColumnarFormat.HEADER_SIZE), 1e-9);
+        assertEquals(-40.0, response.getDouble(ColumnarFormat.HEADER_SIZE + Double.BYTES), 1e-9);
+    }
+
+    /**
+     * Tests the batch Celsius to Kelvin conversion with a columnar int32 payload in tenths of a degree.
+     *
+     * <p>The expected result is an int32 column in hundredths of a degree, the output resolution
+     * of the lookup tables.
+     *
+     * @throws Exception if an error occurs during the request
+     */
+    @Test
+    void celsiusToKelvinBatch_shouldReturnScaledResults_whenInt32ColumnPosted() throws Exception {
+
+        ByteBuffer request = ByteBuffer.allocate(ColumnarFormat.HEADER_SIZE + 2 * Integer.BYTES)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        ColumnarFormat.writeHeader(new ColumnarFormat.Header(ColumnarFormat.ValueType.INT32, 1, 2), request);
+        request.putInt(366).putInt(-2731);
+
+        MvcResult result = mockMvc.perform(
+                        MockMvcRequestBuilders.post(API_URL + "/kelvin/batch")
+                                .content(request.array())
+                                .contentType(ColumnarFormat.MEDIA_TYPE)
+                )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        byte[] body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+
+        ByteBuffer response = ByteBuffer.wrap(body).order(ByteOrder.LITTLE_ENDIAN);
+        assertEquals(2, response.get(5));
+        assertEquals(30975, response.getInt(ColumnarFormat.HEADER_SIZE));
+        assertEquals(5, response.getInt(ColumnarFormat.HEADER_SIZE + Integer.BYTES));
+    }
+
+    /**
+     * Tests the batch Celsius to Fahrenheit conversion of a columnar payload large enough
+     * to be converted in parallel slices.
+     *
+     * @throws Exception if an error occurs during the request
+     */
+    @Test
+    void celsiusToFahrenheitBatch_shouldConvertEveryReading_whenLargeColumnPosted() throws Exception {
+
+        int count = 600_001;
+        ByteBuffer request = ByteBuffer.allocate(ColumnarFormat.HEADER_SIZE + count * Double.BYTES)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        ColumnarFormat.writeHeader(new ColumnarFormat.Header(ColumnarFormat.ValueType.FLOAT64, 0, count), request);
+        for (int i = 0; i < count; i++) {
+            request.putDouble(i * 0.01);
+        }
+
+        MvcResult result = mockMvc.perform(
+                        MockMvcRequestBuilders.post(API_URL + "/fahrenheit/batch")
+                                .content(request.array())
+                                .contentType(ColumnarFormat.MEDIA_TYPE)
+                )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        byte[] body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+
+        ByteBuffer response = ByteBuffer.wrap(body).order(ByteOrder.LITTLE_ENDIAN);
+        assertEquals(request.capacity(), body.length);
+        for (int i = 0; i < count; i++) {
+            assertEquals(i * 0.01 * 9 / 5 + 32, response.getDouble(ColumnarFormat.HEADER_SIZE + i * Double.BYTES), 1e-9);
+        }
+    }
+
+    /**
+     * Tests that a columnar body shorter than its header declares is rejected before any
+     * result is written, whether the length of the body is declared or only found at its end.
+     *
+     * @throws Exception if an error occurs during the request
+     */
+    @Test
+    void celsiusToFahrenheitBatch_shouldReturnBadRequest_whenColumnTruncated() throws Exception {
+
+        ByteBuffer request = ByteBuffer.allocate(ColumnarFormat.HEADER_SIZE + 2 * Double.BYTES)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        ColumnarFormat.writeHeader(new ColumnarFormat.Header(ColumnarFormat.ValueType.FLOAT64, 0, 4), request);
+        request.putDouble(100).putDouble(-40);
+
+        for (boolean declaredLength : new boolean[]{true, false}) {
+            MockHttpServletRequestBuilder post = MockMvcRequestBuilders.post(API_URL + "/fahrenheit/batch")
+                    .content(request.array())
+                    .contentType(ColumnarFormat.MEDIA_TYPE);
+            if (declaredLength) {
+                post.header(HttpHeaders.CONTENT_LENGTH, request.capacity());
+            }
+            MvcResult result = mockMvc.perform(post)
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    /**
+     * Tests that an int32 reading whose result does not fit in an int32 is rejected before
+     * any result is written.
+     *
+     * @throws Exception if an error occurs during the request
+     */
+    @Test
+    void celsiusToKelvinBatch_shouldReturnBadRequest_whenInt32ResultOverflows() throws Exception {
+
+        ByteBuffer request = ByteBuffer.allocate(ColumnarFormat.HEADER_SIZE + 2 * Integer.BYTES)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        ColumnarFormat.writeHeader(new ColumnarFormat.Header(ColumnarFormat.ValueType.INT32, 1, 2), request);
+        request.putInt(366).putInt(Integer.MAX_VALUE);
+
+        MvcResult result = mockMvc.perform(
+                        MockMvcRequestBuilders.post(API_URL + "/kelvin/batch")
+                                .content(request.array())
+                                .contentType(ColumnarFormat.MEDIA_TYPE)
+                )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isBadRequest());
     }
 
-}
\ No newline at end of file
+}
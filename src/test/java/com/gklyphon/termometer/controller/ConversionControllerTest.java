@@ -0,0 +1,222 @@
+package com.gklyphon.termometer.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Test class for the {@link ConversionController}, verifying conversions between any two
+ * scales through the generic endpoints.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ConversionControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    /** Base URL for the generic conversion endpoints */
+    final String API_URL = "/convert";
+
+    /**
+     * Tests a conversion between two of the added scales, with lower-case names.
+     *
+     * @throws Exception if an error occurs during the request
+     */
+    @Test
+    void convert_shouldReturnCorrectResult_whenRankineToReaumurCalled() throws Exception {
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders.get(API_URL)
+                                .param("from", "rankine")
+                                .param("to", "reaumur")
+                                .param("degrees", "671.67")
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").value(80));
+    }
+
+    /**
+     * Tests that the generic endpoint returns the same result as the alias route.
+     *
+     * @throws Exception if an error occurs during the request
+     */
+    @Test
+    void convert_shouldMatchAliasRoute_whenCelsiusToFahrenheitCalled() throws Exception {
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders.get(API_URL)
+                                .param("from", "CELSIUS")
+                                .param("to", "FAHRENHEIT")
+                                .param("degrees", "100.0")
+                )
+                .andExpect(status().isOk())
+                .andExpect(content().string("212.0"));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/celsius-to/fahrenheit").param("degrees", "100.0"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("212.0"));
+    }
+
+    /**
+     * Tests the scaled integer variant with a Delisle reading.
+     *
+     * @throws Exception if an error occurs during the request
+     */
+    @Test
+    void convertScaled_shouldReturnRoundedResult_whenDelisleToCelsiusCalled() throws Exception {
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders.get(API_URL + "/scaled")
+                                .param("from", "delisle")
+                                .param("to", "celsius")
+                                .param("value", "1500")
+                )
+                .andExpect(status().isOk())
+                .andExpect(content().string("0.00"));
+    }
+
+    /**
+     * Tests that scaled readings with a negative resolution, or more decimal places than a
+     * {@code long} can hold, are rejected.
+     *
+     * @throws Exception if an error occurs during the request
+     */
+    @Test
+    void convertScaled_shouldReturnBadRequest_whenResolutionOutOfRange() throws Exception {
+
+        for (String resolution : new String[] {"-1", "19", "2147483647"}) {
+            mockMvc.perform(
+                            MockMvcRequestBuilders.get(API_URL + "/scaled")
+                                    .param("from", "celsius")
+                                    .param("to", "kelvin")
+                                    .param("value", "366")
+                                    .param("resolution", resolution)
+                    )
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.status").value(400));
+        }
+    }
+
+    /**
+     * Tests the batch variant with newline-delimited Newton readings.
+     *
+     * @throws Exception if an error occurs during the request
+     */
+    @Test
+    void convertBatch_shouldStreamResults_whenNewtonToCelsiusCalled() throws Exception {
+
+        MvcResult result = mockMvc.perform(
+                        MockMvcRequestBuilders.post(API_URL + "/batch")
+                                .param("from", "newton")
+                                .param("to", "celsius")
+                                .content("0\n33\n")
+                                .contentType(MediaType.APPLICATION_NDJSON)
+                )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().string("0\n100\n"));
+    }
+
+    /**
+     * Tests fixed-point arithmetic on the generic and alias routes, including a result
+     * between two values that rounds to the even one.
+     *
+     * @throws Exception if an error occurs during the request
+     */
+    @Test
+    void convert_shouldReturnRoundedResult_whenFixedPointArithmeticRequested() throws Exception {
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders.get(API_URL)
+                                .param("from", "celsius")
+                                .param("to", "fahrenheit")
+                                .param("degrees", "36.6")
+                                .param("arithmetic", "fixed-point")
+                )
+                .andExpect(status().isOk())
+                .andExpect(content().string("97.88"));
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders.get("/celsius-to/fahrenheit")
+                                .param("degrees", "0.025")
+                                .param("arithmetic", "FIXED_POINT")
+                )
+                .andExpect(status().isOk())
+                .andExpect(content().string("32.04"));
+    }
+
+    /**
+     * Tests that fixed-point readings that are not plain decimals, and unknown arithmetic
+     * modes, are rejected.
+     *
+     * @throws Exception if an error occurs during the request
+     */
+    @Test
+    void convert_shouldReturnBadRequest_whenFixedPointReadingInvalid() throws Exception {
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/kelvin-to/celsius")
+                        .param("degrees", "1e3")
+                        .param("arithmetic", "fixed-point"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/kelvin-to/celsius")
+                        .param("degrees", "300")
+                        .param("arithmetic", "float"))
+                .andExpect(status().isBadRequest());
+    }
+
+    /**
+     * Tests that an unknown scale is rejected.
+     *
+     * @throws Exception if an error occurs during the request
+     */
+    @Test
+    void convert_shouldReturnBadRequest_whenScaleUnknown() throws Exception {
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders.get(API_URL)
+                                .param("from", "romer")
+                                .param("to", "celsius")
+                )
+                .andExpect(status().isBadRequest());
+    }
+
+    /**
+     * Tests that a result is only written in a media type the client accepts.
+     *
+     * @throws Exception if an error occurs during the request
+     */
+    @Test
+    void convert_shouldReturnNotAcceptable_whenJsonNotAccepted() throws Exception {
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders.get(API_URL)
+                                .param("from", "celsius")
+                                .param("to", "kelvin")
+                                .param("degrees", "25")
+                                .accept(MediaType.APPLICATION_XML)
+                )
+                .andExpect(status().isNotAcceptable());
+    }
+
+}
@@ -6,9 +6,13 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
@@ -47,7 +51,7 @@ class FahrenheitControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
         )
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$").value("10.0008"));
+                .andExpect(jsonPath("$").value("10"));
     }
 
     /**
@@ -63,7 +67,7 @@ class FahrenheitControllerTest {
                                 .contentType(MediaType.APPLICATION_JSON)
                 )
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$").value("-17.7792"));
+                .andExpect(jsonPath("$").value("-17.77777777777777777777777777777778"));
     }
 
     /**
@@ -80,7 +84,7 @@ class FahrenheitControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
         )
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$").value("303.708"));
+                .andExpect(jsonPath("$").value("303.7055555555555555555555555555556"));
 
     }
 
@@ -97,7 +101,31 @@ class FahrenheitControllerTest {
                                 .contentType(MediaType.APPLICATION_JSON)
                 )
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$").value("255.3708"));
+                .andExpect(jsonPath("$").value("255.3722222222222222222222222222222"));
 
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests the batch Fahrenheit to Kelvin conversion with a JSON array.
+     *
+     * <p>Each reading in the array is converted and returned at the same position.
+     *
+     * @throws Exception if an error occurs during the request
+     */
+    @Test
+    void fahrenheitToKelvinBatch_shouldReturnCorrectResults_whenJsonArrayPosted() throws Exception {
+
+        MvcResult result = mockMvc.perform(
+                        MockMvcRequestBuilders.post(API_URL + "/kelvin/batch")
+                                .content("[87, 0]")
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0]").value("303.7055555555555555555555555555556"))
+                .andExpect(jsonPath("$[1]").value("255.3722222222222222222222222222222"));
+    }
+}
@@ -6,10 +6,14 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
@@ -118,4 +122,50 @@ class KelvinControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$").value("-459.67"));
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests the batch conversion from Kelvin to Celsius with newline-delimited JSON.
+     * <p>
+     * Each line holds one Kelvin reading and the response holds the converted
+     * Celsius readings, one per line and in the same order.
+     * </p>
+     *
+     * @throws Exception if there is an error in performing the request
+     */
+    @Test
+    void kelvinToCelsiusBatch_shouldReturnCorrectResults_whenNdjsonPosted() throws Exception {
+
+        MvcResult result = mockMvc.perform(
+                        MockMvcRequestBuilders.post(API_URL + "/celsius/batch")
+                                .content("43.0\n0\n")
+                                .contentType(MediaType.APPLICATION_NDJSON)
+                )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().string("-230.15\n-273.15\n"));
+    }
+
+    /**
+     * Tests the conversion from Kelvin to Fahrenheit of a reading sent in tenths of a degree.
+     * <p>
+     * The value 2731 with a resolution of 1 is 273.1 K, and the expected Fahrenheit
+     * result is 31.91, written with two decimal places.
+     * </p>
+     *
+     * @throws Exception if there is an error in performing the request
+     */
+    @Test
+    void kelvinToFahrenheitScaled_shouldReturnCorrectResult_whenScaledValueGiven() throws Exception {
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders.get(API_URL + "/fahrenheit/scaled")
+                                .param("value", "2731")
+                                .param("resolution", "1")
+                )
+                .andExpect(status().isOk())
+                .andExpect(content().string("31.91"));
+    }
+}
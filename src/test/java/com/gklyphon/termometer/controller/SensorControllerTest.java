@@ -0,0 +1,101 @@
+package com.gklyphon.termometer.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Test class for the {@link SensorController}, verifying the ingestion of readings and
+ * the statistics endpoints.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class SensorControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    /** Base URL for the sensor endpoints */
+    final String API_URL = "/sensors";
+
+    /**
+     * Tests that ingested readings are normalized to Celsius and summarized.
+     *
+     * @throws Exception if an error occurs during the request
+     */
+    @Test
+    void slidingStatistics_shouldSummarizeReadings_whenReadingsIngested() throws Exception {
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders.post(API_URL + "/readings")
+                                .contentType(MediaType.APPLICATION_NDJSON)
+                                .content("""
+                                        {"sensor":"freezer","scale":"CELSIUS","degrees":-18}
+                                        {"sensor":"freezer","scale":"FAHRENHEIT","degrees":0}
+                                        {"sensor":"freezer","scale":"KELVIN","degrees":255.15}
+                                        """)
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accepted").value(3))
+                .andExpect(jsonPath("$.late").value(0));
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders.get(API_URL + "/freezer/statistics")
+                                .param("window", "PT2M")
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.scale").value("CELSIUS"))
+                .andExpect(jsonPath("$.count").value(3))
+                .andExpect(jsonPath("$.min").value(-18.0))
+                .andExpect(jsonPath("$.max").value(-17.77777777777778));
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders.get(API_URL + "/freezer/statistics/tumbling")
+                                .param("window", "PT1M")
+                                .param("count", "2")
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2));
+    }
+
+    /**
+     * Tests that a reading without a scale is rejected.
+     *
+     * @throws Exception if an error occurs during the request
+     */
+    @Test
+    void ingestReadings_shouldReturnBadRequest_whenScaleMissing() throws Exception {
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders.post(API_URL + "/readings")
+                                .contentType(MediaType.APPLICATION_NDJSON)
+                                .content("{\"sensor\":\"freezer\",\"degrees\":-18}\n")
+                )
+                .andExpect(status().isBadRequest());
+    }
+
+    /**
+     * Tests that statistics of an unknown sensor are not found.
+     *
+     * @throws Exception if an error occurs during the request
+     */
+    @Test
+    void slidingStatistics_shouldReturnNotFound_whenSensorUnknown() throws Exception {
+
+        mockMvc.perform(MockMvcRequestBuilders.get(API_URL + "/unknown/statistics"))
+                .andExpect(status().isNotFound());
+    }
+
+}
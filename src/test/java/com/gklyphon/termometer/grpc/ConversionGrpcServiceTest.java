@@ -0,0 +1,350 @@
+package com.gklyphon.termometer.grpc;
+
+import com.gklyphon.termometer.audit.AuditBatchCoverage;
+import com.gklyphon.termometer.audit.AuditDurability;
+import com.gklyphon.termometer.audit.AuditJournal;
+import com.gklyphon.termometer.audit.AuditJournalReader;
+import com.gklyphon.termometer.audit.AuditProperties;
+import com.gklyphon.termometer.audit.AuditRecord;
+import com.gklyphon.termometer.grpc.v1.Batch;
+import com.gklyphon.termometer.grpc.v1.BatchRequest;
+import com.gklyphon.termometer.grpc.v1.ConversionServiceGrpc;
+import com.gklyphon.termometer.grpc.v1.ConvertRequest;
+import com.gklyphon.termometer.grpc.v1.ConvertResponse;
+import com.gklyphon.termometer.grpc.v1.Scale;
+import com.gklyphon.termometer.metrics.ConversionMetrics;
+import com.gklyphon.termometer.service.ArrayConversionKernel;
+import com.gklyphon.termometer.service.TemperatureConversionEngine;
+import io.grpc.Grpc;
+import io.grpc.InsecureChannelCredentials;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for the {@link ConversionGrpcService}, verifying the unary, client-streaming
+ * and bidirectional-streaming calls over an in-process channel, and the network server.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+@SpringBootTest(properties = "termometer.grpc.max-batch-readings=4")
+class ConversionGrpcServiceTest {
+
+    @Autowired
+    ConversionGrpcService service;
+
+    @Autowired
+    GrpcServer grpcServer;
+
+    @Autowired
+    TemperatureConversionEngine engine;
+
+    @Autowired
+    ArrayConversionKernel kernel;
+
+    @Autowired
+    ConversionMetrics metrics;
+
+    @Autowired
+    GrpcProperties grpcProperties;
+
+    Server server;
+    ManagedChannel channel;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name).directExecutor().addService(service).build().start();
+        channel = InProcessChannelBuilder.forName(name).directExecutor().build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        channel.shutdownNow();
+        server.shutdownNow();
+    }
+
+    /**
+     * Tests that decimal readings are converted exactly, like the single-value endpoints.
+     */
+    @Test
+    void convert_shouldReturnExactDecimal_whenDecimalReadingGiven() {
+
+        ConvertResponse response = ConversionServiceGrpc.newBlockingStub(channel).convert(ConvertRequest.newBuilder()
+                .setSource(Scale.CELSIUS)
+                .setTarget(Scale.FAHRENHEIT)
+                .setDecimal("36.6")
+                .build());
+
+        assertEquals("97.88", response.getDecimal());
+    }
+
+    /**
+     * Tests that binary readings are answered with a double.
+     */
+    @Test
+    void convert_shouldReturnDouble_whenDoubleReadingGiven() {
+
+        ConvertResponse response = ConversionServiceGrpc.newBlockingStub(channel).convert(ConvertRequest.newBuilder()
+                .setSource(Scale.KELVIN)
+                .setTarget(Scale.CELSIUS)
+                .setDegrees(300)
+                .build());
+
+        assertEquals(ConvertResponse.ResultCase.DEGREES, response.getResultCase());
+        assertEquals(26.85, response.getDegrees(), 1e-9);
+    }
+
+    /**
+     * Tests that a request without a target scale is rejected.
+     */
+    @Test
+    void convert_shouldFailWithInvalidArgument_whenScaleMissing() {
+
+        StatusRuntimeException e = assertThrows(StatusRuntimeException.class, () ->
+                ConversionServiceGrpc.newBlockingStub(channel).convert(ConvertRequest.newBuilder()
+                        .setSource(Scale.CELSIUS)
+                        .setDegrees(1)
+                        .build()));
+
+        assertEquals(Status.Code.INVALID_ARGUMENT, e.getStatus().getCode());
+    }
+
+    /**
+     * Tests that the readings of every chunk of a stream are answered at once, in order.
+     *
+     * @throws Exception if the call fails
+     */
+    @Test
+    void convertBatch_shouldReturnEveryReadingInOrder_whenChunksStreamed() throws Exception {
+
+        Collector collector = new Collector();
+        StreamObserver<BatchRequest> requests = ConversionServiceGrpc.newStub(channel).convertBatch(collector);
+        requests.onNext(BatchRequest.newBuilder().setSource(Scale.CELSIUS).setTarget(Scale.KELVIN)
+                .addDegrees(0).addDegrees(100).build());
+        requests.onNext(BatchRequest.newBuilder().addDegrees(-273.15).build());
+        requests.onCompleted();
+
+        List<Batch> batches = collector.result.get(5, TimeUnit.SECONDS);
+        assertEquals(1, batches.size());
+        assertEquals(List.of(273.15, 373.15, 0.0), rounded(batches.get(0)));
+    }
+
+    /**
+     * Tests that a batch sending more readings than can be answered in one message is
+     * rejected.
+     */
+    @Test
+    void convertBatch_shouldFailWithResourceExhausted_whenTooManyReadings() {
+
+        Collector collector = new Collector();
+        StreamObserver<BatchRequest> requests = ConversionServiceGrpc.newStub(channel).convertBatch(collector);
+        requests.onNext(BatchRequest.newBuilder().setSource(Scale.CELSIUS).setTarget(Scale.KELVIN)
+                .addDegrees(1).addDegrees(2).addDegrees(3).build());
+        requests.onNext(BatchRequest.newBuilder().addDegrees(4).addDegrees(5).build());
+        requests.onCompleted();
+
+        Exception e = assertThrows(Exception.class, () -> collector.result.get(5, TimeUnit.SECONDS));
+        assertEquals(Status.Code.RESOURCE_EXHAUSTED, Status.fromThrowable(e.getCause()).getCode());
+    }
+
+    /**
+     * Tests that the chunks of a stream are only read while the client reads the answers.
+     *
+     * @throws Exception if the call fails
+     */
+    @Test
+    void convertStream_shouldReadNextChunk_whenClientReadsAnswer() throws Exception {
+
+        FlowControlledCollector collector = new FlowControlledCollector();
+        StreamObserver<BatchRequest> requests = ConversionServiceGrpc.newStub(channel).convertStream(collector);
+        for (int i = 0; i < 3; i++) {
+            requests.onNext(BatchRequest.newBuilder().setSource(Scale.CELSIUS).setTarget(Scale.KELVIN)
+                    .addDegrees(i).build());
+        }
+        // The server has not asked for a chunk, since none of its answers could be sent
+        assertFalse(collector.call.isReady());
+        requests.onCompleted();
+
+        assertEquals(0, collector.batches.size());
+        collector.call.request(1);
+        assertEquals(1, collector.batches.size());
+        collector.call.request(2);
+        List<Batch> batches = collector.result.get(5, TimeUnit.SECONDS);
+        assertEquals(List.of(273.15, 274.15, 275.15), batches.stream().flatMap(batch -> rounded(batch).stream())
+                .toList());
+    }
+
+    /**
+     * Tests that every chunk of a bidirectional stream is answered with its own chunk.
+     *
+     * @throws Exception if the call fails
+     */
+    @Test
+    void convertStream_shouldAnswerEveryChunk_whenChunksStreamed() throws Exception {
+
+        Collector collector = new Collector();
+        StreamObserver<BatchRequest> requests = ConversionServiceGrpc.newStub(channel).convertStream(collector);
+        requests.onNext(BatchRequest.newBuilder().setSource(Scale.FAHRENHEIT).setTarget(Scale.CELSIUS)
+                .addDegrees(32).addDegrees(212).build());
+        requests.onNext(BatchRequest.newBuilder().setSource(Scale.FAHRENHEIT).addDegrees(-40).build());
+        requests.onNext(BatchRequest.newBuilder().build());
+        requests.onCompleted();
+
+        List<Batch> batches = collector.result.get(5, TimeUnit.SECONDS);
+        assertEquals(3, batches.size());
+        assertEquals(List.of(0.0, 100.0), rounded(batches.get(0)));
+        assertEquals(List.of(-40.0), rounded(batches.get(1)));
+        assertEquals(0, batches.get(2).getDegreesCount());
+    }
+
+    /**
+     * Tests that a stream whose scales change is rejected.
+     */
+    @Test
+    void convertStream_shouldFailWithInvalidArgument_whenScalesChange() {
+
+        Collector collector = new Collector();
+        StreamObserver<BatchRequest> requests = ConversionServiceGrpc.newStub(channel).convertStream(collector);
+        requests.onNext(BatchRequest.newBuilder().setSource(Scale.CELSIUS).setTarget(Scale.KELVIN).build());
+        requests.onNext(BatchRequest.newBuilder().setTarget(Scale.RANKINE).addDegrees(1).build());
+
+        Exception e = assertThrows(Exception.class, () -> collector.result.get(5, TimeUnit.SECONDS));
+        assertEquals(Status.Code.INVALID_ARGUMENT, Status.fromThrowable(e.getCause()).getCode());
+    }
+
+    /**
+     * Tests that the journal batch of a stream is closed when the server rejects a chunk or
+     * the client cancels the call, recording the readings converted until then.
+     *
+     * @param directory the directory of the journal
+     * @throws Exception if the journal cannot be read
+     */
+    @Test
+    void batches_shouldBeJournaled_whenStreamsAborted(@TempDir Path directory) throws Exception {
+
+        AuditJournal journal = new AuditJournal(new AuditProperties(true, directory, DataSize.ofKilobytes(64), 16,
+                AuditDurability.SYNC, Duration.ofMillis(5), AuditBatchCoverage.SUMMARY));
+        journal.start();
+        String name = InProcessServerBuilder.generateName();
+        Server audited = InProcessServerBuilder.forName(name).directExecutor()
+                .addService(new ConversionGrpcService(engine, kernel, metrics, journal, grpcProperties))
+                .build().start();
+        ManagedChannel auditedChannel = InProcessChannelBuilder.forName(name).directExecutor().build();
+        try {
+            Collector rejected = new Collector();
+            StreamObserver<BatchRequest> requests =
+                    ConversionServiceGrpc.newStub(auditedChannel).convertStream(rejected);
+            requests.onNext(BatchRequest.newBuilder().setSource(Scale.CELSIUS).setTarget(Scale.KELVIN)
+                    .addDegrees(1).addDegrees(2).build());
+            requests.onNext(BatchRequest.newBuilder().setTarget(Scale.RANKINE).addDegrees(3).build());
+            assertThrows(Exception.class, () -> rejected.result.get(5, TimeUnit.SECONDS));
+
+            Collector cancelled = new Collector();
+            requests = ConversionServiceGrpc.newStub(auditedChannel).convertBatch(cancelled);
+            requests.onNext(BatchRequest.newBuilder().setSource(Scale.KELVIN).setTarget(Scale.CELSIUS)
+                    .addDegrees(1).addDegrees(2).addDegrees(3).build());
+            requests.onError(Status.CANCELLED.asRuntimeException());
+            assertThrows(Exception.class, () -> cancelled.result.get(5, TimeUnit.SECONDS));
+        } finally {
+            auditedChannel.shutdownNow();
+            audited.shutdownNow();
+            journal.stop();
+        }
+
+        List<AuditRecord> records = new ArrayList<>();
+        AuditJournalReader.forEach(directory, 1, records::add);
+        assertEquals(List.of(AuditRecord.Kind.BATCH, AuditRecord.Kind.BATCH),
+                records.stream().map(AuditRecord::kind).toList());
+        assertEquals(List.of(2, 3), records.stream().map(record -> record.input().intValueExact()).toList());
+    }
+
+    /**
+     * Tests that the service is also served over the network on its own port.
+     */
+    @Test
+    void server_shouldServeConversions_whenCalledOverNetwork() {
+
+        assertTrue(grpcServer.getPort() > 0);
+        ManagedChannel network = Grpc.newChannelBuilderForAddress("127.0.0.1", grpcServer.getPort(),
+                InsecureChannelCredentials.create()).build();
+        try {
+            ConvertResponse response = ConversionServiceGrpc.newBlockingStub(network)
+                    .withDeadlineAfter(5, TimeUnit.SECONDS)
+                    .convert(ConvertRequest.newBuilder()
+                            .setSource(Scale.KELVIN)
+                            .setTarget(Scale.FAHRENHEIT)
+                            .setDecimal("0")
+                            .build());
+            assertEquals("-459.67", response.getDecimal());
+        } finally {
+            network.shutdownNow();
+        }
+    }
+
+    private static List<Double> rounded(Batch batch) {
+        return batch.getDegreesList().stream().map(value -> Math.round(value * 1e6) / 1e6).toList();
+    }
+
+    private static class Collector implements StreamObserver<Batch> {
+        final List<Batch> batches = new ArrayList<>();
+        final CompletableFuture<List<Batch>> result = new CompletableFuture<>();
+
+        @Override
+        public void onNext(Batch batch) {
+            batches.add(batch);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            result.completeExceptionally(t);
+        }
+
+        @Override
+        public void onCompleted() {
+            result.complete(batches);
+        }
+    }
+
+    /* Reads no answer until asked to */
+    private static final class FlowControlledCollector extends Collector
+            implements ClientResponseObserver<BatchRequest, Batch> {
+        ClientCallStreamObserver<BatchRequest> call;
+
+        @Override
+        public void beforeStart(ClientCallStreamObserver<BatchRequest> call) {
+            this.call = call;
+            call.disableAutoRequestWithInitial(0);
+        }
+    }
+
+}
@@ -0,0 +1,290 @@
+package com.gklyphon.termometer.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.gklyphon.termometer.TermometerApplication;
+import com.gklyphon.termometer.codec.ColumnarFormat;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Open-model load test of every conversion endpoint, reporting latency distributions
+ * corrected for coordinated omission.
+ *
+ * <p>The application is started on a random port. Every scenario, one per single-value
+ * endpoint and one per batch format, sends requests on a fixed schedule, one every
+ * {@code 1 / rate} seconds, no matter how long earlier requests take: a slow server does
+ * not slow the clients down, as it would with a fixed number of clients waiting for their
+ * responses. Each request is recorded twice in HdrHistogram distributions:
+ * <ul>
+ * <li>service time, from the moment the request was actually sent</li>
+ * <li>response time, from the moment it was scheduled to be sent, which also counts the
+ * time it would have waited behind a stalled server or a lagging load generator; these
+ * are the coordinated-omission-corrected percentiles</li>
+ * </ul>
+ *
+ * <p>Requests scheduled during the warm-up are sent but not recorded. The report is written
+ * as JSON to {@code load.report} (default {@code target/load-report.json}); besides the
+ * percentiles it holds every response-time histogram in HdrHistogram's compressed,
+ * base64-encoded form, so runs of different releases can be compared in full.
+ *
+ * <p>Tagged {@code load} and therefore excluded from the default build; run it with
+ * {@code ./mvnw -Pload-test test -Dtest=OpenModelLoadTest}. The schedule can be tuned with
+ * the system properties {@code load.rate} and {@code load.batchRate} (requests per second
+ * of each single-value and batch scenario), {@code load.batchSize}, {@code load.duration}
+ * and {@code load.warmup}.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+@Tag("load")
+class OpenModelLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(OpenModelLoadTest.class);
+
+    final double rate = Double.parseDouble(System.getProperty("load.rate", "100"));
+    final double batchRate = Double.parseDouble(System.getProperty("load.batchRate", "10"));
+    final int batchSize = Integer.getInteger("load.batchSize", 1000);
+    final Duration duration = Duration.parse(System.getProperty("load.duration", "PT20S"));
+    final Duration warmup = Duration.parse(System.getProperty("load.warmup", "PT5S"));
+    final Path report = Path.of(System.getProperty("load.report", "target/load-report.json"));
+
+    final String[] endpoints = {
+            "/celsius-to/fahrenheit", "/celsius-to/kelvin",
+            "/fahrenheit-to/celsius", "/fahrenheit-to/kelvin",
+            "/kelvin-to/celsius", "/kelvin-to/fahrenheit"
+    };
+
+    /**
+     * Drives every scenario at its arrival rate, writes the report and verifies every
+     * request succeeded.
+     *
+     * @throws Exception if the application cannot be started or the report cannot be written
+     */
+    @Test
+    void endpoints_shouldServeEveryRequest_whenDrivenAtFixedArrivalRate() throws Exception {
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TermometerApplication.class)
+                .properties("server.port=0")
+                .run();
+             HttpClient client = HttpClient.newBuilder()
+                     .version(HttpClient.Version.HTTP_1_1)
+                     .build()) {
+
+            int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+            List<Scenario> scenarios = scenarios(URI.create("http://localhost:" + port));
+            long start = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(100);
+
+            // Closing the schedulers waits for the last request to be sent, closing the
+            // senders for its response
+            try (ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor()) {
+                try (ExecutorService schedulers = Executors.newVirtualThreadPerTaskExecutor()) {
+                    for (Scenario scenario : scenarios) {
+                        schedulers.execute(() -> schedule(scenario, client, senders, start));
+                    }
+                }
+            }
+
+            Files.createDirectories(report.toAbsolutePath().getParent());
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+                    .writeValue(report.toFile(), report(scenarios));
+            log.info("Open-model load test report written to {}:\n{}", report.toAbsolutePath(),
+                    scenarios.stream().map(Scenario::describe).collect(Collectors.joining("\n")));
+            for (Scenario scenario : scenarios) {
+                assertEquals(0, scenario.errors.get(), scenario.name);
+                assertTrue(scenario.responseTime.getTotalCount() > 0, scenario.name);
+            }
+        }
+    }
+
+    private List<Scenario> scenarios(URI base) {
+        List<Scenario> scenarios = new ArrayList<>();
+        for (String endpoint : endpoints) {
+            URI uri = base.resolve(endpoint + "?degrees=36.6");
+            scenarios.add(new Scenario("GET " + endpoint, rate, () -> HttpRequest.newBuilder(uri).GET().build()));
+        }
+        URI generic = base.resolve("/convert?from=rankine&to=reaumur&degrees=671.67");
+        scenarios.add(new Scenario("GET /convert", rate, () -> HttpRequest.newBuilder(generic).GET().build()));
+
+        String json = IntStream.range(0, batchSize).mapToObj(i -> Double.toString(i * 0.1))
+                .collect(Collectors.joining(",", "[", "]"));
+        String ndjson = IntStream.range(0, batchSize).mapToObj(i -> i * 0.1 + "\n").collect(Collectors.joining());
+        ByteBuffer columnar = ByteBuffer.allocate(ColumnarFormat.HEADER_SIZE + batchSize * Double.BYTES)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        ColumnarFormat.writeHeader(
+                new ColumnarFormat.Header(ColumnarFormat.ValueType.FLOAT64, 0, batchSize), columnar);
+        IntStream.range(0, batchSize).forEach(i -> columnar.putDouble(i * 0.1));
+        byte[] columnarBody = columnar.array();
+
+        URI batch = base.resolve("/celsius-to/kelvin/batch");
+        scenarios.add(new Scenario("POST /celsius-to/kelvin/batch json", batchRate,
+                () -> post(batch, "application/json", json.getBytes(StandardCharsets.US_ASCII))));
+        scenarios.add(new Scenario("POST /celsius-to/kelvin/batch ndjson", batchRate,
+                () -> post(batch, "application/x-ndjson", ndjson.getBytes(StandardCharsets.US_ASCII))));
+        scenarios.add(new Scenario("POST /celsius-to/kelvin/batch columnar", batchRate,
+                () -> post(batch, ColumnarFormat.MEDIA_TYPE_VALUE, columnarBody)));
+        URI genericBatch = base.resolve("/convert/batch?from=kelvin&to=newton");
+        scenarios.add(new Scenario("POST /convert/batch json", batchRate,
+                () -> post(genericBatch, "application/json", json.getBytes(StandardCharsets.US_ASCII))));
+        return scenarios;
+    }
+
+    private static HttpRequest post(URI uri, String contentType, byte[] body) {
+        return HttpRequest.newBuilder(uri)
+                .header("Content-Type", contentType)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                .build();
+    }
+
+    /* Sends every request of a scenario at its scheduled time, each on its own virtual thread */
+    private void schedule(Scenario scenario, HttpClient client, ExecutorService senders, long start) {
+        long interval = Math.round(TimeUnit.SECONDS.toNanos(1) / scenario.rate);
+        long recordFrom = start + warmup.toNanos();
+        long end = recordFrom + duration.toNanos();
+        for (long intended = start; intended < end; intended += interval) {
+            long delay;
+            while ((delay = intended - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(delay);
+            }
+            long scheduled = intended;
+            boolean recorded = intended >= recordFrom;
+            senders.execute(() -> send(scenario, client, scheduled, recorded));
+        }
+    }
+
+    private static void send(Scenario scenario, HttpClient client, long scheduled, boolean recorded) {
+        long sent = System.nanoTime();
+        boolean failed;
+        try {
+            HttpResponse<Void> response = client.send(scenario.request.get(),
+                    HttpResponse.BodyHandlers.discarding());
+            failed = response.statusCode() != 200;
+        } catch (IOException e) {
+            failed = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        long received = System.nanoTime();
+        if (recorded) {
+            if (failed) {
+                scenario.errors.incrementAndGet();
+            }
+            scenario.serviceTime.recordValue(received - sent);
+            scenario.responseTime.recordValue(received - scheduled);
+        }
+    }
+
+    private Map<String, Object> report(List<Scenario> scenarios) {
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("rate", rate);
+        settings.put("batchRate", batchRate);
+        settings.put("batchSize", batchSize);
+        settings.put("duration", duration.toString());
+        settings.put("warmup", warmup.toString());
+        settings.put("processors", Runtime.getRuntime().availableProcessors());
+        settings.put("javaVersion", Runtime.version().toString());
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("timestamp", Instant.now().toString());
+        result.put("settings", settings);
+        result.put("scenarios", scenarios.stream().map(this::report).toList());
+        return result;
+    }
+
+    private Map<String, Object> report(Scenario scenario) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("name", scenario.name);
+        result.put("rate", scenario.rate);
+        result.put("requests", scenario.responseTime.getTotalCount());
+        result.put("errors", scenario.errors.get());
+        result.put("throughput", scenario.responseTime.getTotalCount() / (duration.toNanos() / 1e9));
+        result.put("serviceTimeMillis", percentiles(scenario.serviceTime));
+        result.put("responseTimeMillis", percentiles(scenario.responseTime));
+        ByteBuffer compressed = ByteBuffer.allocate(scenario.responseTime.getNeededByteBufferCapacity());
+        int length = scenario.responseTime.encodeIntoCompressedByteBuffer(compressed);
+        result.put("responseTimeHistogram", Base64.getEncoder().encodeToString(
+                Arrays.copyOf(compressed.array(), length)));
+        return result;
+    }
+
+    private static Map<String, Double> percentiles(Histogram histogram) {
+        Map<String, Double> result = new LinkedHashMap<>();
+        result.put("p50", millis(histogram.getValueAtPercentile(50)));
+        result.put("p90", millis(histogram.getValueAtPercentile(90)));
+        result.put("p99", millis(histogram.getValueAtPercentile(99)));
+        result.put("p99.9", millis(histogram.getValueAtPercentile(99.9)));
+        result.put("p99.99", millis(histogram.getValueAtPercentile(99.99)));
+        result.put("max", millis(histogram.getMaxValue()));
+        result.put("mean", histogram.getMean() / 1e6);
+        return result;
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+
+    private static final class Scenario {
+        final String name;
+        final double rate;
+        final Supplier<HttpRequest> request;
+        // Three significant digits, resized as needed up to the slowest response
+        final Histogram serviceTime = new ConcurrentHistogram(3);
+        final Histogram responseTime = new ConcurrentHistogram(3);
+        final AtomicLong errors = new AtomicLong();
+
+        Scenario(String name, double rate, Supplier<HttpRequest> request) {
+            this.name = name;
+            this.rate = rate;
+            this.request = request;
+        }
+
+        String describe() {
+            return String.format("%-40s n=%-6d errors=%-3d service p99=%.2fms | response p50=%.2fms p99=%.2fms"
+                            + " p99.9=%.2fms max=%.2fms", name, responseTime.getTotalCount(), errors.get(),
+                    millis(serviceTime.getValueAtPercentile(99)), millis(responseTime.getValueAtPercentile(50)),
+                    millis(responseTime.getValueAtPercentile(99)), millis(responseTime.getValueAtPercentile(99.9)),
+                    millis(responseTime.getMaxValue()));
+        }
+    }
+
+}
@@ -0,0 +1,252 @@
+package com.gklyphon.termometer.loadtest;
+
+import com.gklyphon.termometer.TermometerApplication;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Load test comparing the throughput of small single-value conversions over the
+ * connection styles a gateway can use against the {@code http2} profile.
+ *
+ * <ul>
+ * <li>{@code http/1.1 close}: a new connection per request</li>
+ * <li>{@code http/1.1 keep-alive}: a pool of persistent connections, one request at a time
+ * on each</li>
+ * <li>{@code http/1.1 pipelined}: one persistent connection per client, writing
+ * {@code load.pipelineDepth} requests before reading their responses</li>
+ * <li>{@code h2c}: a single cleartext HTTP/2 connection multiplexing every request</li>
+ * </ul>
+ *
+ * <p>Each style runs {@code load.clients} concurrent clients for {@code load.duration},
+ * after a warm-up of the same length, and the requests per second and latency percentiles
+ * are logged.
+ *
+ * <p>Tagged {@code load} and therefore excluded from the default build; run it with
+ * {@code ./mvnw -Pload-test test -Dtest=ProtocolThroughputLoadTest}.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+@Tag("load")
+class ProtocolThroughputLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ProtocolThroughputLoadTest.class);
+
+    private static final String PATH = "/kelvin-to/fahrenheit?degrees=300";
+
+    final int clients = Integer.getInteger("load.clients", 64);
+    final int pipelineDepth = Integer.getInteger("load.pipelineDepth", 8);
+    final Duration duration = Duration.parse(System.getProperty("load.duration", "PT10S"));
+
+    /**
+     * Runs every connection style against the same server and verifies every request
+     * succeeded.
+     *
+     * @throws Exception if the application cannot be started or a client fails
+     */
+    @Test
+    void connectionStyles_shouldServeEveryRequest_whenDrivenConcurrently() throws Exception {
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TermometerApplication.class)
+                .profiles("http2")
+                .properties("server.port=0")
+                .run();
+             HttpClient http11 = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+             HttpClient http2 = HttpClient.newBuilder().version(HttpClient.Version.HTTP_2).build()) {
+
+            int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+            URI uri = URI.create("http://localhost:" + port + PATH);
+            // Upgrade the HTTP/2 connection before the clients share it
+            assertEquals(HttpClient.Version.HTTP_2,
+                    http2.send(HttpRequest.newBuilder(uri).build(), HttpResponse.BodyHandlers.discarding()).version());
+
+            List<Result> results = new ArrayList<>();
+            results.add(run("http/1.1 close", 1, () -> exchange(port, 1, false)));
+            results.add(run("http/1.1 keep-alive", 1, () -> send(http11, uri)));
+            try (Pipeline pipeline = new Pipeline(port)) {
+                results.add(run("http/1.1 pipelined", pipelineDepth, () -> pipeline.exchange(pipelineDepth)));
+            }
+            results.add(run("h2c", 1, () -> send(http2, uri)));
+
+            StringBuilder summary = new StringBuilder();
+            results.forEach(result -> summary.append('\n').append(result.describe(duration)));
+            log.info("Connection style comparison ({} clients, {}):{}", clients, duration, summary);
+            for (Result result : results) {
+                assertEquals(0, result.errors.get(), result.name);
+            }
+        }
+    }
+
+    /* Runs a warm-up and a measured round of the clients, each calling the exchange in a loop */
+    private Result run(String name, int requestsPerExchange, Exchange exchange) throws InterruptedException {
+        round(new Result(name, requestsPerExchange), exchange);
+        Result result = new Result(name, requestsPerExchange);
+        round(result, exchange);
+        return result;
+    }
+
+    private void round(Result result, Exchange exchange) throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clients; i++) {
+                workers.execute(() -> {
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        try {
+                            exchange.run();
+                            result.latencies.recordValue(System.nanoTime() - start);
+                        } catch (IOException | RuntimeException e) {
+                            result.errors.incrementAndGet();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                    }
+                });
+            }
+        }
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+    }
+
+    private static void send(HttpClient client, URI uri) throws IOException, InterruptedException {
+        HttpResponse<Void> response = client.send(HttpRequest.newBuilder(uri).build(),
+                HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != 200) {
+            throw new IOException("Unexpected status " + response.statusCode());
+        }
+    }
+
+    /* Opens a connection, writes the requests, reads their responses and closes it */
+    private static void exchange(int port, int requests, boolean keepAlive) throws IOException {
+        try (Socket socket = new Socket("localhost", port)) {
+            exchange(socket, requests, keepAlive);
+        }
+    }
+
+    private static void exchange(Socket socket, int requests, boolean keepAlive) throws IOException {
+        String request = "GET " + PATH + " HTTP/1.1\r\nHost: localhost\r\n"
+                + (keepAlive ? "" : "Connection: close\r\n") + "\r\n";
+        OutputStream output = socket.getOutputStream();
+        output.write(request.repeat(requests).getBytes(StandardCharsets.US_ASCII));
+        output.flush();
+        InputStream input = socket.getInputStream();
+        for (int i = 0; i < requests; i++) {
+            String head = readHead(input);
+            if (!head.startsWith("HTTP/1.1 200")) {
+                throw new IOException("Unexpected response " + head);
+            }
+            int index = head.toLowerCase(Locale.ROOT).indexOf("content-length:");
+            int end = head.indexOf('\r', index);
+            input.skipNBytes(Integer.parseInt(head.substring(index + 15, end).trim()));
+        }
+    }
+
+    private static String readHead(InputStream input) throws IOException {
+        ByteArrayOutputStream head = new ByteArrayOutputStream(256);
+        int matched = 0;
+        while (matched < 4) {
+            int value = input.read();
+            if (value < 0) {
+                throw new IOException("Connection closed");
+            }
+            head.write(value);
+            matched = value == (matched % 2 == 0 ? '\r' : '\n') ? matched + 1 : value == '\r' ? 1 : 0;
+        }
+        return head.toString(StandardCharsets.US_ASCII);
+    }
+
+    /* One persistent connection per client thread, opened on first use */
+    private static final class Pipeline implements AutoCloseable {
+
+        private final int port;
+        private final List<Socket> sockets = new ArrayList<>();
+        private final ThreadLocal<Socket> socket;
+
+        Pipeline(int port) {
+            this.port = port;
+            this.socket = ThreadLocal.withInitial(this::open);
+        }
+
+        void exchange(int requests) throws IOException {
+            ProtocolThroughputLoadTest.exchange(socket.get(), requests, true);
+        }
+
+        private Socket open() {
+            try {
+                Socket opened = new Socket("localhost", port);
+                synchronized (sockets) {
+                    sockets.add(opened);
+                }
+                return opened;
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            synchronized (sockets) {
+                for (Socket opened : sockets) {
+                    opened.close();
+                }
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface Exchange {
+        void run() throws IOException, InterruptedException;
+    }
+
+    private static final class Result {
+        final String name;
+        final int requestsPerExchange;
+        final Histogram latencies = new ConcurrentHistogram(3);
+        final AtomicLong errors = new AtomicLong();
+
+        Result(String name, int requestsPerExchange) {
+            this.name = name;
+            this.requestsPerExchange = requestsPerExchange;
+        }
+
+        String describe(Duration duration) {
+            double seconds = duration.toNanos() / 1e9;
+            return String.format("%-20s %8.0f requests/s | exchange p50=%.2fms p99=%.2fms p99.9=%.2fms | errors %d",
+                    name, latencies.getTotalCount() * requestsPerExchange / seconds,
+                    latencies.getValueAtPercentile(50) / 1e6, latencies.getValueAtPercentile(99) / 1e6,
+                    latencies.getValueAtPercentile(99.9) / 1e6, errors.get());
+        }
+    }
+
+}
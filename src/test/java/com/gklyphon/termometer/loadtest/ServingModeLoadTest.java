@@ -0,0 +1,228 @@
+package com.gklyphon.termometer.loadtest;
+
+import com.gklyphon.termometer.TermometerApplication;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Load test comparing the tail latency of the platform-thread and virtual-thread
+ * serving modes at high concurrency.
+ *
+ * <p>The application is started twice on a random port, once per mode. Each run drives
+ * the single-value endpoints from many concurrent clients while a group of slow clients
+ * trickles batch uploads, which keep a thread busy for the whole upload. The latency
+ * percentiles of both request kinds are logged for each mode.
+ *
+ * <p>Tagged {@code load} and therefore excluded from the default build; run it with
+ * {@code ./mvnw -Pload-test test}. The scenario can be tuned with the system properties
+ * {@code load.clients}, {@code load.slowUploads}, {@code load.duration} and
+ * {@code load.tomcatThreads}.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+@Tag("load")
+class ServingModeLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ServingModeLoadTest.class);
+
+    final int clients = Integer.getInteger("load.clients", 256);
+    final int slowUploads = Integer.getInteger("load.slowUploads", 32);
+    final Duration duration = Duration.parse(System.getProperty("load.duration", "PT10S"));
+    final int tomcatThreads = Integer.getInteger("load.tomcatThreads", 50);
+
+    final String[] endpoints = {
+            "/celsius-to/fahrenheit", "/celsius-to/kelvin",
+            "/fahrenheit-to/celsius", "/fahrenheit-to/kelvin",
+            "/kelvin-to/celsius", "/kelvin-to/fahrenheit"
+    };
+
+    /**
+     * Runs the scenario in both serving modes and verifies every request succeeded.
+     *
+     * @throws Exception if the application cannot be started or a client fails
+     */
+    @Test
+    void servingModes_shouldServeEveryRequest_whenDrivenAtHighConcurrency() throws Exception {
+
+        Result platform = run(false);
+        Result virtual = run(true);
+
+        log.info("Serving mode comparison ({} clients, {} slow uploads, {}):\n{}\n{}",
+                clients, slowUploads, duration, platform.describe("platform"), virtual.describe("virtual"));
+        assertEquals(0, platform.errors.get());
+        assertEquals(0, virtual.errors.get());
+        assertTrue(virtual.single.size() > 0 && platform.single.size() > 0);
+    }
+
+    private Result run(boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TermometerApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "server.tomcat.threads.max=" + tomcatThreads)
+                .run();
+             ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient client = HttpClient.newBuilder()
+                     .version(HttpClient.Version.HTTP_1_1)
+                     .executor(workers)
+                     .build()) {
+
+            int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+            URI base = URI.create("http://localhost:" + port);
+            Result result = new Result();
+            long deadline = System.nanoTime() + duration.toNanos();
+
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < clients; i++) {
+                String endpoint = endpoints[i % endpoints.length];
+                futures.add(workers.submit(() -> drive(client, deadline, result.single, result,
+                        () -> HttpRequest.newBuilder(base.resolve(endpoint + "?degrees=36.6")).GET().build())));
+            }
+            for (int i = 0; i < slowUploads; i++) {
+                futures.add(workers.submit(() -> drive(client, deadline, result.batch, result,
+                        () -> HttpRequest.newBuilder(base.resolve("/celsius-to/kelvin/batch"))
+                                .header("Content-Type", "application/x-ndjson")
+                                .POST(HttpRequest.BodyPublishers.ofInputStream(SlowReadings::new))
+                                .build())));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            return result;
+        }
+    }
+
+    private void drive(HttpClient client, long deadline, Latencies latencies, Result result,
+                       Supplier<HttpRequest> request) {
+        while (System.nanoTime() < deadline) {
+            long start = System.nanoTime();
+            try {
+                HttpResponse<Void> response = client.send(request.get(), HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() != 200) {
+                    result.errors.incrementAndGet();
+                }
+            } catch (IOException e) {
+                result.errors.incrementAndGet();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            latencies.record(System.nanoTime() - start);
+        }
+    }
+
+    /* Request body that sends twenty readings, pausing between them like a slow sensor gateway */
+    private static final class SlowReadings extends InputStream {
+
+        private final byte[] line = "36.6\n".getBytes(StandardCharsets.US_ASCII);
+        private int remaining = 20;
+        private int position;
+
+        @Override
+        public int read() throws IOException {
+            if (position == line.length) {
+                if (--remaining == 0) {
+                    return -1;
+                }
+                position = 0;
+                try {
+                    Thread.sleep(50);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+            }
+            return line[position++];
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int value = read();
+            if (value < 0) {
+                return -1;
+            }
+            buffer[offset] = (byte) value;
+            return 1;
+        }
+    }
+
+    private static final class Result {
+        final Latencies single = new Latencies();
+        final Latencies batch = new Latencies();
+        final AtomicLong errors = new AtomicLong();
+
+        String describe(String mode) {
+            return String.format("%-8s single %s | batch %s | errors %d",
+                    mode, single.summary(), batch.summary(), errors.get());
+        }
+    }
+
+    private static final class Latencies {
+        private final List<long[]> chunks = new ArrayList<>();
+        private long[] current = new long[4096];
+        private int size;
+
+        synchronized void record(long nanos) {
+            if (size == current.length) {
+                chunks.add(current);
+                current = new long[current.length];
+                size = 0;
+            }
+            current[size++] = nanos;
+        }
+
+        synchronized int size() {
+            return chunks.size() * current.length + size;
+        }
+
+        synchronized String summary() {
+            long[] all = new long[size()];
+            int offset = 0;
+            for (long[] chunk : chunks) {
+                System.arraycopy(chunk, 0, all, offset, chunk.length);
+                offset += chunk.length;
+            }
+            System.arraycopy(current, 0, all, offset, size);
+            Arrays.sort(all);
+            if (all.length == 0) {
+                return "no requests";
+            }
+            return String.format("n=%d p50=%.2fms p99=%.2fms p99.9=%.2fms max=%.2fms", all.length,
+                    percentile(all, 0.50), percentile(all, 0.99), percentile(all, 0.999),
+                    all[all.length - 1] / 1e6);
+        }
+
+        private static double percentile(long[] sorted, double quantile) {
+            return sorted[(int) Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1)] / 1e6;
+        }
+    }
+
+}
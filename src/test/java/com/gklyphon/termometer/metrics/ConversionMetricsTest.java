@@ -0,0 +1,127 @@
+package com.gklyphon.termometer.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for the conversion metrics, verifying that requests are exported on the
+ * Prometheus scrape endpoint with their scale pair, kind and outcome.
+ *
+ * <p>The application is started on a random port and scraped over HTTP, the same way a
+ * Prometheus server would.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureObservability
+class ConversionMetricsTest {
+
+    @Value("${local.server.port}")
+    int port;
+
+    final HttpClient client = HttpClient.newHttpClient();
+
+    /**
+     * Tests that successful and malformed single-value requests are counted separately.
+     *
+     * @throws Exception if an error occurs during the requests
+     */
+    @Test
+    void conversions_shouldBeExportedByOutcome_whenSingleValueEndpointsCalled() throws Exception {
+
+        assertEquals(200, get("/celsius-to/fahrenheit?degrees=100").statusCode());
+        assertEquals(200, get("/celsius-to/fahrenheit?degrees=36.6").statusCode());
+        assertEquals(400, get("/celsius-to/fahrenheit?degrees=warm").statusCode());
+
+        Map<String, Double> samples = scrape();
+
+        assertEquals(2.0, samples.get("termometer_conversions_seconds_count"
+                + "{kind=\"single\",outcome=\"SUCCESS\",source=\"celsius\",target=\"fahrenheit\"}"));
+        assertEquals(1.0, samples.get("termometer_conversions_seconds_count"
+                + "{kind=\"single\",outcome=\"CLIENT_ERROR\",source=\"celsius\",target=\"fahrenheit\"}"));
+        assertTrue(samples.keySet().stream().anyMatch(name ->
+                name.startsWith("termometer_conversions_seconds_bucket{kind=\"single\"")));
+    }
+
+    /**
+     * Tests that batch requests are timed as batches and that their readings are counted.
+     *
+     * @throws Exception if an error occurs during the requests
+     */
+    @Test
+    void conversions_shouldCountReadings_whenBatchEndpointCalled() throws Exception {
+
+        HttpResponse<String> response = client.send(
+                HttpRequest.newBuilder(uri("/kelvin-to/celsius/batch"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString("[0, 273.15, 373.15]"))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, response.statusCode());
+
+        Map<String, Double> samples = scrape();
+
+        assertEquals(1.0, samples.get("termometer_conversions_seconds_count"
+                + "{kind=\"batch\",outcome=\"SUCCESS\",source=\"kelvin\",target=\"celsius\"}"));
+        assertEquals(3.0, samples.get("termometer_conversion_readings_total"
+                + "{source=\"kelvin\",target=\"celsius\"}"));
+    }
+
+    /**
+     * Tests that requests to the generic endpoint are tagged with the scales of their parameters.
+     *
+     * @throws Exception if an error occurs during the requests
+     */
+    @Test
+    void conversions_shouldBeTaggedByParameters_whenGenericEndpointCalled() throws Exception {
+
+        assertEquals(200, get("/convert?from=newton&to=rankine&degrees=33").statusCode());
+        assertEquals(400, get("/convert?from=newton&to=rankine&degrees=hot").statusCode());
+
+        Map<String, Double> samples = scrape();
+
+        assertEquals(1.0, samples.get("termometer_conversions_seconds_count"
+                + "{kind=\"single\",outcome=\"SUCCESS\",source=\"newton\",target=\"rankine\"}"));
+        assertEquals(1.0, samples.get("termometer_conversions_seconds_count"
+                + "{kind=\"single\",outcome=\"CLIENT_ERROR\",source=\"newton\",target=\"rankine\"}"));
+    }
+
+    private HttpResponse<String> get(String path) throws IOException, InterruptedException {
+        return client.send(HttpRequest.newBuilder(uri(path)).GET().build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    /* Stand-in scraper: reads the text exposition format into a map of sample to value */
+    private Map<String, Double> scrape() throws IOException, InterruptedException {
+        HttpResponse<String> response = get("/actuator/prometheus");
+        assertEquals(200, response.statusCode());
+        Map<String, Double> samples = new HashMap<>();
+        response.body().lines()
+                .filter(line -> !line.isBlank() && !line.startsWith("#"))
+                .forEach(line -> {
+                    int separator = line.lastIndexOf(' ');
+                    samples.put(line.substring(0, separator), Double.parseDouble(line.substring(separator + 1)));
+                });
+        return samples;
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+}
@@ -0,0 +1,139 @@
+package com.gklyphon.termometer.profiling;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Test class for the {@link ProfilingEndpoint}, verifying that a recording captured
+ * through the actuator contains the phases of the conversion requests served meanwhile.
+ * The endpoint is exposed here like in the {@code profiling} profile, without moving the
+ * actuator to its own port.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+@SpringBootTest(properties = "management.endpoints.web.exposure.include=health,prometheus,profiling")
+@AutoConfigureMockMvc
+class ProfilingEndpointTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ProfilingEndpoint endpoint;
+
+    @AfterEach
+    void tearDown() {
+        endpoint.discard();
+    }
+
+    /**
+     * Tests a recording of a single-value and a batch conversion, downloaded as a file.
+     *
+     * @throws Exception if an error occurs during the requests or reading the recording
+     */
+    @Test
+    void recording_shouldContainConversionPhases_whenConversionsServedWhileRecording() throws Exception {
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/actuator/profiling")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"duration\": \"30s\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value("RUNNING"))
+                .andExpect(jsonPath("$.duration").value("PT30S"));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/celsius-to/fahrenheit").param("degrees", "36.6"))
+                .andExpect(status().isOk());
+        mockMvc.perform(MockMvcRequestBuilders.get("/convert?from=kelvin&to=rankine").param("degrees", "warm"))
+                .andExpect(status().isBadRequest());
+        MvcResult batch = mockMvc.perform(MockMvcRequestBuilders.post("/convert/batch")
+                        .param("from", "kelvin")
+                        .param("to", "celsius")
+                        .content("0\n273.15\n")
+                        .contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(batch)).andExpect(status().isOk());
+
+        byte[] recording = mockMvc.perform(MockMvcRequestBuilders.delete("/actuator/profiling"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+
+        Path file = Files.createTempFile("profiling-test-", ".jfr");
+        try {
+            Files.write(file, recording);
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> event.getEventType().getName().equals(ConversionPhaseEvent.NAME))
+                    .toList();
+            for (String phase : List.of("binding", "conversion", "serialization")) {
+                assertTrue(events.stream().anyMatch(event -> event.getString("phase").equals(phase)
+                        && event.getString("source").equals("celsius")
+                        && event.getString("target").equals("fahrenheit")
+                        && event.getLong("readings") == 1), phase);
+            }
+            // The handler that threw is recorded up to its conversion, with nothing serialized
+            assertTrue(events.stream().anyMatch(event -> event.getString("phase").equals("conversion")
+                    && event.getString("target").equals("rankine")));
+            assertTrue(events.stream().noneMatch(event -> event.getString("phase").equals("serialization")
+                    && event.getString("target").equals("rankine")));
+            assertTrue(events.stream().anyMatch(event -> event.getString("phase").equals("streaming")
+                    && event.getString("source").equals("kelvin")
+                    && event.getLong("readings") == 2
+                    && event.getLong("inputSize") == 9));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    /**
+     * Tests that only one recording runs at a time and that stopping without one fails.
+     *
+     * @throws Exception if an error occurs during the requests
+     */
+    @Test
+    void recording_shouldBeExclusive_whenStartedTwice() throws Exception {
+
+        mockMvc.perform(MockMvcRequestBuilders.delete("/actuator/profiling"))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/actuator/profiling")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.duration").value("PT5M"));
+        mockMvc.perform(MockMvcRequestBuilders.post("/actuator/profiling")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isConflict());
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/actuator/profiling"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value("RUNNING"));
+        mockMvc.perform(MockMvcRequestBuilders.delete("/actuator/profiling"))
+                .andExpect(status().isOk());
+        assertEquals("NONE", endpoint.status().get("state"));
+    }
+
+}
@@ -0,0 +1,106 @@
+package com.gklyphon.termometer.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for the {@link ClientRateLimiter}, verifying bursts, refills and the bound
+ * on tracked clients.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+class ClientRateLimiterTest {
+
+    static final long SECOND = 1_000_000_000L;
+
+    /**
+     * Tests that a client may send a burst, then one request per refill interval.
+     */
+    @Test
+    void acquire_shouldAllowBurstThenRefillRate() {
+
+        ClientRateLimiter limiter = new ClientRateLimiter(new RateLimitProperties(true, 3, 2, "X-API-Key", Set.of(), 10));
+        long now = 0;
+
+        assertEquals(0, limiter.acquire("a", now));
+        assertEquals(0, limiter.acquire("a", now));
+        assertEquals(0, limiter.acquire("a", now));
+        assertEquals(SECOND / 2, limiter.acquire("a", now));
+        assertEquals(SECOND / 4, limiter.acquire("a", now + SECOND / 4));
+        assertEquals(0, limiter.acquire("a", now + SECOND / 2));
+        assertTrue(limiter.acquire("a", now + SECOND / 2) > 0);
+        assertEquals(0, limiter.acquire("b", now + SECOND / 2));
+    }
+
+    /**
+     * Tests that an idle client gets no more than a full burst back.
+     */
+    @Test
+    void acquire_shouldNotExceedBurst_whenClientIdle() {
+
+        ClientRateLimiter limiter = new ClientRateLimiter(new RateLimitProperties(true, 2, 10, "X-API-Key", Set.of(), 10));
+
+        assertEquals(0, limiter.acquire("a", 0));
+        long later = 60 * SECOND;
+        assertEquals(0, limiter.acquire("a", later));
+        assertEquals(0, limiter.acquire("a", later));
+        assertTrue(limiter.acquire("a", later) > 0);
+    }
+
+    /**
+     * Tests that concurrent requests of one client take exactly the tokens of the bucket.
+     *
+     * @throws Exception if a thread fails
+     */
+    @Test
+    void acquire_shouldAllowExactlyBurst_whenCalledConcurrently() throws Exception {
+
+        ClientRateLimiter limiter = new ClientRateLimiter(
+                new RateLimitProperties(true, 1000, 0.001, "X-API-Key", Set.of(), 10));
+        AtomicInteger allowed = new AtomicInteger();
+        try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+            for (int thread = 0; thread < 4; thread++) {
+                executor.submit(() -> {
+                    for (int i = 0; i < 1000; i++) {
+                        if (limiter.acquire("a", 0) == 0) {
+                            allowed.incrementAndGet();
+                        }
+                    }
+                });
+            }
+        }
+
+        assertEquals(1000, allowed.get());
+    }
+
+    /**
+     * Tests that new clients are rejected while every tracked client is limited, and
+     * admitted once full buckets can be dropped.
+     */
+    @Test
+    void acquire_shouldRejectNewClients_whenTrackedClientsLimited() {
+
+        ClientRateLimiter limiter = new ClientRateLimiter(new RateLimitProperties(true, 1, 1, "X-API-Key", Set.of(), 2));
+        long now = System.nanoTime();
+
+        assertEquals(0, limiter.acquire("a", now));
+        assertEquals(0, limiter.acquire("b", now));
+        assertTrue(limiter.acquire("c", now) > 0);
+        assertEquals(2, limiter.getClientCount());
+
+        long later = now + 2 * SECOND;
+        assertEquals(0, limiter.acquire("c", later));
+        assertEquals(1, limiter.getClientCount());
+    }
+
+}
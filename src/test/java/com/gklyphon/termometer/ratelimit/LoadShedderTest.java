@@ -0,0 +1,57 @@
+package com.gklyphon.termometer.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for the {@link LoadShedder}, verifying when an interval counts as
+ * overloaded and how the overload ends.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+class LoadShedderTest {
+
+    static final long MILLISECOND = 1_000_000L;
+
+    final LoadShedder shedder = new LoadShedder(
+            new LoadSheddingProperties(true, Duration.ofMillis(50), Duration.ofMillis(100)));
+    final long start = System.nanoTime();
+
+    /**
+     * Tests that an interval in which every request was slow overloads the next one, and
+     * that an interval without requests ends the overload.
+     */
+    @Test
+    void isOverloaded_shouldBeTrue_whenEveryRequestOfIntervalSlow() {
+
+        shedder.record(80 * MILLISECOND, start + 10 * MILLISECOND);
+        shedder.record(60 * MILLISECOND, start + 50 * MILLISECOND);
+        assertFalse(shedder.isOverloaded(start + 90 * MILLISECOND));
+
+        assertTrue(shedder.isOverloaded(start + 110 * MILLISECOND));
+        assertTrue(shedder.isOverloaded(start + 200 * MILLISECOND));
+
+        assertFalse(shedder.isOverloaded(start + 220 * MILLISECOND));
+    }
+
+    /**
+     * Tests that a few slow requests do not overload the server while others are fast.
+     */
+    @Test
+    void isOverloaded_shouldBeFalse_whenOneRequestOfIntervalFast() {
+
+        shedder.record(900 * MILLISECOND, start + 10 * MILLISECOND);
+        shedder.record(2 * MILLISECOND, start + 20 * MILLISECOND);
+        shedder.record(700 * MILLISECOND, start + 30 * MILLISECOND);
+
+        assertFalse(shedder.isOverloaded(start + 110 * MILLISECOND));
+    }
+
+}
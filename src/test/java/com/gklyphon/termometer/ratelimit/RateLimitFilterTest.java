@@ -0,0 +1,121 @@
+package com.gklyphon.termometer.ratelimit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Test class for the {@link RateLimitFilter}, verifying that clients over their limit are
+ * rejected on the conversion endpoints only, and that rejections are counted.
+ *
+ * <p>Every test uses its own API key or remote address, so the buckets of the shared
+ * context do not carry over between tests.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+@SpringBootTest(properties = {
+        "termometer.rate-limit.enabled=true",
+        "termometer.rate-limit.burst=2",
+        "termometer.rate-limit.refill-rate=0.1",
+        "termometer.rate-limit.api-keys=noisy,quiet,sensors"})
+@AutoConfigureMockMvc
+class RateLimitFilterTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    MeterRegistry registry;
+
+    /**
+     * Tests that the request after a burst is rejected with 429 and a retry delay, while
+     * another client is still served.
+     *
+     * @throws Exception if an error occurs during the requests
+     */
+    @Test
+    void filter_shouldReturnTooManyRequests_whenBurstExceeded() throws Exception {
+
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/kelvin-to/fahrenheit", "noisy"))
+                    .andExpect(status().isOk());
+        }
+
+        mockMvc.perform(get("/kelvin-to/fahrenheit", "noisy"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "10"))
+                .andExpect(content().contentType(MediaType.APPLICATION_PROBLEM_JSON))
+                .andExpect(jsonPath("$.status").value(429));
+        mockMvc.perform(get("/convert?from=kelvin&to=fahrenheit", "noisy"))
+                .andExpect(status().isTooManyRequests());
+        mockMvc.perform(get("/kelvin-to/fahrenheit", "quiet"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("-459.67"));
+
+        assertTrue(registry.get("termometer.admission").tag("outcome", "limited").counter().count() >= 2);
+    }
+
+    /**
+     * Tests that unknown API keys are ignored, so a client sending a new key with every
+     * request is still limited by its remote address.
+     *
+     * @throws Exception if an error occurs during the requests
+     */
+    @Test
+    void filter_shouldLimitByRemoteAddress_whenApiKeyUnknown() throws Exception {
+
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/kelvin-to/fahrenheit", "random-" + i).with(remoteAddress("192.0.2.1")))
+                    .andExpect(status().isOk());
+        }
+
+        mockMvc.perform(get("/kelvin-to/fahrenheit", "random-2").with(remoteAddress("192.0.2.1")))
+                .andExpect(status().isTooManyRequests());
+        mockMvc.perform(get("/kelvin-to/fahrenheit", "quiet").with(remoteAddress("192.0.2.1")))
+                .andExpect(status().isOk());
+    }
+
+    /**
+     * Tests that routes outside of the conversion controllers are not limited.
+     *
+     * @throws Exception if an error occurs during the requests
+     */
+    @Test
+    void filter_shouldIgnoreRequest_whenNotConversionEndpoint() throws Exception {
+
+        for (int i = 0; i < 4; i++) {
+            mockMvc.perform(get("/sensors/unknown/statistics?window=PT1M", "sensors"))
+                    .andExpect(status().isNotFound());
+        }
+    }
+
+    private static RequestPostProcessor remoteAddress(String address) {
+        return request -> {
+            request.setRemoteAddr(address);
+            return request;
+        };
+    }
+
+    private static MockHttpServletRequestBuilder get(String url, String apiKey) {
+        return MockMvcRequestBuilders.get(url)
+                .param("degrees", "0")
+                .header("X-API-Key", apiKey);
+    }
+
+}
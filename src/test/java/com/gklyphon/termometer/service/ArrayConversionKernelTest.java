@@ -0,0 +1,127 @@
+package com.gklyphon.termometer.service;
+
+import com.gklyphon.termometer.model.TemperatureScale;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for the {@link ArrayConversionKernel}, verifying the vectorized kernel
+ * against the scalar loop.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+class ArrayConversionKernelTest {
+
+    final TemperatureConversionEngine engine =
+            new TemperatureConversionEngine(new ConversionProperties(34, RoundingMode.HALF_EVEN));
+    final ArrayConversionKernel vectorized = new ArrayConversionKernel(new BulkConversionProperties(true));
+    final ArrayConversionKernel scalar = new ArrayConversionKernel(new BulkConversionProperties(false));
+
+    /**
+     * Tests that the tests run with the vector module, so the vectorized kernel is exercised.
+     */
+    @Test
+    void isVectorized_shouldFollowConfiguration_whenVectorModulePresent() {
+
+        assertTrue(vectorized.isVectorized());
+        assertFalse(scalar.isVectorized());
+    }
+
+    /**
+     * Tests every pair of scales with lengths that are not a multiple of the vector size,
+     * allowing the single rounding of the fused multiply-add to differ by one step.
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 7, 64, 1000, 8193})
+    void apply_shouldMatchScalarLoop_whenDoublesGiven(int length) {
+
+        SplittableRandom random = new SplittableRandom(length);
+        for (TemperatureScale source : TemperatureScale.values()) {
+            for (TemperatureScale target : TemperatureScale.values()) {
+                ScaleConversion conversion = engine.conversion(source, target);
+                double[] expected = random.doubles(length, -500, 1500).toArray();
+                double[] actual = expected.clone();
+
+                scalar.apply(conversion, expected, 0, length);
+                vectorized.apply(conversion, actual, 0, length);
+
+                for (int i = 0; i < length; i++) {
+                    assertEquals(expected[i], actual[i], tolerance(expected[i], conversion), source + " to " + target);
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests that the scalar loop is the primitive form of the conversion.
+     */
+    @Test
+    void apply_shouldMatchScaleConversion_whenScalar() {
+
+        ScaleConversion conversion = engine.conversion(TemperatureScale.FAHRENHEIT, TemperatureScale.CELSIUS);
+        double[] values = {-40, 32, 98.6, 212};
+
+        scalar.apply(conversion, values, 0, values.length);
+
+        assertArrayEquals(new double[]{
+                conversion.apply(-40.0), conversion.apply(32.0), conversion.apply(98.6), conversion.apply(212.0)
+        }, values);
+    }
+
+    /**
+     * Tests that only the requested range is converted.
+     */
+    @Test
+    void apply_shouldLeaveOtherReadingsUntouched_whenRangeGiven() {
+
+        ScaleConversion conversion = engine.conversion(TemperatureScale.CELSIUS, TemperatureScale.KELVIN);
+        double[] values = new double[40];
+        Arrays.fill(values, 100);
+
+        vectorized.apply(conversion, values, 3, 37);
+
+        for (int i = 0; i < values.length; i++) {
+            assertEquals(i >= 3 && i < 37 ? 373.15 : 100, values[i], 1e-12);
+        }
+    }
+
+    /**
+     * Tests the single-precision kernel against the scalar loop.
+     */
+    @Test
+    void apply_shouldMatchScalarLoop_whenFloatsGiven() {
+
+        ScaleConversion conversion = engine.conversion(TemperatureScale.CELSIUS, TemperatureScale.FAHRENHEIT);
+        float[] expected = new float[1001];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = i / 10f - 50;
+        }
+        float[] actual = expected.clone();
+
+        scalar.apply(conversion, expected, 0, expected.length);
+        vectorized.apply(conversion, actual, 0, actual.length);
+
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], actual[i], 2 * Math.ulp(Math.abs(expected[i]) + 32f));
+        }
+    }
+
+    /* The scalar loop rounds the product before adding, so results may differ by one ulp of the terms */
+    private static double tolerance(double result, ScaleConversion conversion) {
+        return 2 * Math.ulp(Math.abs(result) + Math.abs(conversion.getOffset()));
+    }
+
+}
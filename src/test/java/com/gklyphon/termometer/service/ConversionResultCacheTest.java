@@ -0,0 +1,81 @@
+package com.gklyphon.termometer.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+
+import static com.gklyphon.termometer.model.TemperatureScale.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test class for the {@link ConversionResultCache}, verifying cached values, their
+ * serialized form and the exported hit and miss counts.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+class ConversionResultCacheTest {
+
+    final TemperatureConversionEngine engine =
+            new TemperatureConversionEngine(new ConversionProperties(34, RoundingMode.HALF_EVEN));
+    final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    /**
+     * Tests that a repeated reading is served from the cache with the JSON bytes Jackson
+     * would have written for the computed value.
+     *
+     * @throws Exception if the value cannot be serialized
+     */
+    @Test
+    void get_shouldReturnCachedResult_whenSameReadingRequestedTwice() throws Exception {
+
+        ConversionResultCache cache = new ConversionResultCache(
+                new ConversionCacheProperties(true, 100), engine, new ObjectMapper(), registry);
+
+        ConversionResultCache.CachedConversion first = cache.get(CELSIUS, FAHRENHEIT, new BigDecimal("36.6"));
+        ConversionResultCache.CachedConversion second = cache.get(CELSIUS, FAHRENHEIT, new BigDecimal("+36.6"));
+
+        assertSame(first, second);
+        assertEquals(new BigDecimal("97.88"), first.value());
+        assertEquals(new ObjectMapper().writeValueAsString(first.value()),
+                new String(first.json(), StandardCharsets.US_ASCII));
+        assertEquals(1.0, registry.get("cache.gets").tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, registry.get("cache.gets").tag("result", "miss").functionCounter().count());
+    }
+
+    /**
+     * Tests that the same reading converted to different scales uses separate entries.
+     */
+    @Test
+    void get_shouldKeepEntriesPerScalePair_whenSameReadingConvertedToDifferentScales() {
+
+        ConversionResultCache cache = new ConversionResultCache(
+                new ConversionCacheProperties(true, 100), engine, new ObjectMapper(), registry);
+
+        assertEquals(new BigDecimal("373.15"), cache.get(CELSIUS, KELVIN, new BigDecimal("100")).value());
+        assertEquals(new BigDecimal("-173.15"), cache.get(KELVIN, CELSIUS, new BigDecimal("100")).value());
+    }
+
+    /**
+     * Tests that a disabled cache refuses lookups.
+     */
+    @Test
+    void get_shouldThrow_whenCacheDisabled() {
+
+        ConversionResultCache cache = new ConversionResultCache(
+                new ConversionCacheProperties(false, 100), engine, new ObjectMapper(), registry);
+
+        assertFalse(cache.isEnabled());
+        assertThrows(IllegalStateException.class, () -> cache.get(CELSIUS, KELVIN, BigDecimal.ONE));
+    }
+
+}
@@ -0,0 +1,117 @@
+package com.gklyphon.termometer.service;
+
+import com.gklyphon.termometer.model.FixedPointValue;
+import com.gklyphon.termometer.model.TemperatureScale;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.SplittableRandom;
+
+import static com.gklyphon.termometer.model.TemperatureScale.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test class for the {@link FixedPointConverter}, verifying that the integer arithmetic
+ * of {@link ScaleConversion#applyScaled} matches the exact conversion rounded half-even.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+class FixedPointConverterTest {
+
+    final TemperatureConversionEngine engine =
+            new TemperatureConversionEngine(new ConversionProperties(34, RoundingMode.HALF_EVEN));
+    final FixedPointConverter converter = new FixedPointConverter(new FixedPointProperties(2), engine);
+
+    /**
+     * Tests readings with a result between two values, which round to the even one.
+     */
+    @ParameterizedTest
+    @CsvSource({
+            "CELSIUS,    FAHRENHEIT, 36.6,   97.88",
+            "CELSIUS,    FAHRENHEIT, 0.025,  32.04",
+            "CELSIUS,    FAHRENHEIT, 0.075,  32.14",
+            "KELVIN,     CELSIUS,    0.005,  -273.14",
+            "KELVIN,     CELSIUS,    0.015,  -273.14",
+            "FAHRENHEIT, CELSIUS,    1,      -17.22",
+            "FAHRENHEIT, CELSIUS,    -459.67, -273.15",
+            "NEWTON,     DELISLE,    +12,    95.45"
+    })
+    void convert_shouldRoundHalfEven_whenReadingGiven(
+            TemperatureScale source, TemperatureScale target, String degrees, String expected) {
+
+        assertEquals(expected, converter.convert(source, target, degrees).toString());
+    }
+
+    /**
+     * Tests random readings with every reading and result scale for every pair of scales.
+     */
+    @Test
+    void applyScaled_shouldMatchExactConversion_forRandomReadings() {
+
+        SplittableRandom random = new SplittableRandom(42);
+        for (TemperatureScale source : TemperatureScale.values()) {
+            for (TemperatureScale target : TemperatureScale.values()) {
+                ScaleConversion conversion = engine.conversion(source, target);
+                for (int scale = 0; scale <= 6; scale++) {
+                    for (int resultScale = 0; resultScale <= 6; resultScale++) {
+                        for (int i = 0; i < 50; i++) {
+                            long unscaled = random.nextLong(-10_000_000L, 10_000_000L);
+                            BigDecimal reading = BigDecimal.valueOf(unscaled, scale);
+                            BigDecimal exact = engine.convert(source, target, reading)
+                                    .setScale(resultScale, RoundingMode.HALF_EVEN);
+                            assertEquals(exact.unscaledValue().longValueExact(),
+                                    conversion.applyScaled(unscaled, scale, resultScale),
+                                    () -> source + " to " + target + " of " + reading);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests that readings too large for the integer arithmetic are rejected.
+     */
+    @Test
+    void convert_shouldThrowArithmeticException_whenConversionOverflows() {
+
+        assertThrows(ArithmeticException.class,
+                () -> converter.convert(CELSIUS, FAHRENHEIT, "9223372036854775807"));
+        assertThrows(ArithmeticException.class,
+                () -> converter.convert(CELSIUS, FAHRENHEIT, "0.0000000000000000001"));
+    }
+
+    /**
+     * Tests the parsing of plain decimal numbers, keeping their scale.
+     */
+    @Test
+    void fixedPointValue_shouldParsePlainDecimal() {
+
+        assertEquals(new FixedPointValue(3660, 2), FixedPointValue.parse("36.60"));
+        assertEquals(new FixedPointValue(-5, 2), FixedPointValue.parse(" -.05 "));
+        assertEquals(new FixedPointValue(12, 0), FixedPointValue.parse("12."));
+        assertEquals(new FixedPointValue(Long.MIN_VALUE, 0), FixedPointValue.parse("-9223372036854775808"));
+        assertThrows(ArithmeticException.class, () -> FixedPointValue.parse("9223372036854775808"));
+    }
+
+    /**
+     * Tests that text other than a plain decimal number is rejected.
+     *
+     * @param text the invalid reading
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"", "-", ".", "warm", "1e3", "1.2.3", "--1"})
+    void fixedPointValue_shouldThrowNumberFormatException_whenTextInvalid(String text) {
+
+        assertThrows(NumberFormatException.class, () -> FixedPointValue.parse(text));
+    }
+
+}
@@ -0,0 +1,97 @@
+package com.gklyphon.termometer.service;
+
+import com.gklyphon.termometer.model.FixedPointValue;
+import com.gklyphon.termometer.model.TemperatureScale;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static com.gklyphon.termometer.model.TemperatureScale.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test class for the {@link LookupTableConverter}, verifying that table reads and the
+ * arithmetic fallback agree.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+class LookupTableConverterTest {
+
+    final TemperatureConversionEngine engine =
+            new TemperatureConversionEngine(new ConversionProperties(34, RoundingMode.HALF_EVEN));
+    final LookupTableConverter converter = new LookupTableConverter(
+            new LookupTableProperties(1, 2, new BigDecimal("-50"), new BigDecimal("150")), engine);
+
+    /**
+     * Tests scaled readings inside and outside the table, and with another resolution.
+     */
+    @ParameterizedTest
+    @CsvSource({
+            "CELSIUS,    FAHRENHEIT, 366,   1, 97.88",
+            "CELSIUS,    KELVIN,     -500,  1, 223.15",
+            "FAHRENHEIT, CELSIUS,    986,   1, 37.00",
+            "FAHRENHEIT, CELSIUS,    0,     1, -17.78",
+            "KELVIN,     FAHRENHEIT, 2731,  1, 31.91",
+            "CELSIUS,    FAHRENHEIT, 10000, 1, 1832.00",
+            "CELSIUS,    FAHRENHEIT, 3660,  2, 97.88",
+            "KELVIN,     CELSIUS,    0,     1, -273.15"
+    })
+    void convert_shouldReturnRoundedResult_whenScaledReadingGiven(
+            TemperatureScale source, TemperatureScale target, long value, int resolution, String expected) {
+
+        assertEquals(expected, converter.convert(source, target, value, resolution).toString());
+    }
+
+    /**
+     * Tests that resolutions outside of the range of a fixed-point value are rejected.
+     */
+    @Test
+    void convert_shouldThrow_whenResolutionOutOfRange() {
+
+        assertThrows(ArithmeticException.class, () -> converter.convert(CELSIUS, KELVIN, 366, -1));
+        assertThrows(ArithmeticException.class, () -> converter.convert(CELSIUS, KELVIN, 366, 19));
+        assertEquals("273.15", converter.convert(CELSIUS, KELVIN, 0, 18).toString());
+    }
+
+    /**
+     * Tests that every entry of every table matches the exact conversion rounded half-even.
+     */
+    @Test
+    void convertScaled_shouldMatchExactConversion_forEveryReadingInRange() {
+
+        for (TemperatureScale source : TemperatureScale.values()) {
+            BigDecimal low = engine.convert(CELSIUS, source, new BigDecimal("-50"));
+            BigDecimal high = engine.convert(CELSIUS, source, new BigDecimal("150"));
+            long first = low.min(high).setScale(1, RoundingMode.FLOOR).unscaledValue().longValueExact();
+            long last = low.max(high).setScale(1, RoundingMode.CEILING).unscaledValue().longValueExact();
+            for (TemperatureScale target : TemperatureScale.values()) {
+                for (long value = first; value <= last; value++) {
+                    BigDecimal exact = engine.convert(source, target, BigDecimal.valueOf(value, 1))
+                            .setScale(2, RoundingMode.HALF_EVEN);
+                    assertEquals(exact.unscaledValue().longValueExact(),
+                            converter.convertScaled(source, target, value));
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests the plain formatting of fixed-point values.
+     */
+    @Test
+    void fixedPointValue_shouldFormatPlainDecimal() {
+
+        assertEquals("-0.05", new FixedPointValue(-5, 2).toString());
+        assertEquals("0.00", new FixedPointValue(0, 2).toString());
+        assertEquals("1832", new FixedPointValue(1832, 0).toString());
+        assertEquals("-273.15", new FixedPointValue(-27315, 2).toString());
+    }
+
+}
@@ -0,0 +1,102 @@
+package com.gklyphon.termometer.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for the {@link ParallelConversionExecutor}, verifying the threshold, the
+ * per-request cap and admission control.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+class ParallelConversionExecutorTest {
+
+    final ParallelConversionExecutor executor = new ParallelConversionExecutor(
+            new ParallelConversionProperties(100_000, 8, 3, 1, Duration.ZERO));
+
+    @AfterEach
+    void tearDown() {
+        executor.destroy();
+    }
+
+    /**
+     * Tests that small batches run on the calling thread without an admission permit.
+     */
+    @Test
+    void lease_shouldBeSequential_whenBatchBelowThreshold() {
+
+        try (ParallelConversionExecutor.Lease first = executor.lease(99_999);
+             ParallelConversionExecutor.Lease second = executor.lease(10)) {
+            Thread caller = Thread.currentThread();
+            first.run(50_000, (from, to) -> {
+                assertEquals(caller, Thread.currentThread());
+                assertEquals(0, from);
+                assertEquals(50_000, to);
+            });
+            assertEquals(1, second.parallelism());
+        }
+    }
+
+    /**
+     * Tests that a parallel lease covers every reading exactly once, on at most the
+     * per-request number of pool threads.
+     */
+    @Test
+    void run_shouldCoverEveryReadingOnce_whenLeaseIsParallel() {
+
+        int length = 1_000_003;
+        AtomicIntegerArray visits = new AtomicIntegerArray(length);
+        AtomicInteger slices = new AtomicInteger();
+        Thread caller = Thread.currentThread();
+
+        try (ParallelConversionExecutor.Lease lease = executor.lease(1_000_000)) {
+            assertEquals(3, lease.parallelism());
+            lease.run(length, (from, to) -> {
+                assertNotEquals(caller, Thread.currentThread());
+                slices.incrementAndGet();
+                for (int i = from; i < to; i++) {
+                    visits.incrementAndGet(i);
+                }
+            });
+        }
+
+        assertEquals(3, slices.get());
+        for (int i = 0; i < length; i++) {
+            assertEquals(1, visits.get(i));
+        }
+    }
+
+    /**
+     * Tests that a large batch is rejected while the only permit is held, and admitted
+     * once it is returned.
+     */
+    @Test
+    void lease_shouldReject_whenNoPermitAvailable() {
+
+        ParallelConversionExecutor.Lease held = executor.lease(200_000);
+
+        ResponseStatusException e = assertThrows(ResponseStatusException.class, () -> executor.lease(200_000));
+        assertEquals(503, e.getStatusCode().value());
+
+        held.close();
+        held.close();
+        try (ParallelConversionExecutor.Lease lease = executor.lease(200_000)) {
+            assertTrue(lease.parallelism() > 1);
+            assertThrows(ResponseStatusException.class, () -> executor.lease(200_000));
+        }
+    }
+
+}
@@ -0,0 +1,77 @@
+package com.gklyphon.termometer.service;
+
+import com.gklyphon.termometer.model.TemperatureScale;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Test class for the {@link TemperatureConversionEngine}, verifying both the exact
+ * and the primitive conversion modes for every pair of scales.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 17-Oct-2026
+ *
+ */
+class TemperatureConversionEngineTest {
+
+    final TemperatureConversionEngine engine =
+            new TemperatureConversionEngine(new ConversionProperties(34, RoundingMode.HALF_EVEN));
+
+    /**
+     * Tests that the exact mode returns the expected decimal for every pair of scales,
+     * keeping the scale of the input whenever the division terminates.
+     */
+    @ParameterizedTest
+    @CsvSource({
+            "CELSIUS,    FAHRENHEIT, 100.0,  212.0",
+            "CELSIUS,    FAHRENHEIT, -40,    -40",
+            "CELSIUS,    KELVIN,     100.0,  373.15",
+            "FAHRENHEIT, CELSIUS,    212,    100",
+            "FAHRENHEIT, CELSIUS,    0,      -17.77777777777777777777777777777778",
+            "FAHRENHEIT, KELVIN,     -459.67, 0.00",
+            "KELVIN,     CELSIUS,    0,      -273.15",
+            "KELVIN,     FAHRENHEIT, 1090.0, 1502.33",
+            "KELVIN,     KELVIN,     12.5,   12.5",
+            "RANKINE,    KELVIN,     491.67, 273.15",
+            "CELSIUS,    DELISLE,    100,    0",
+            "DELISLE,    FAHRENHEIT, 0,      212",
+            "REAUMUR,    CELSIUS,    80,     100",
+            "NEWTON,     CELSIUS,    33,     100",
+            "NEWTON,     DELISLE,    0,      150"
+    })
+    void convert_shouldReturnExactResult_whenBigDecimalGiven(
+            TemperatureScale source, TemperatureScale target, String degrees, String expected) {
+
+        assertEquals(new BigDecimal(expected),
+                engine.convert(source, target, new BigDecimal(degrees)));
+    }
+
+    /**
+     * Tests that the primitive mode agrees with the exact mode for every pair of scales.
+     */
+    @ParameterizedTest
+    @CsvSource({
+            "CELSIUS,    FAHRENHEIT, 36.6",
+            "CELSIUS,    KELVIN,     -12.25",
+            "FAHRENHEIT, CELSIUS,    98.6",
+            "FAHRENHEIT, KELVIN,     451",
+            "KELVIN,     CELSIUS,    310.15",
+            "KELVIN,     FAHRENHEIT, 5778",
+            "RANKINE,    REAUMUR,    600.5",
+            "DELISLE,    NEWTON,     -12.75"
+    })
+    void convert_shouldMatchExactResult_whenDoubleGiven(
+            TemperatureScale source, TemperatureScale target, String degrees) {
+
+        double exact = engine.convert(source, target, new BigDecimal(degrees)).doubleValue();
+
+        assertEquals(exact, engine.convert(source, target, Double.parseDouble(degrees)), 1e-9);
+    }
+
+}